@@ -0,0 +1,30 @@
+-- ddl-auto가 none인 환경(dev, prod)에 배포하기 전에 실행한다.
+-- 엔티티 매핑(SpendingMonthlySummary, Spending, TargetAmount, Notification)과 같은 이름과 컬럼으로 생성한다.
+
+-- 사용자의 년/월별 지출 총액과 지출 건수 (SpendingMonthlySummary)
+-- uk_spending_monthly_summary_user_id_year_month는 필수다.
+-- 초기화 마커의 INSERT IGNORE와 증감 upsert의 ON DUPLICATE KEY UPDATE가 이 unique key로 같은 년/월의 행을 찾는다.
+-- 이 key가 없으면 마커가 중복 생성되고, 모든 쓰기가 사용자의 집계를 다시 계산한다.
+CREATE TABLE spending_monthly_summary
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT      NOT NULL,
+    year           INT         NOT NULL,
+    month          INT         NOT NULL,
+    total_amount   BIGINT      NOT NULL,
+    spending_count BIGINT      NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_spending_monthly_summary_user_id_year_month UNIQUE (user_id, year, month),
+    CONSTRAINT fk_spending_monthly_summary_user_id FOREIGN KEY (user_id) REFERENCES user (id)
+) ENGINE = InnoDB;
+
+-- 년/월 범위 조건으로 지출 내역과 목표 금액을 조회하는 인덱스
+CREATE INDEX idx_spending_user_id_spend_at ON spending (user_id, spend_at);
+CREATE INDEX idx_target_amount_user_id_created_at ON target_amount (user_id, created_at);
+
+-- 공지 알림을 일괄 저장할 때, 같은 날 이미 받은 사용자를 제외하는 인덱스
+CREATE INDEX idx_notification_receiver_type_announcement_created_at ON notification (receiver, type, announcement, created_at);
+
+-- 테이블을 생성한 뒤 spendingMonthlySummaryReconcileJob을 한 번 실행하면, 기존 사용자의 마커와 집계가 생성된다.
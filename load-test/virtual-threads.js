@@ -0,0 +1,61 @@
+import http from 'k6/http';
+import {check} from 'k6';
+
+/*
+ * 플랫폼 스레드와 가상 스레드 모드의 처리량을 비교하기 위한 부하 테스트 스크립트
+ *
+ * 실행 방법은 load-test/README.md 참고
+ */
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'pennyway';
+const PASSWORD = __ENV.PASSWORD || 'pennyway1234';
+const VUS = parseInt(__ENV.VUS || '200');
+const DURATION = __ENV.DURATION || '1m';
+
+export const options = {
+    scenarios: {
+        sign_in: {
+            executor: 'constant-vus',
+            exec: 'signIn',
+            vus: Math.max(1, Math.floor(VUS / 4)),
+            duration: DURATION,
+        },
+        spendings: {
+            executor: 'constant-vus',
+            exec: 'getSpendings',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{scenario:spendings}': ['p(95)<1000'],
+        'http_req_duration{scenario:sign_in}': ['p(95)<2000'],
+    },
+};
+
+function login() {
+    return http.post(`${BASE_URL}/v1/auth/sign-in`, JSON.stringify({username: USERNAME, password: PASSWORD}), {
+        headers: {'Content-Type': 'application/json'},
+    });
+}
+
+export function setup() {
+    const res = login();
+    check(res, {'setup sign-in 200': (r) => r.status === 200});
+
+    return {accessToken: res.headers['Authorization']};
+}
+
+export function signIn() {
+    const res = login();
+    check(res, {'sign-in 200': (r) => r.status === 200});
+}
+
+export function getSpendings(data) {
+    const now = new Date();
+    const res = http.get(`${BASE_URL}/v2/spendings?year=${now.getFullYear()}&month=${now.getMonth() + 1}`, {
+        headers: {Authorization: data.accessToken},
+    });
+    check(res, {'spendings 200': (r) => r.status === 200});
+}
@@ -0,0 +1,60 @@
+package kr.co.pennyway.api.common.security.jwt.access;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import kr.co.pennyway.infra.common.jwt.VerifiedJwt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터가 요청마다 액세스 토큰을 검증하는 비용을 비교한다.
+ * <p>
+ * {@code ./gradlew :pennyway-app-external-api:jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccessTokenVerifyBenchmark {
+    private static final String SECRET = "helloMyNameIsPennywayThisIsSecretKeyItNeedsToBeLongerThan256Bits";
+
+    private AccessTokenProvider accessTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        accessTokenProvider = new AccessTokenProvider(SECRET, Duration.ofHours(1));
+        secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        token = accessTokenProvider.generateToken(AccessTokenClaim.of(1L, "ROLE_USER"));
+    }
+
+    /**
+     * 변경 전 필터의 동작. 만료 여부 검사와 payload 추출에서 각각 파서를 생성하고 서명을 검증한다.
+     */
+    @Benchmark
+    public void legacyFilter(Blackhole blackhole) {
+        Claims expiryClaims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        blackhole.consume(expiryClaims.getExpiration().before(new Date()));
+
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        blackhole.consume(AccessTokenClaim.of(
+                Long.parseLong(claims.get(AccessTokenClaimKeys.USER_ID.getValue(), String.class)),
+                claims.get(AccessTokenClaimKeys.ROLE.getValue(), String.class)
+        ));
+    }
+
+    /**
+     * 변경 후 필터의 동작. 재사용하는 파서로 서명을 한 번만 검증한다.
+     */
+    @Benchmark
+    public VerifiedJwt verifyOnce() {
+        return accessTokenProvider.verify(token);
+    }
+}
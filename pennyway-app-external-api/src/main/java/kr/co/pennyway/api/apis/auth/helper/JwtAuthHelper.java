@@ -64,9 +64,11 @@ public class JwtAuthHelper {
         String role = JwtClaimsParserUtil.getClaimsValue(claims, RefreshTokenClaimKeys.ROLE.getValue(), String.class);
         log.debug("refresh token userId : {}, role : {}", userId, role);
 
+        String generatedRefreshToken = refreshTokenProvider.generateToken(RefreshTokenClaim.of(userId, role));
+
         RefreshToken newRefreshToken;
         try {
-            newRefreshToken = refreshTokenService.refresh(userId, refreshToken, refreshTokenProvider.generateToken(RefreshTokenClaim.of(userId, role)));
+            newRefreshToken = refreshTokenService.refresh(userId, refreshToken, generatedRefreshToken, toSeconds(refreshTokenProvider.getExpiryDate(generatedRefreshToken)));
             log.debug("new refresh token : {}", newRefreshToken.getToken());
         } catch (IllegalArgumentException e) {
             throw new JwtErrorException(JwtErrorCode.EXPIRED_TOKEN);
@@ -97,6 +97,7 @@ public interface SpendingCategoryApi {
             @Parameter(name = "size", description = "페이지 사이즈 (default: 30)", example = "30", in = ParameterIn.QUERY),
             @Parameter(name = "page", description = "페이지 번호 (default: 0)", example = "0", in = ParameterIn.QUERY),
             @Parameter(name = "sort", description = "정렬 기준 (default: 소비내역 내림차순, 식별값 오름차순)", example = "spending.spendAt,DESC&sort=spending.id,ASC", in = ParameterIn.QUERY, allowReserved = true),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor. 전달하면 page 대신 cursor 이후의 지출 내역을 조회합니다. 정렬 기준은 cursor를 발급받은 요청과 같아야 합니다.", in = ParameterIn.QUERY),
             @Parameter(name = "pageable", hidden = true)
     })
     @ApiResponses({
@@ -109,6 +110,7 @@ public interface SpendingCategoryApi {
             @PathVariable(value = "categoryId") Long categoryId,
             @RequestParam(value = "type") SpendingCategoryType type,
             @PageableDefault(size = 30, page = 0) @SortDefault(sort = "spending.spendAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal SecurityUserDetails user
     );
 
@@ -80,13 +80,14 @@ public class SpendingCategoryController implements SpendingCategoryApi {
                     @SortDefault(sort = "spending.spendAt", direction = Sort.Direction.DESC),
                     @SortDefault(sort = "spending.id", direction = Sort.Direction.ASC)
             }) Pageable pageable,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal SecurityUserDetails user
     ) {
         if (type.equals(SpendingCategoryType.DEFAULT) && (categoryId.equals(0L) || categoryId.equals(12L))) {
             throw new SpendingErrorException(SpendingErrorCode.INVALID_TYPE_WITH_CATEGORY_ID);
         }
 
-        return ResponseEntity.ok(SuccessResponse.from("spendings", spendingCategoryUseCase.getSpendingsByCategory(user.getUserId(), categoryId, pageable, type)));
+        return ResponseEntity.ok(SuccessResponse.from("spendings", spendingCategoryUseCase.getSpendingsByCategory(user.getUserId(), categoryId, pageable, cursor, type)));
     }
 
     @Override
@@ -1,6 +1,7 @@
 package kr.co.pennyway.api.apis.ledger.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -26,11 +27,22 @@ public class SpendingSearchRes {
             @Schema(description = "전체 요소 개수")
             int numberOfElements,
             @Schema(description = "다음 페이지 존재 여부")
-            boolean hasNext
+            boolean hasNext,
+            @Schema(description = "다음 페이지 조회에 사용할 cursor. 다음 페이지가 없거나 offset 방식으로 조회한 경우 존재하지 않음")
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            String nextCursor
     ) {
+        public MonthSlice(List<Month> content, int currentPageNumber, int pageSize, int numberOfElements, boolean hasNext) {
+            this(content, currentPageNumber, pageSize, numberOfElements, hasNext, null);
+        }
+
         public static MonthSlice from(List<Month> months, Pageable pageable, int numberOfElements, boolean hasNext) {
             return new MonthSlice(months, pageable.getPageNumber(), pageable.getPageSize(), numberOfElements, hasNext);
         }
+
+        public static MonthSlice from(List<Month> months, Pageable pageable, int numberOfElements, boolean hasNext, String nextCursor) {
+            return new MonthSlice(months, pageable.getPageNumber(), pageable.getPageSize(), numberOfElements, hasNext, nextCursor);
+        }
     }
 
     @Builder
@@ -2,6 +2,7 @@ package kr.co.pennyway.api.apis.ledger.mapper;
 
 import kr.co.pennyway.api.apis.ledger.dto.SpendingSearchRes;
 import kr.co.pennyway.common.annotation.Mapper;
+import kr.co.pennyway.domain.common.repository.CursorSlice;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
 import org.springframework.data.domain.Slice;
 
@@ -15,6 +16,8 @@ import java.util.stream.Collectors;
 public class SpendingMapper {
     /**
      * Slice 객체를 받아 년/월/일 별로 지출 내역을 그룹화 및 정렬화 후 {@link SpendingSearchRes.MonthSlice}로 변환하는 메서드
+     * <br>
+     * {@link CursorSlice}인 경우 다음 cursor를 함께 반환한다.
      */
     public static SpendingSearchRes.MonthSlice toMonthSlice(Slice<Spending> spendings) {
         List<Spending> spendingList = spendings.getContent();
@@ -31,7 +34,9 @@ public class SpendingMapper {
                         .reversed())
                 .toList();
 
-        return SpendingSearchRes.MonthSlice.from(months, spendings.getPageable(), spendings.getNumberOfElements(), spendings.hasNext());
+        String nextCursor = (spendings instanceof CursorSlice<Spending> cursorSlice) ? cursorSlice.getNextCursor() : null;
+
+        return SpendingSearchRes.MonthSlice.from(months, spendings.getPageable(), spendings.getNumberOfElements(), spendings.hasNext(), nextCursor);
     }
 
     /**
@@ -1,6 +1,7 @@
 package kr.co.pennyway.api.apis.ledger.service;
 
 import kr.co.pennyway.api.common.query.SpendingCategoryType;
+import kr.co.pennyway.domain.common.repository.CursorSlice;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
 import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
 import kr.co.pennyway.domain.domains.spending.exception.SpendingErrorCode;
@@ -64,6 +65,23 @@ public class SpendingSearchService {
         return spendingService.readSpendingsSliceByCategory(userId, spendingCategory, pageable);
     }
 
+    /**
+     * 카테고리에 등록된 지출 내역 리스트를 키셋(seek) 방식으로 조회한다.
+     *
+     * @param cursor 이전 조회 결과의 다음 cursor. null이면 첫 번째 Slice를 조회한다.
+     * @return 지출 내역 리스트를 {@link CursorSlice}에 담아서 반환한다.
+     * @see #readSpendingsByCategoryId(Long, Long, Pageable, SpendingCategoryType)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<Spending> readSpendingsByCategoryId(Long userId, Long categoryId, String cursor, Pageable pageable, SpendingCategoryType type) {
+        if (type.equals(SpendingCategoryType.CUSTOM)) {
+            return spendingService.readSpendingsSliceByCategoryId(userId, categoryId, cursor, pageable);
+        }
+
+        SpendingCategory spendingCategory = SpendingCategory.fromCode(categoryId.toString());
+        return spendingService.readSpendingsSliceByCategory(userId, spendingCategory, cursor, pageable);
+    }
+
     @Transactional(readOnly = true)
     public Optional<TotalSpendingAmount> readTotalSpendingAmountByUserIdThatMonth(Long userId, LocalDate date) {
         return spendingService.readTotalSpendingAmountByUserId(userId, date);
@@ -15,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -31,7 +33,11 @@ public class SpendingUpdateService {
                 ? spendingCustomCategoryService.readSpendingCustomCategory(request.categoryId()).orElseThrow(() -> new SpendingErrorException(SpendingErrorCode.NOT_FOUND_CUSTOM_CATEGORY))
                 : null;
 
+        int beforeAmount = spending.getAmount();
+        LocalDateTime beforeSpendAt = spending.getSpendAt();
+
         spending.update(request.amount(), request.icon(), request.spendAt().atStartOfDay(), request.accountName(), request.memo(), customCategory);
+        spendingService.updateMonthlySummary(beforeAmount, beforeSpendAt, spending);
 
         return spending;
     }
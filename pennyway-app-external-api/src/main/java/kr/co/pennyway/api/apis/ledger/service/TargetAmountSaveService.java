@@ -23,7 +23,7 @@ public class TargetAmountSaveService {
     private final UserService userService;
     private final TargetAmountService targetAmountService;
 
-    @DistributedLock(key = "#key.concat(#userId).concat('_').concat(#date.getYear()).concat('-').concat(#date.getMonthValue())")
+    @DistributedLock(key = "#key.concat(#userId).concat('_').concat(#date.getYear()).concat('-').concat(#date.getMonthValue())", failFast = true, leaseTime = DistributedLock.WATCHDOG)
     public TargetAmount createTargetAmount(String key, Long userId, LocalDate date) {
         User user = userService.readUser(userId).orElseThrow(() -> new UserErrorException(UserErrorCode.NOT_FOUND));
 
@@ -53,9 +53,16 @@ public class SpendingCategoryUseCase {
         return spendingSearchService.readSpendingTotalCountByCategoryId(userId, categoryId, type);
     }
 
+    /**
+     * 카테고리에 등록된 지출 내역 리스트를 조회한다.
+     * <br>
+     * cursor가 존재하거나 첫 번째 페이지를 조회하는 경우 키셋(seek) 방식으로 조회하며, 그 외에는 offset 방식으로 조회한다.
+     */
     @Transactional(readOnly = true)
-    public SpendingSearchRes.MonthSlice getSpendingsByCategory(Long userId, Long categoryId, Pageable pageable, SpendingCategoryType type) {
-        Slice<Spending> spendings = spendingSearchService.readSpendingsByCategoryId(userId, categoryId, pageable, type);
+    public SpendingSearchRes.MonthSlice getSpendingsByCategory(Long userId, Long categoryId, Pageable pageable, String cursor, SpendingCategoryType type) {
+        Slice<Spending> spendings = (cursor != null || pageable.getPageNumber() == 0)
+                ? spendingSearchService.readSpendingsByCategoryId(userId, categoryId, cursor, pageable, type)
+                : spendingSearchService.readSpendingsByCategoryId(userId, categoryId, pageable, type);
 
         return SpendingMapper.toMonthSlice(spendings);
     }
@@ -19,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "[알림 API]")
 public interface NotificationApi {
@@ -54,10 +55,19 @@ public interface NotificationApi {
                                     type = "string"
                             )
                     )
+            ),
+            @Parameter(
+                    in = ParameterIn.QUERY,
+                    description = "이전 응답의 nextCursor. 전달하면 page 대신 cursor 이후의 알림을 조회합니다. 정렬 기준은 cursor를 발급받은 요청과 같아야 합니다.",
+                    name = "cursor",
+                    schema = @Schema(
+                            type = "string"
+                    )
             ), @Parameter(name = "pageable", hidden = true)})
     @ApiResponse(responseCode = "200", description = "알림 목록 조회 성공", content = @Content(schemaProperties = @SchemaProperty(name = "notifications", schema = @Schema(implementation = NotificationDto.SliceRes.class))))
     ResponseEntity<?> getNotifications(
             @PageableDefault(page = 0, size = 30) @SortDefault(sort = "notification.createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal SecurityUserDetails user
     );
 
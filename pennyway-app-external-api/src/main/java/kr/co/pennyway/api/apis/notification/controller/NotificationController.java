@@ -32,9 +32,10 @@ public class NotificationController implements NotificationApi {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getNotifications(
             @PageableDefault(page = 0, size = 30) @SortDefault(sort = "notification.createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal SecurityUserDetails user
     ) {
-        return ResponseEntity.ok(SuccessResponse.from(NOTIFICATIONS, notificationUseCase.getNotifications(user.getUserId(), pageable)));
+        return ResponseEntity.ok(SuccessResponse.from(NOTIFICATIONS, notificationUseCase.getNotifications(user.getUserId(), pageable, cursor)));
     }
 
     @Override
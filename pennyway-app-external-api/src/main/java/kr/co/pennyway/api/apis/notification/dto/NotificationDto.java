@@ -34,10 +34,17 @@ public class NotificationDto {
             @Schema(description = "전체 요소 개수")
             int numberOfElements,
             @Schema(description = "다음 페이지 존재 여부")
-            boolean hasNext
+            boolean hasNext,
+            @Schema(description = "다음 페이지 조회에 사용할 cursor. 다음 페이지가 없거나 offset 방식으로 조회한 경우 존재하지 않음")
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            String nextCursor
     ) {
         public static SliceRes from(List<Info> notifications, Pageable pageable, int numberOfElements, boolean hasNext) {
-            return new SliceRes(notifications, pageable.getPageNumber(), pageable.getPageSize(), numberOfElements, hasNext);
+            return new SliceRes(notifications, pageable.getPageNumber(), pageable.getPageSize(), numberOfElements, hasNext, null);
+        }
+
+        public static SliceRes from(List<Info> notifications, Pageable pageable, int numberOfElements, boolean hasNext, String nextCursor) {
+            return new SliceRes(notifications, pageable.getPageNumber(), pageable.getPageSize(), numberOfElements, hasNext, nextCursor);
         }
     }
 
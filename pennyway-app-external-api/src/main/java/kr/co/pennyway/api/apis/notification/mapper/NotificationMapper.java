@@ -2,6 +2,7 @@ package kr.co.pennyway.api.apis.notification.mapper;
 
 import kr.co.pennyway.api.apis.notification.dto.NotificationDto;
 import kr.co.pennyway.common.annotation.Mapper;
+import kr.co.pennyway.domain.common.repository.CursorSlice;
 import kr.co.pennyway.domain.domains.notification.domain.Notification;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -12,13 +13,15 @@ import org.springframework.data.domain.Slice;
 public class NotificationMapper {
     /**
      * Slice<Notification> 타입을 무한 스크롤 응답 형태로 변환한다.
+     * {@link CursorSlice}인 경우 다음 cursor를 함께 반환한다.
      */
     public static NotificationDto.SliceRes toSliceRes(Slice<Notification> notifications, Pageable pageable) {
         return NotificationDto.SliceRes.from(
                 notifications.getContent().stream().map(NotificationDto.Info::from).toList(),
                 pageable,
                 notifications.getNumberOfElements(),
-                notifications.hasNext()
+                notifications.hasNext(),
+                (notifications instanceof CursorSlice<Notification> cursorSlice) ? cursorSlice.getNextCursor() : null
         );
     }
 }
@@ -1,5 +1,6 @@
 package kr.co.pennyway.api.apis.notification.service;
 
+import kr.co.pennyway.domain.common.repository.CursorSlice;
 import kr.co.pennyway.domain.domains.notification.domain.Notification;
 import kr.co.pennyway.domain.domains.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,11 @@ public class NotificationSearchService {
         return notificationService.readNotificationsSlice(userId, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorSlice<Notification> getNotifications(Long userId, String cursor, Pageable pageable) {
+        return notificationService.readNotificationsSlice(userId, cursor, pageable);
+    }
+
     @Transactional(readOnly = true)
     public boolean isExistsUnreadNotification(Long userId) {
         return notificationService.isExistsUnreadNotification(userId);
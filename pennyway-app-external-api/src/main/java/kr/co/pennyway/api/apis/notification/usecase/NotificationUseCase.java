@@ -20,8 +20,15 @@ public class NotificationUseCase {
     private final NotificationSearchService notificationSearchService;
     private final NotificationSaveService notificationSaveService;
 
-    public NotificationDto.SliceRes getNotifications(Long userId, Pageable pageable) {
-        Slice<Notification> notifications = notificationSearchService.getNotifications(userId, pageable);
+    /**
+     * 사용자의 알림 목록을 조회한다.
+     * <br>
+     * cursor가 존재하거나 첫 번째 페이지를 조회하는 경우 키셋(seek) 방식으로 조회하며, 그 외에는 offset 방식으로 조회한다.
+     */
+    public NotificationDto.SliceRes getNotifications(Long userId, Pageable pageable, String cursor) {
+        Slice<Notification> notifications = (cursor != null || pageable.getPageNumber() == 0)
+                ? notificationSearchService.getNotifications(userId, cursor, pageable)
+                : notificationSearchService.getNotifications(userId, pageable);
 
         return NotificationMapper.toSliceRes(notifications, pageable);
     }
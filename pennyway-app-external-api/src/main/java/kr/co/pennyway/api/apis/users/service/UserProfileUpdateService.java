@@ -12,6 +12,7 @@ import kr.co.pennyway.domain.domains.user.service.UserService;
 import kr.co.pennyway.infra.client.aws.s3.AwsS3Provider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +34,7 @@ public class UserProfileUpdateService {
     }
 
     @Transactional
+    @CacheEvict(value = "securityUser", key = "#userId", cacheManager = "securityUserCacheManager")
     public void updateUsername(Long userId, String newUsername) {
         User user = readUserOrThrow(userId);
 
@@ -4,12 +4,13 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kr.co.pennyway.api.common.security.jwt.JwtClaimsParserUtil;
 import kr.co.pennyway.api.common.security.jwt.access.AccessTokenClaimKeys;
 import kr.co.pennyway.domain.common.redis.forbidden.ForbiddenTokenService;
 import kr.co.pennyway.infra.common.exception.JwtErrorCode;
 import kr.co.pennyway.infra.common.exception.JwtErrorException;
-import kr.co.pennyway.infra.common.jwt.JwtClaims;
 import kr.co.pennyway.infra.common.jwt.JwtProvider;
+import kr.co.pennyway.infra.common.jwt.VerifiedJwt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -27,7 +28,8 @@ import java.io.IOException;
 /**
  * JWT 인증 필터 <br/>
  * 만약, 유효한 액세스 토큰과 리프레시 토큰이 모두 없다면 익명 사용자로 간주한다. <br/>
- * 인증된 유저는 SecurityContextHolder에 SecurityUser를 등록하며, Controller에서 @AuthenticationPrincipal 어노테이션을 통해 접근할 수 있다.
+ * 인증된 유저는 SecurityContextHolder에 SecurityUser를 등록하며, Controller에서 @AuthenticationPrincipal 어노테이션을 통해 접근할 수 있다. <br/>
+ * 액세스 토큰은 요청당 한 번만 검증하며, 검증 결과({@link VerifiedJwt})는 {@link VerifiedJwt#REQUEST_ATTRIBUTE} 요청 속성으로 전달한다.
  *
  * <pre>
  * {@code
@@ -56,7 +58,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String accessToken = resolveAccessToken(request, response);
+        VerifiedJwt accessToken = resolveAccessToken(request, response);
+        request.setAttribute(VerifiedJwt.REQUEST_ATTRIBUTE, accessToken);
 
         UserDetails userDetails = getUserDetails(accessToken);
         authenticateUser(userDetails, request);
@@ -75,7 +78,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * @throws ServletException : Authorization 헤더가 없거나, 금지된 토큰이거나, 토큰이 만료된 경우 예외 발생
      */
-    private String resolveAccessToken(HttpServletRequest request, HttpServletResponse response) throws ServletException {
+    private VerifiedJwt resolveAccessToken(HttpServletRequest request, HttpServletResponse response) throws ServletException {
         String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 
         String token = accessTokenProvider.resolveToken(authHeader);
@@ -88,19 +91,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             handleAuthException(JwtErrorCode.FORBIDDEN_ACCESS_TOKEN);
         }
 
-        if (accessTokenProvider.isTokenExpired(token)) {
-            handleAuthException(JwtErrorCode.EXPIRED_TOKEN);
+        try {
+            return accessTokenProvider.verify(token);
+        } catch (JwtErrorException e) {
+            if (JwtErrorCode.EXPIRED_TOKEN.equals(e.getErrorCode())) {
+                handleAuthException(JwtErrorCode.EXPIRED_TOKEN);
+            }
+            throw e;
         }
-
-        return token;
     }
 
     /**
      * UserDetailsService를 통해 SecurityUser를 가져오는 메서드
      */
-    private UserDetails getUserDetails(String accessToken) {
-        JwtClaims claims = accessTokenProvider.getJwtClaimsFromToken(accessToken);
-        String userId = (String) claims.getClaims().get(AccessTokenClaimKeys.USER_ID.getValue());
+    private UserDetails getUserDetails(VerifiedJwt accessToken) {
+        String userId = JwtClaimsParserUtil.getClaimsValue(accessToken.claims(), AccessTokenClaimKeys.USER_ID.getValue(), String.class);
         log.debug("User ID: {}", userId);
 
         return userDetailService.loadUserByUsername(userId);
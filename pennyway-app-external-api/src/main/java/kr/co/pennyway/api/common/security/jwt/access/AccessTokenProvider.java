@@ -2,6 +2,7 @@ package kr.co.pennyway.api.common.security.jwt.access;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import kr.co.pennyway.api.common.annotation.AccessTokenStrategy;
@@ -10,6 +11,7 @@ import kr.co.pennyway.infra.common.exception.JwtErrorCode;
 import kr.co.pennyway.infra.common.exception.JwtErrorException;
 import kr.co.pennyway.infra.common.jwt.JwtClaims;
 import kr.co.pennyway.infra.common.jwt.JwtProvider;
+import kr.co.pennyway.infra.common.jwt.VerifiedJwt;
 import kr.co.pennyway.infra.common.util.JwtErrorCodeUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,6 +35,7 @@ import static kr.co.pennyway.api.common.security.jwt.access.AccessTokenClaimKeys
 public class AccessTokenProvider implements JwtProvider {
     private final SecretKey secretKey;
     private final Duration tokenExpiration;
+    private final JwtParser jwtParser;
 
     public AccessTokenProvider(
             @Value("${jwt.secret-key.access-token}") String jwtSecretKey,
@@ -41,6 +44,7 @@ public class AccessTokenProvider implements JwtProvider {
         final byte[] secretKeyBytes = Base64.getDecoder().decode(jwtSecretKey);
         this.secretKey = Keys.hmacShaKeyFor(secretKeyBytes);
         this.tokenExpiration = tokenExpiration;
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     @Override
@@ -57,8 +61,13 @@ public class AccessTokenProvider implements JwtProvider {
 
     @Override
     public JwtClaims getJwtClaimsFromToken(String token) {
+        return toJwtClaims(getClaimsFromToken(token));
+    }
+
+    @Override
+    public VerifiedJwt verify(String token) {
         Claims claims = getClaimsFromToken(token);
-        return AccessTokenClaim.of(Long.parseLong(claims.get(USER_ID.getValue(), String.class)), claims.get(ROLE.getValue(), String.class));
+        return new VerifiedJwt(token, toJwtClaims(claims), DateUtil.toLocalDateTime(claims.getExpiration()));
     }
 
     @Override
@@ -81,11 +90,7 @@ public class AccessTokenProvider implements JwtProvider {
     @Override
     public Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             final JwtErrorCode errorCode = JwtErrorCodeUtil.determineErrorCode(e, JwtErrorCode.FAILED_AUTHENTICATION);
 
@@ -94,6 +99,10 @@ public class AccessTokenProvider implements JwtProvider {
         }
     }
 
+    private JwtClaims toJwtClaims(Claims claims) {
+        return AccessTokenClaim.of(Long.parseLong(claims.get(USER_ID.getValue(), String.class)), claims.get(ROLE.getValue(), String.class));
+    }
+
     private Map<String, Object> createHeader() {
         return Map.of("typ", "JWT",
                 "alg", "HS256",
@@ -2,6 +2,7 @@ package kr.co.pennyway.api.common.security.jwt.refresh;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import kr.co.pennyway.api.common.annotation.RefreshTokenStrategy;
@@ -11,6 +12,7 @@ import kr.co.pennyway.infra.common.exception.JwtErrorCode;
 import kr.co.pennyway.infra.common.exception.JwtErrorException;
 import kr.co.pennyway.infra.common.jwt.JwtClaims;
 import kr.co.pennyway.infra.common.jwt.JwtProvider;
+import kr.co.pennyway.infra.common.jwt.VerifiedJwt;
 import kr.co.pennyway.infra.common.util.JwtErrorCodeUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +34,7 @@ import static kr.co.pennyway.api.common.security.jwt.refresh.RefreshTokenClaimKe
 public class RefreshTokenProvider implements JwtProvider {
     private final SecretKey secretKey;
     private final Duration tokenExpiration;
+    private final JwtParser jwtParser;
 
     public RefreshTokenProvider(
             @Value("${jwt.secret-key.refresh-token}") String jwtSecretKey,
@@ -40,6 +43,7 @@ public class RefreshTokenProvider implements JwtProvider {
         final byte[] secretKeyBytes = Base64.getDecoder().decode(jwtSecretKey);
         this.secretKey = Keys.hmacShaKeyFor(secretKeyBytes);
         this.tokenExpiration = tokenExpiration;
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     @Override
@@ -56,8 +60,13 @@ public class RefreshTokenProvider implements JwtProvider {
 
     @Override
     public JwtClaims getJwtClaimsFromToken(String token) {
+        return toJwtClaims(getClaimsFromToken(token));
+    }
+
+    @Override
+    public VerifiedJwt verify(String token) {
         Claims claims = getClaimsFromToken(token);
-        return AccessTokenClaim.of(Long.parseLong(claims.get(USER_ID.getValue(), String.class)), claims.get(ROLE.getValue(), String.class));
+        return new VerifiedJwt(token, toJwtClaims(claims), DateUtil.toLocalDateTime(claims.getExpiration()));
     }
 
     @Override
@@ -80,11 +89,7 @@ public class RefreshTokenProvider implements JwtProvider {
     @Override
     public Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             final JwtErrorCode errorCode = JwtErrorCodeUtil.determineErrorCode(e, JwtErrorCode.FAILED_AUTHENTICATION);
 
@@ -93,6 +98,10 @@ public class RefreshTokenProvider implements JwtProvider {
         }
     }
 
+    private JwtClaims toJwtClaims(Claims claims) {
+        return AccessTokenClaim.of(Long.parseLong(claims.get(USER_ID.getValue(), String.class)), claims.get(ROLE.getValue(), String.class));
+    }
+
     private Map<String, Object> createHeader() {
         return Map.of("typ", "JWT",
                 "alg", "HS256",
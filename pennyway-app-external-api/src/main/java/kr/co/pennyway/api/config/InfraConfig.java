@@ -1,5 +1,7 @@
 package kr.co.pennyway.api.config;
 
+import kr.co.pennyway.domain.domains.device.service.DeviceTokenService;
+import kr.co.pennyway.infra.client.google.fcm.DeviceTokenPruner;
 import kr.co.pennyway.infra.common.importer.EnablePennywayInfraConfig;
 import kr.co.pennyway.infra.common.importer.PennywayInfraConfigGroup;
 import kr.co.pennyway.infra.common.properties.AppleOidcProperties;
@@ -7,6 +9,7 @@ import kr.co.pennyway.infra.common.properties.GoogleOidcProperties;
 import kr.co.pennyway.infra.common.properties.KakaoOidcProperties;
 import kr.co.pennyway.infra.common.properties.ServerProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -20,4 +23,11 @@ import org.springframework.context.annotation.Configuration;
         PennywayInfraConfigGroup.FCM
 })
 public class InfraConfig {
+    /**
+     * API 서버에서 발송한 푸시 알림에 대해 FCM이 유효하지 않다고 응답한 디바이스 토큰을 비활성화한다.
+     */
+    @Bean
+    public DeviceTokenPruner deviceTokenPruner(DeviceTokenService deviceTokenService) {
+        return deviceTokenService::deactivateDevicesByTokens;
+    }
 }
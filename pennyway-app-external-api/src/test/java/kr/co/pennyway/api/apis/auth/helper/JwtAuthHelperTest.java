@@ -26,16 +26,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.util.AssertionErrors.assertEquals;
-import static org.springframework.test.util.AssertionErrors.assertFalse;
+import static org.springframework.test.util.AssertionErrors.assertNull;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
 @DataRedisTest(properties = "spring.config.location=classpath:application-domain.yml")
-@ContextConfiguration(classes = {RedisConfig.class, JwtAuthHelper.class, RefreshTokenServiceImpl.class})
+@ContextConfiguration(classes = {RedisConfig.class, JwtAuthHelper.class, RefreshTokenServiceImpl.class, RefreshTokenRepository.class})
 @ActiveProfiles("test")
 public class JwtAuthHelperTest extends ExternalApiDBTestConfig {
     @Autowired
@@ -68,6 +70,7 @@ public class JwtAuthHelperTest extends ExternalApiDBTestConfig {
         given(refreshTokenProvider.getJwtClaimsFromToken(refreshToken.getToken())).willReturn(RefreshTokenClaim.of(refreshToken.getUserId(), Role.USER.getType()));
         given(accessTokenProvider.generateToken(any())).willReturn("newAccessToken");
         given(refreshTokenProvider.generateToken(any())).willReturn("newRefreshToken");
+        given(refreshTokenProvider.getExpiryDate("newRefreshToken")).willReturn(LocalDateTime.now().plusDays(1));
 
         // when
         Pair<Long, Jwts> jwts = jwtAuthHelper.refresh(refreshToken.getToken());
@@ -76,7 +79,7 @@ public class JwtAuthHelperTest extends ExternalApiDBTestConfig {
         assertEquals("사용자 아이디가 일치하지 않습니다.", refreshToken.getUserId(), jwts.getLeft());
         assertEquals("갱신된 액세스 토큰이 일치하지 않습니다.", "newAccessToken", jwts.getRight().accessToken());
         assertEquals("리프레시 토큰이 갱신되지 않았습니다.", "newRefreshToken", jwts.getRight().refreshToken());
-        log.info("갱신된 리프레시 토큰 정보 : {}", refreshTokenRepository.findById(refreshToken.getUserId()).orElse(null));
+        assertEquals("저장된 리프레시 토큰이 갱신되지 않았습니다.", "newRefreshToken", refreshTokenRepository.findTokenById(refreshToken.getUserId()));
     }
 
     @Test
@@ -92,12 +95,13 @@ public class JwtAuthHelperTest extends ExternalApiDBTestConfig {
 
         given(refreshTokenProvider.getJwtClaimsFromToken("anotherRefreshToken")).willReturn(RefreshTokenClaim.of(refreshToken.getUserId(), Role.USER.toString()));
         given(refreshTokenProvider.generateToken(any())).willReturn("newRefreshToken");
+        given(refreshTokenProvider.getExpiryDate("newRefreshToken")).willReturn(LocalDateTime.now().plusDays(1));
 
         // when
         JwtErrorException jwtErrorException = assertThrows(JwtErrorException.class, () -> jwtAuthHelper.refresh("anotherRefreshToken"));
 
         // then
         assertEquals("탈취 시나리오 예외가 발생하지 않았습니다.", JwtErrorCode.TAKEN_AWAY_TOKEN, jwtErrorException.getErrorCode());
-        assertFalse("리프레시 토큰이 삭제되지 않았습니다.", refreshTokenRepository.existsById(refreshToken.getUserId()));
+        assertNull("리프레시 토큰이 삭제되지 않았습니다.", refreshTokenRepository.findTokenById(refreshToken.getUserId()));
     }
 }
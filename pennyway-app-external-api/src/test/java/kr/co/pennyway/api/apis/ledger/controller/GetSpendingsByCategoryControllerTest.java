@@ -52,7 +52,7 @@ public class GetSpendingsByCategoryControllerTest {
     @DisplayName("default, custom 타입은 올바르게 조회된다.")
     @WithSecurityMockUser
     void getSpendingsByCategory() throws Exception {
-        given(spendingCategoryUseCase.getSpendingsByCategory(any(), any(), any(), any())).willReturn(new SpendingSearchRes.MonthSlice(new ArrayList<>(), 0, 0, 0, false));
+        given(spendingCategoryUseCase.getSpendingsByCategory(any(), any(), any(), any(), any())).willReturn(new SpendingSearchRes.MonthSlice(new ArrayList<>(), 0, 0, 0, false));
 
         performGetSpendingsByCategory(1L, SpendingCategoryType.DEFAULT.name())
                 .andDo(print())
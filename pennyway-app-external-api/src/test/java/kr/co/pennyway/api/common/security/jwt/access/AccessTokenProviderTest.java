@@ -4,6 +4,7 @@ import kr.co.pennyway.infra.common.exception.JwtErrorCode;
 import kr.co.pennyway.infra.common.exception.JwtErrorException;
 import kr.co.pennyway.infra.common.jwt.JwtClaims;
 import kr.co.pennyway.infra.common.jwt.JwtProvider;
+import kr.co.pennyway.infra.common.jwt.VerifiedJwt;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -90,6 +91,36 @@ public class AccessTokenProviderTest {
         assertTrue(jwtProvider.isTokenExpired(token));
     }
 
+    @Test
+    @DisplayName("토큰을 한 번 검증하여 payload와 만료일을 함께 반환한다.")
+    public void verify() {
+        // given
+        String token = jwtProvider.generateToken(jwtClaims);
+
+        // when
+        VerifiedJwt verifiedJwt = jwtProvider.verify(token);
+
+        // then
+        assertEquals(token, verifiedJwt.token());
+        assertEquals("1", verifiedJwt.claims().getClaims().get(AccessTokenClaimKeys.USER_ID.getValue()));
+        assertEquals("ROLE_USER", verifiedJwt.claims().getClaims().get(AccessTokenClaimKeys.ROLE.getValue()));
+        assertEquals(jwtProvider.getExpiryDate(token), verifiedJwt.expiresAt());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰을 검증하면 EXPIRED_TOKEN 예외가 발생한다.")
+    public void verifyWhenTokenIsExpired() {
+        // given
+        jwtProvider = new AccessTokenProvider(secretStr, Duration.ofMillis(1));
+        String token = jwtProvider.generateToken(jwtClaims);
+
+        // when
+        JwtErrorException exception = assertThrows(JwtErrorException.class, () -> jwtProvider.verify(token));
+
+        // then
+        assertEquals(JwtErrorCode.EXPIRED_TOKEN, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("서명이 올바르지 않은 토큰을 파싱하면 TAMPERED_TOKEN 예외가 발생한다.")
     public void getClaimsFromTokenWithInvalidSignature() {
@@ -6,6 +6,7 @@ import kr.co.pennyway.domain.domains.spending.domain.SpendingCustomCategory;
 import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
 import kr.co.pennyway.domain.domains.user.domain.User;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -67,6 +68,24 @@ public enum SpendingFixture {
                 .map(BeanPropertySqlParameterSource::new)
                 .toArray(SqlParameterSource[]::new);
         jdbcTemplate.batchUpdate(sql, params);
+        refreshMonthlySummary(user, jdbcTemplate);
+    }
+
+    /**
+     * 벌크연산으로 삽입한 Spending 객체들을 년/월별 지출 집계 데이터에 반영한다.
+     */
+    private static void refreshMonthlySummary(User user, NamedParameterJdbcTemplate jdbcTemplate) {
+        String sql = """
+                INSERT INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+                SELECT * FROM (
+                    SELECT s.user_id, YEAR(s.spend_at) AS y, MONTH(s.spend_at) AS m, SUM(s.amount) AS amount, COUNT(s.id) AS cnt, NOW() AS c, NOW() AS u
+                    FROM spending s
+                    WHERE s.user_id = :userId AND s.deleted_at IS NULL
+                    GROUP BY s.user_id, YEAR(s.spend_at), MONTH(s.spend_at)
+                ) AS actual
+                ON DUPLICATE KEY UPDATE total_amount = actual.amount, spending_count = actual.cnt
+                """;
+        jdbcTemplate.update(sql, new MapSqlParameterSource("userId", user.getId()));
     }
 
     private static List<Spending> getRandomSpendings(User user, int capacity) {
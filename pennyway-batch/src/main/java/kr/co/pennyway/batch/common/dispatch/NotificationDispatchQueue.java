@@ -0,0 +1,221 @@
+package kr.co.pennyway.batch.common.dispatch;
+
+import kr.co.pennyway.infra.client.google.fcm.FcmMulticastDispatcher;
+import kr.co.pennyway.infra.common.event.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writer가 저장한 알림을 chunk 트랜잭션이 커밋된 후 {@link FcmMulticastDispatcher}로 넘기는 크기 제한 대기열
+ * <p>
+ * 알림 저장과 FCM 전송을 분리하여 chunk 트랜잭션이 FCM 응답을 기다리지 않도록 하되, 전송이 밀리면 Step이 다음 chunk를 읽지 못하도록 막는다.
+ * 대기열에 capacity개의 알림이 쌓이면 커밋 후 알림을 넘기는 chunk 스레드가 대기하므로, reader는 FCM 전송 속도를 앞지르지 못한다.
+ * FCM 요청 수 제한에 도달하면 {@link FcmMulticastDispatcher}가 대기열을 비우는 스레드를 막으므로, 대기열도 함께 차오른다.
+ * <p>
+ * Step에 listener로 등록하면, Step이 끝날 때 해당 Step의 알림이 모두 dispatcher로 넘어갈 때까지 기다린 뒤
+ * dispatcher로 넘긴(handoff) 디바이스 토큰 수와 처리량을 Step의 ExecutionContext에 기록한다.
+ * dispatcher는 토큰을 모아 비동기로 전송하므로, 이 값은 FCM 전송 완료 수가 아니다. 전송 결과는 {@code fcm.send.result} 메트릭으로 확인한다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatchQueue implements StepExecutionListener, DisposableBean {
+    public static final String HANDOFF_COUNT = "throughput.handoffCount";
+    public static final String HANDOFF_PER_SECOND = "throughput.handoffPerSecond";
+    private static final long NO_STEP = -1L;
+
+    private final FcmMulticastDispatcher dispatcher;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final long drainTimeoutMillis;
+
+    private final Map<Long, StepDispatch> steps = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity           : dispatcher로 넘어가지 않고 대기할 수 있는 최대 알림 수
+     * @param threads            : 대기열의 알림을 dispatcher로 넘기는 스레드 수
+     * @param drainTimeoutMillis : Step이 끝날 때 남은 알림이 넘어가기를 기다리는 최대 시간
+     */
+    public NotificationDispatchQueue(
+            FcmMulticastDispatcher dispatcher,
+            @Value("${pennyway.batch.notification-dispatch.capacity:2000}") int capacity,
+            @Value("${pennyway.batch.notification-dispatch.threads:2}") int threads,
+            @Value("${pennyway.batch.notification-dispatch.drain-timeout-millis:60000}") long drainTimeoutMillis
+    ) {
+        this.dispatcher = dispatcher;
+        this.permits = new Semaphore(capacity);
+        this.drainTimeoutMillis = drainTimeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> new Thread(runnable, "notification-dispatch-" + sequence.incrementAndGet()));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 알림을 대기열에 넣는다. 트랜잭션이 롤백되면 알림을 버린다. <br/>
+     * 트랜잭션이 없으면 즉시 대기열에 넣는다. 대기열이 가득 찬 경우 자리가 날 때까지 호출한 스레드가 대기한다.
+     */
+    public void enqueueAfterCommit(List<NotificationEvent> events) {
+        long stepExecutionId = currentStepExecutionId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(events, stepExecutionId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(events, stepExecutionId);
+            }
+        });
+    }
+
+    @Override
+    public void beforeStep(@NonNull StepExecution stepExecution) {
+        steps.computeIfAbsent(stepExecution.getId(), id -> new StepDispatch());
+    }
+
+    @Override
+    public ExitStatus afterStep(@NonNull StepExecution stepExecution) {
+        StepDispatch stepDispatch = steps.remove(stepExecution.getId());
+
+        if (stepDispatch == null) {
+            return stepExecution.getExitStatus();
+        }
+
+        if (!stepDispatch.awaitDrained(drainTimeoutMillis)) {
+            log.warn("{}의 알림이 {}ms 안에 모두 전송되지 않았습니다. 남은 알림 수: {}", stepExecution.getStepName(), drainTimeoutMillis, stepDispatch.pending());
+        }
+
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stepDispatch.startNanos), 1L);
+        long handedOff = stepDispatch.handedOffTokens.sum();
+        double handoffPerSecond = handedOff * 1000.0 / elapsedMillis;
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(HANDOFF_COUNT, handedOff);
+        context.putDouble(HANDOFF_PER_SECOND, handoffPerSecond);
+
+        log.info("{} dispatcher 전달 처리량 - handoff: {} ({}/s)", stepExecution.getStepName(), handedOff, String.format("%.1f", handoffPerSecond));
+
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * 대기 중인 알림을 모두 dispatcher로 넘긴 뒤 종료한다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+
+        if (!executor.awaitTermination(drainTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            log.warn("종료 전까지 dispatcher로 넘기지 못한 알림이 있습니다.");
+        }
+    }
+
+    private void enqueue(List<NotificationEvent> events, long stepExecutionId) {
+        StepDispatch stepDispatch = (stepExecutionId == NO_STEP) ? null : steps.get(stepExecutionId);
+
+        for (NotificationEvent event : events) {
+            permits.acquireUninterruptibly();
+
+            if (stepDispatch != null) {
+                stepDispatch.pending.incrementAndGet();
+            }
+
+            try {
+                executor.execute(() -> dispatch(event, stepDispatch));
+            } catch (RejectedExecutionException e) {
+                log.warn("대기열이 종료되어 알림을 바로 전송합니다.");
+                dispatch(event, stepDispatch);
+            }
+        }
+    }
+
+    private void dispatch(NotificationEvent event, StepDispatch stepDispatch) {
+        try {
+            dispatcher.dispatch(event);
+
+            if (stepDispatch != null) {
+                stepDispatch.handedOffTokens.add(event.deviceTokensSize());
+            }
+        } catch (RuntimeException e) {
+            log.error("알림을 dispatcher로 넘기지 못했습니다. event: {}", event, e);
+        } finally {
+            permits.release();
+
+            if (stepDispatch != null) {
+                stepDispatch.done();
+            }
+        }
+    }
+
+    private long currentStepExecutionId() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return (context != null) ? context.getStepExecution().getId() : NO_STEP;
+    }
+
+    /**
+     * Step별로 dispatcher로 넘긴 디바이스 토큰 수와 아직 넘기지 못한 알림 수 <br/>
+     * 대기 중인 스레드가 가상 스레드일 수 있으므로, monitor 대신 {@link ReentrantLock}과 {@link Condition}으로 대기한다.
+     */
+    private static final class StepDispatch {
+        private final long startNanos = System.nanoTime();
+        private final LongAdder handedOffTokens = new LongAdder();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition drained = lock.newCondition();
+
+        int pending() {
+            return pending.get();
+        }
+
+        void done() {
+            lock.lock();
+            try {
+                if (pending.decrementAndGet() == 0) {
+                    drained.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean awaitDrained(long timeoutMillis) {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+            lock.lock();
+            try {
+                while (pending.get() > 0) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = drained.awaitNanos(remainingNanos);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package kr.co.pennyway.batch.common.dto;
 
-import kr.co.pennyway.domain.domains.notification.type.Announcement;
+import kr.co.pennyway.batch.common.template.AnnouncementRenderer;
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -23,26 +22,18 @@ public record AnnounceNotificationDto(
         Objects.requireNonNull(deviceTokens, "deviceTokens must not be null");
     }
 
-    public static AnnounceNotificationDto from(DeviceTokenOwner owner, Announcement announcement) {
+    public static AnnounceNotificationDto from(DeviceTokenOwner owner, AnnouncementRenderer renderer) {
         Set<String> deviceTokens = new HashSet<>();
         deviceTokens.add(owner.deviceToken());
 
         return AnnounceNotificationDto.builder()
                 .userId(owner.userId())
-                .title(createFormattedTitle(owner, announcement))
-                .content(announcement.createFormattedContent(owner.name()))
+                .title(renderer.title(owner.name()))
+                .content(renderer.content(owner.name()))
                 .deviceTokens(deviceTokens)
                 .build();
     }
 
-    private static String createFormattedTitle(DeviceTokenOwner owner, Announcement announcement) {
-        if (announcement.equals(Announcement.MONTHLY_TARGET_AMOUNT)) {
-            return announcement.createFormattedTitle(String.valueOf(LocalDateTime.now().getMonthValue()));
-        }
-
-        return announcement.createFormattedTitle(owner.name());
-    }
-
     public void addDeviceToken(String deviceToken) {
         deviceTokens.add(deviceToken);
     }
@@ -0,0 +1,88 @@
+package kr.co.pennyway.batch.common.leader;
+
+import kr.co.pennyway.domain.common.redisson.DistributedLockPrefix;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFencedLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 여러 배치 노드 중 하나의 노드만 Job을 실행하도록 Job 이름별로 리더를 선출한다.
+ * <p>
+ * Redisson의 {@link RFencedLock}을 사용하며, 락을 획득한 노드는 단조 증가하는 펜싱 토큰을 발급받는다.
+ * 리더는 Job이 끝날 때까지 락을 유지하고, 그동안 Redisson watchdog이 락의 만료 시간을 연장한다.
+ * <p>
+ * 리더가 GC 등으로 멈춘 사이 락이 만료되어 새로운 리더가 선출되면, 이전 리더의 토큰은 현재 토큰보다 작아진다.
+ * 파티션을 실행하는 노드는 {@link #isStale(String, Long)}로 이전 리더가 보낸 요청을 거절한다.
+ * <p>
+ * 배치 노드가 하나뿐이라고 명시한 경우({@code pennyway.batch.single-node=true})에만 {@link RedissonClient}를 생성하지 않으며,
+ * 이 경우 항상 이 노드가 토큰 없이 Job을 실행한다.
+ */
+@Slf4j
+@Component
+public class JobLeaderElection {
+    /**
+     * 리더의 펜싱 토큰을 전달하는 JobParameter 이름 <br/>
+     * JobInstance를 식별하는 데 사용하지 않는다.
+     */
+    public static final String LEADER_TOKEN = "leaderToken";
+    private static final String REDISSON_LOCK_PREFIX = "LOCK:";
+
+    private final RedissonClient redissonClient;
+
+    public JobLeaderElection(ObjectProvider<RedissonClient> redissonClientProvider) {
+        this.redissonClient = redissonClientProvider.getIfAvailable();
+    }
+
+    /**
+     * 리더로 선출된 경우에만 펜싱 토큰을 전달하여 task를 실행하고, task가 끝나면 락을 해제한다.
+     * 다른 노드가 리더라면 기다리지 않고 실행을 건너뛴다. {@link RedissonClient}가 없으면 토큰 대신 null을 전달하여 바로 실행한다.
+     *
+     * @return task를 실행했다면 true
+     */
+    public boolean runIfLeader(String jobName, Consumer<Long> task) {
+        if (redissonClient == null) {
+            task.accept(null);
+            return true;
+        }
+
+        RFencedLock lock = getLock(jobName);
+        Long token = lock.tryLockAndGetToken();
+
+        if (token == null) {
+            log.info("{} is being launched by another node. skip.", jobName);
+            return false;
+        }
+
+        try {
+            log.info("{} leader elected. token: {}", jobName, token);
+            task.accept(token);
+            return true;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            } else {
+                log.warn("{} leadership was lost while running. token: {}", jobName, token);
+            }
+        }
+    }
+
+    /**
+     * 토큰을 발급받은 뒤 다른 노드가 새로 리더로 선출되었는지 확인한다. 토큰이 없는 경우, 수동으로 실행된 Job이므로 확인하지 않는다.
+     */
+    public boolean isStale(String jobName, Long token) {
+        if (token == null || redissonClient == null) {
+            return false;
+        }
+
+        Long current = getLock(jobName).getToken();
+        return current != null && token < current;
+    }
+
+    private RFencedLock getLock(String jobName) {
+        return redissonClient.getFencedLock(REDISSON_LOCK_PREFIX + DistributedLockPrefix.BATCH_JOB_LEADER + jobName);
+    }
+}
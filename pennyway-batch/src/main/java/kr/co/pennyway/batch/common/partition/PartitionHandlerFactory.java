@@ -0,0 +1,56 @@
+package kr.co.pennyway.batch.common.partition;
+
+import kr.co.pennyway.batch.common.properties.PartitionProperties;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * {@link PartitionProperties#remote()} 설정에 따라 파티션을 실행할 {@link PartitionHandler}를 생성한다.
+ * <pre>
+ * - false : 이 노드의 {@link TaskExecutor}에서 파티션을 실행한다.
+ * - true : {@link RedisPartitionHandler}로 Redis 큐에 요청을 넣고, 각 노드의 {@link RemotePartitionWorker}가 나누어 실행한다.
+ * </pre>
+ */
+public class PartitionHandlerFactory {
+    private final TaskExecutor taskExecutor;
+    private final RedissonClient redissonClient;
+    private final JobExplorer jobExplorer;
+    private final PartitionProperties properties;
+
+    /**
+     * @param redissonClient : 원격 실행을 사용하지 않는 경우 null
+     */
+    public PartitionHandlerFactory(TaskExecutor taskExecutor, RedissonClient redissonClient, JobExplorer jobExplorer, PartitionProperties properties) {
+        this.taskExecutor = taskExecutor;
+        this.redissonClient = redissonClient;
+        this.jobExplorer = jobExplorer;
+        this.properties = properties;
+    }
+
+    /**
+     * @param workerStepBeanName : 원격 노드에서 worker Step을 찾기 위한 bean 이름
+     * @param workerStep         : 이 노드에서 실행할 worker Step
+     */
+    public PartitionHandler create(String workerStepBeanName, Step workerStep) {
+        if (properties.remote()) {
+            return new RedisPartitionHandler(
+                    redissonClient.getBlockingQueue(properties.remoteQueue(), StringCodec.INSTANCE),
+                    jobExplorer,
+                    workerStepBeanName,
+                    properties.gridSize(),
+                    properties.remoteTimeout()
+            );
+        }
+
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setTaskExecutor(taskExecutor);
+        handler.setStep(workerStep);
+        handler.setGridSize(properties.gridSize());
+        return handler;
+    }
+}
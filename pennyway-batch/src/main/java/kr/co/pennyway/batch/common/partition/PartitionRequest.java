@@ -0,0 +1,36 @@
+package kr.co.pennyway.batch.common.partition;
+
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * Redis 큐로 전달하는 원격 파티션 실행 요청
+ * <p>
+ * 파티션의 입력 범위는 {@link StepExecution}의 ExecutionContext에 저장되어 있으므로, 요청에는 StepExecution을 찾기 위한 id만 담는다.
+ * 큐에는 {@code jobExecutionId:stepExecutionId:stepBeanName:leaderToken} 형식의 문자열로 저장하며, 리더 토큰이 없으면 비워둔다.
+ *
+ * @param jobExecutionId  : 파티션이 속한 JobExecution id
+ * @param stepExecutionId : 파티션의 StepExecution id
+ * @param stepBeanName    : 파티션을 실행할 worker Step의 bean 이름
+ * @param leaderToken     : Job을 실행한 리더의 펜싱 토큰. 수동으로 실행된 경우 null
+ */
+public record PartitionRequest(long jobExecutionId, long stepExecutionId, String stepBeanName, Long leaderToken) {
+    private static final String DELIMITER = ":";
+
+    public static PartitionRequest of(StepExecution stepExecution, String stepBeanName, Long leaderToken) {
+        return new PartitionRequest(stepExecution.getJobExecutionId(), stepExecution.getId(), stepBeanName, leaderToken);
+    }
+
+    public static PartitionRequest parse(String message) {
+        String[] values = message.split(DELIMITER, -1);
+        if (values.length != 4) {
+            throw new IllegalArgumentException("Invalid partition request: " + message);
+        }
+
+        Long leaderToken = values[3].isEmpty() ? null : Long.parseLong(values[3]);
+        return new PartitionRequest(Long.parseLong(values[0]), Long.parseLong(values[1]), values[2], leaderToken);
+    }
+
+    public String serialize() {
+        return jobExecutionId + DELIMITER + stepExecutionId + DELIMITER + stepBeanName + DELIMITER + (leaderToken == null ? "" : leaderToken);
+    }
+}
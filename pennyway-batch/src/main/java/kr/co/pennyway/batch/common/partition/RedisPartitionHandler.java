@@ -0,0 +1,76 @@
+package kr.co.pennyway.batch.common.partition;
+
+import kr.co.pennyway.batch.common.leader.JobLeaderElection;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBlockingQueue;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 파티션 실행 요청을 Redis 큐에 넣고, 모든 파티션이 끝날 때까지 JobRepository를 조회하며 기다리는 {@link org.springframework.batch.core.partition.PartitionHandler}
+ * <p>
+ * 요청은 각 배치 노드의 {@link RemotePartitionWorker}가 하나씩 가져가 실행하므로, 노드를 추가하면 동시에 실행되는 파티션 수가 늘어난다.
+ * 파티션의 실행 결과는 worker가 JobRepository에 기록한 StepExecution으로 확인한다.
+ * <p>
+ * 제한 시간 안에 끝나지 않은 파티션이 있으면 Step을 실패로 처리한다.
+ * 이후 같은 JobParameters로 다시 실행하면 완료되지 않은 파티션만 다시 요청한다.
+ */
+@Slf4j
+public class RedisPartitionHandler extends AbstractPartitionHandler {
+    private static final long POLL_INTERVAL_MILLIS = 1000L;
+
+    private final RBlockingQueue<String> queue;
+    private final JobExplorer jobExplorer;
+    private final String stepBeanName;
+    private final long timeoutMillis;
+
+    public RedisPartitionHandler(RBlockingQueue<String> queue, JobExplorer jobExplorer, String stepBeanName, int gridSize, long timeoutMillis) {
+        this.queue = queue;
+        this.jobExplorer = jobExplorer;
+        this.stepBeanName = stepBeanName;
+        this.timeoutMillis = timeoutMillis;
+        setGridSize(gridSize);
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution, Set<StepExecution> partitionStepExecutions) throws Exception {
+        Long leaderToken = managerStepExecution.getJobParameters().getLong(JobLeaderElection.LEADER_TOKEN);
+
+        for (StepExecution partition : partitionStepExecutions) {
+            queue.add(PartitionRequest.of(partition, stepBeanName, leaderToken).serialize());
+        }
+        log.info("{} partitions of {} are requested to remote workers", partitionStepExecutions.size(), managerStepExecution.getStepName());
+
+        return waitForCompletion(managerStepExecution, partitionStepExecutions);
+    }
+
+    private Set<StepExecution> waitForCompletion(StepExecution managerStepExecution, Set<StepExecution> partitionStepExecutions) throws Exception {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+
+        while (true) {
+            Set<StepExecution> finished = new HashSet<>();
+
+            for (StepExecution partition : partitionStepExecutions) {
+                StepExecution current = jobExplorer.getStepExecution(managerStepExecution.getJobExecutionId(), partition.getId());
+                if (current != null && !current.getStatus().isRunning()) {
+                    finished.add(current);
+                }
+            }
+
+            if (finished.size() == partitionStepExecutions.size()) {
+                return finished;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new TimeoutException("Remote partitions of " + managerStepExecution.getStepName() + " did not finish in " + timeoutMillis + "ms. finished: "
+                        + finished.size() + "/" + partitionStepExecutions.size());
+            }
+
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+}
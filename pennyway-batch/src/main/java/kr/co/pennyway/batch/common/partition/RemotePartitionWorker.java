@@ -0,0 +1,132 @@
+package kr.co.pennyway.batch.common.partition;
+
+import kr.co.pennyway.batch.common.leader.JobLeaderElection;
+import kr.co.pennyway.batch.common.properties.PartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBlockingQueue;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.JobSynchronizationManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 큐에서 파티션 실행 요청을 가져와 이 노드에서 실행한다.
+ * <p>
+ * 노드마다 {@link PartitionProperties#poolSize()}개의 스레드가 큐를 구독하며, 하나의 요청은 하나의 노드만 가져간다.
+ * 다음 요청은 실행하지 않고 건너뛴다.
+ * <pre>
+ * - 이미 다른 노드가 실행했거나 끝난 파티션 (StepExecution이 {@link BatchStatus#STARTING} 상태가 아닌 경우)
+ * - 새로운 리더가 선출된 뒤 이전 리더가 보낸 파티션. 이 경우 파티션을 실패로 기록하여, 이전 리더의 Step이 기다리지 않고 실패하도록 한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pennyway.batch.partition", name = "remote", havingValue = "true")
+public class RemotePartitionWorker implements SmartLifecycle {
+    private final ApplicationContext applicationContext;
+    private final RedissonClient redissonClient;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final JobLeaderElection jobLeaderElection;
+    private final PartitionProperties partitionProperties;
+
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    @Override
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        RBlockingQueue<String> queue = redissonClient.getBlockingQueue(partitionProperties.remoteQueue(), StringCodec.INSTANCE);
+
+        running = true;
+        executor = Executors.newFixedThreadPool(partitionProperties.poolSize(), runnable -> new Thread(runnable, "batch-remote-partition-" + threadNumber.incrementAndGet()));
+        for (int i = 0; i < partitionProperties.poolSize(); ++i) {
+            executor.execute(() -> consume(queue));
+        }
+    }
+
+    /**
+     * 실행 중인 파티션이 끝날 때까지 기다린다. 큐에 남은 요청은 다른 노드가 가져간다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                log.warn("Remote partition workers did not terminate in 60 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume(RBlockingQueue<String> queue) {
+        while (running) {
+            try {
+                String message = queue.poll(1, TimeUnit.SECONDS);
+                if (message != null) {
+                    execute(PartitionRequest.parse(message));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to execute remote partition", e);
+            }
+        }
+    }
+
+    private void execute(PartitionRequest request) throws Exception {
+        StepExecution stepExecution = jobExplorer.getStepExecution(request.jobExecutionId(), request.stepExecutionId());
+
+        if (stepExecution == null || stepExecution.getStatus() != BatchStatus.STARTING) {
+            log.warn("Skip partition which is already handled. request: {}", request);
+            return;
+        }
+
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        if (jobLeaderElection.isStale(jobName, request.leaderToken())) {
+            log.warn("Reject partition requested by stale leader. request: {}", request);
+            reject(stepExecution);
+            return;
+        }
+
+        JobSynchronizationManager.register(stepExecution.getJobExecution());
+        try {
+            applicationContext.getBean(request.stepBeanName(), Step.class).execute(stepExecution);
+        } finally {
+            JobSynchronizationManager.release();
+        }
+    }
+
+    private void reject(StepExecution stepExecution) {
+        stepExecution.setStatus(BatchStatus.FAILED);
+        stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription("Requested by stale leader"));
+        stepExecution.setEndTime(LocalDateTime.now());
+        jobRepository.update(stepExecution);
+    }
+}
@@ -0,0 +1,84 @@
+package kr.co.pennyway.batch.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * 일일 알림을 나누어 보내는 시간대 설정
+ * <p>
+ * 디바이스 토큰을 id 구간으로 buckets개의 그룹으로 나누고, 각 그룹을 [startHour, startHour + window) 구간에 같은 간격으로 배치한다.
+ * 예를 들어 startHour가 20, window가 1h, buckets가 6이면 20:00, 20:10, ..., 20:50에 각 그룹의 알림을 보낸다.
+ * <p>
+ * 그룹 수는 JobInstance를 식별하는 파라미터에 포함되므로, 하루 중에 변경하면 같은 사용자가 알림을 두 번 받을 수 있다.
+ * 그룹은 디바이스 토큰 id를 stripeSize 단위의 구간으로 자르고, 구간 번호를 buckets로 나눈 나머지로 정한다.
+ * 그룹이 id에 의해서만 정해지므로 하루 동안 토큰이 추가되거나 삭제되어도 그룹이 바뀌지 않으며, 각 구간은 PK 범위로 조회할 수 있다.
+ * 여러 디바이스를 사용하는 사용자는 디바이스마다 다른 그룹에 속할 수 있다.
+ *
+ * @param startHour  : 첫 번째 그룹의 알림을 보내는 시각 (0 ~ 23)
+ * @param window     : 알림을 나누어 보내는 전체 시간. 0보다 커야 하며, 자정을 넘을 수 없다.
+ * @param buckets    : 디바이스 토큰을 나누는 그룹 수
+ * @param stripeSize : 그룹에 배정하는 디바이스 토큰 id 구간의 크기. 구간마다 하나의 파티션으로 실행되며, 하루 중에 변경하면 알림이 중복 전송될 수 있다.
+ * @param maxAttempts  : 그룹마다 Job을 실행하는 최대 횟수. 첫 실행을 포함하며, 모두 실패하면 그날은 더 이상 재시작하지 않는다.
+ * @param retryBackoff : 실패한 그룹을 재시작하기 전에 기다리는 시간. 재시작할 때마다 두 배로 늘어난다.
+ */
+@ConfigurationProperties(prefix = "pennyway.batch.daily-notification")
+public record NotificationWindowProperties(
+        @DefaultValue("20") int startHour,
+        @DefaultValue("1h") Duration window,
+        @DefaultValue("6") int buckets,
+        @DefaultValue("10000") long stripeSize,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("5m") Duration retryBackoff
+) {
+    public NotificationWindowProperties {
+        if (startHour < 0 || startHour > 23) {
+            throw new IllegalArgumentException("startHour must be between 0 and 23: " + startHour);
+        }
+        if (buckets < 1) {
+            throw new IllegalArgumentException("buckets must be greater than zero: " + buckets);
+        }
+        if (stripeSize < 1) {
+            throw new IllegalArgumentException("stripeSize must be greater than zero: " + stripeSize);
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be greater than zero: " + maxAttempts);
+        }
+        if (retryBackoff.isNegative()) {
+            throw new IllegalArgumentException("retryBackoff must not be negative: " + retryBackoff);
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be greater than zero: " + window);
+        }
+        if (Duration.ofHours(startHour).plus(window).compareTo(Duration.ofDays(1)) > 0) {
+            throw new IllegalArgumentException("window must end before midnight: " + window);
+        }
+    }
+
+    /**
+     * bucket번째 그룹의 알림을 보내는 시각
+     */
+    public LocalTime slotOf(int bucket) {
+        return LocalTime.of(startHour, 0).plus(window.multipliedBy(bucket).dividedBy(buckets));
+    }
+
+    /**
+     * attempts번 실행한 그룹을 재시작하기 전에 기다리는 시간
+     */
+    public Duration backoffAfter(int attempts) {
+        return retryBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 30));
+    }
+
+    /**
+     * now까지 보내는 시각이 된 그룹의 수. 0번부터 반환한 수 - 1번까지의 그룹이 알림을 보낼 차례가 되었다.
+     */
+    public int dueBuckets(LocalTime now) {
+        int due = 0;
+        while (due < buckets && !now.isBefore(slotOf(due))) {
+            ++due;
+        }
+        return due;
+    }
+}
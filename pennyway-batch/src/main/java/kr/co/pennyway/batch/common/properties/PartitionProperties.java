@@ -0,0 +1,25 @@
+package kr.co.pennyway.batch.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 파티셔닝된 Step의 병렬 처리 설정
+ *
+ * @param gridSize      : 하나의 Step을 나눌 파티션 수
+ * @param poolSize      : 동시에 실행할 수 있는 최대 파티션 수. 원격 실행을 사용하는 경우, 노드마다 동시에 실행하는 파티션 수
+ * @param queueCapacity : 실행을 기다리는 파티션의 최대 수. 가득 찬 경우, Step을 실행한 스레드에서 파티션을 실행한다.
+ * @param remote        : 파티션을 Redis 큐로 전달하여 여러 배치 노드에서 나누어 실행할지 여부. false인 경우 Job을 실행하는 리더 노드가 모든 파티션을 실행한다.
+ * @param remoteQueue   : 원격 실행할 파티션 요청을 전달하는 Redis 큐 이름
+ * @param remoteTimeout : 원격 실행한 파티션이 모두 끝나기를 기다리는 최대 시간 (밀리초)
+ */
+@ConfigurationProperties(prefix = "pennyway.batch.partition")
+public record PartitionProperties(
+        @DefaultValue("4") int gridSize,
+        @DefaultValue("4") int poolSize,
+        @DefaultValue("16") int queueCapacity,
+        @DefaultValue("false") boolean remote,
+        @DefaultValue("batch:partition:requests") String remoteQueue,
+        @DefaultValue("3600000") long remoteTimeout
+) {
+}
@@ -0,0 +1,157 @@
+package kr.co.pennyway.batch.common.reader;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.util.function.Function;
+
+/**
+ * 하나의 forward-only 커서로 조회 결과를 스트리밍하는 Querydsl ItemReader
+ * <p>
+ * {@link QuerydslNoOffsetPagingItemReader}와 달리 페이지마다 트랜잭션을 열고 쿼리를 다시 실행하지 않으며, 시작/마지막 id를 찾는 쿼리도 실행하지 않는다.
+ * 영속성 컨텍스트가 없는 {@link StatelessSession}에서 쿼리를 실행하므로, {@code DeviceTokenOwner}와 같은 생성자 projection 조회에 적합하다.
+ * <p>
+ * 조회 결과는 key 오름차순으로 정렬되며, chunk가 커밋될 때마다 마지막으로 읽은 item의 key를 ExecutionContext에 {@link #LAST_KEY} 키로 저장한다.
+ * 재시작 시에는 저장된 key보다 큰 item부터 조회한다.
+ * <p>
+ * MySQL에서 fetchSize 단위로 결과를 나누어 받으려면 커넥션에 {@code useCursorFetch=true} 속성이 설정되어 있어야 한다.
+ * 설정되지 않은 경우 드라이버가 조회 결과 전체를 메모리에 적재한다.
+ * {@code useCursorFetch}는 커넥션의 모든 조회를 서버 커서로 실행하므로 공용 커넥션 풀에 설정하지 않는다.
+ * 이 Reader를 사용하는 Job은 {@code useCursorFetch=true}로 설정한 별도의 DataSource와 EntityManagerFactory를 사용해야 한다.
+ */
+public class QuerydslCursorItemReader<T, N extends Number & Comparable<?>> extends AbstractItemCountingItemStreamItemReader<T> {
+    public static final String LAST_KEY = "last.key";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final int fetchSize;
+    private final NumberPath<N> key;
+    private final Function<T, N> keyExtractor;
+    private final Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+
+    private StatelessSession session;
+    private ScrollableResults<Object> cursor;
+    private FactoryExpression<T> projection;
+    private N lastKey;
+
+    public QuerydslCursorItemReader(EntityManagerFactory entityManagerFactory,
+                                    int fetchSize,
+                                    NumberPath<N> key,
+                                    Function<T, N> keyExtractor,
+                                    Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+        Assert.notNull(entityManagerFactory, "EntityManagerFactory must not be null");
+        Assert.isTrue(fetchSize > 0, "fetchSize must be greater than zero");
+        Assert.notNull(key, "key must not be null");
+        Assert.notNull(keyExtractor, "keyExtractor must not be null");
+        Assert.notNull(queryFunction, "queryFunction must not be null");
+
+        this.entityManagerFactory = entityManagerFactory;
+        this.fetchSize = fetchSize;
+        this.key = key;
+        this.keyExtractor = keyExtractor;
+        this.queryFunction = queryFunction;
+        setName(ClassUtils.getShortName(QuerydslCursorItemReader.class));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (isSaveState() && executionContext.containsKey(getExecutionContextKey(LAST_KEY))) {
+            lastKey = (N) executionContext.get(getExecutionContextKey(LAST_KEY));
+        }
+
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+
+        if (isSaveState() && lastKey != null) {
+            executionContext.put(getExecutionContextKey(LAST_KEY), lastKey);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void doOpen() {
+        JPAQuery<T> query = queryFunction.apply(new JPAQueryFactory(HQLTemplates.DEFAULT, (EntityManager) null));
+        if (lastKey != null) {
+            query.where(key.gt(lastKey));
+        }
+        query.orderBy(key.asc());
+
+        QueryMetadata metadata = query.getMetadata();
+        JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+        serializer.serialize(metadata, false, null);
+
+        Expression<?> select = metadata.getProjection();
+        projection = (select instanceof FactoryExpression) ? (FactoryExpression<T>) select : null;
+
+        session = entityManagerFactory.unwrap(SessionFactory.class).openStatelessSession();
+
+        Query<Object> hqlQuery = session.createQuery(serializer.toString(), Object.class);
+        JPAUtil.setConstants(hqlQuery, serializer.getConstants(), metadata.getParams());
+        hqlQuery.setFetchSize(fetchSize);
+        hqlQuery.setReadOnly(true);
+
+        cursor = hqlQuery.scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected T doRead() {
+        if (!cursor.next()) {
+            return null;
+        }
+
+        Object row = cursor.get();
+        T item = (projection != null) ? projection.newInstance((row instanceof Object[] args) ? args : new Object[]{row}) : (T) row;
+
+        lastKey = keyExtractor.apply(item);
+        return item;
+    }
+
+    /**
+     * 저장된 key가 있다면 이미 key 이후부터 조회하므로, 읽은 item 수만큼 건너뛰지 않는다.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        if (lastKey != null) {
+            return;
+        }
+
+        super.jumpToItem(itemIndex);
+    }
+
+    @Override
+    protected void doClose() {
+        if (cursor != null) {
+            cursor.close();
+            cursor = null;
+        }
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+        lastKey = null;
+    }
+}
@@ -0,0 +1,85 @@
+package kr.co.pennyway.batch.common.reader;
+
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.function.Function;
+
+/**
+ * {@link QuerydslCursorItemReader}를 생성하기 위한 빌더 클래스
+ * <p>
+ * {@link QuerydslNoOffsetPagingItemReaderBuilder}와 같이 Step Builder 패턴을 사용하였으며, 각 메소드는 해당하는 설정값을 설정하고 다음 단계의 빌더를 반환한다.
+ */
+public class QuerydslCursorItemReaderBuilder<T> {
+    private QuerydslCursorItemReaderBuilder() {
+    }
+
+    public static <T> EntityManagerFactoryStep<T> builder() {
+        return new Steps<>();
+    }
+
+    public interface EntityManagerFactoryStep<T> {
+        /**
+         * The {@link EntityManagerFactory} to be used for opening a {@link org.hibernate.StatelessSession}.
+         *
+         * @param emf {@link EntityManagerFactory} that unwraps to {@link org.hibernate.SessionFactory}
+         * @return this instance for method chaining
+         */
+        FetchSizeStep<T> entityManagerFactory(EntityManagerFactory emf);
+    }
+
+    public interface FetchSizeStep<T> {
+        /**
+         * The number of rows to be fetched from the database with each round trip.
+         *
+         * @param fetchSize number of rows
+         * @return this instance for method chaining
+         */
+        KeyStep<T> fetchSize(int fetchSize);
+    }
+
+    public interface KeyStep<T> {
+        /**
+         * The unique key used for ordering the results and restarting after the last read item.
+         *
+         * @param key          {@link NumberPath} of the key
+         * @param keyExtractor function that extracts the key from the read item
+         * @return this instance for method chaining
+         */
+        <N extends Number & Comparable<?>> QueryFunctionStep<T, N> key(NumberPath<N> key, Function<T, N> keyExtractor);
+    }
+
+    public interface QueryFunctionStep<T, N extends Number & Comparable<?>> {
+        /**
+         * The function that creates the query to be executed. The query must not be ordered by any other expression.
+         *
+         * @param queryFunction function that creates the query
+         * @return the reader
+         */
+        QuerydslCursorItemReader<T, N> queryFunction(Function<JPAQueryFactory, JPAQuery<T>> queryFunction);
+    }
+
+    private static class Steps<T> implements EntityManagerFactoryStep<T>, FetchSizeStep<T>, KeyStep<T> {
+        private EntityManagerFactory entityManagerFactory;
+        private int fetchSize;
+
+        @Override
+        public FetchSizeStep<T> entityManagerFactory(EntityManagerFactory emf) {
+            this.entityManagerFactory = emf;
+            return this;
+        }
+
+        @Override
+        public KeyStep<T> fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        @Override
+        public <N extends Number & Comparable<?>> QueryFunctionStep<T, N> key(NumberPath<N> key, Function<T, N> keyExtractor) {
+            return queryFunction -> new QuerydslCursorItemReader<>(entityManagerFactory, fetchSize, key, keyExtractor, queryFunction);
+        }
+    }
+}
@@ -6,14 +6,26 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
 import kr.co.pennyway.batch.common.reader.options.QuerydslNoOffsetOptions;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
 import java.util.function.Function;
 
+/**
+ * offset 대신 마지막으로 조회한 id를 기준으로 다음 페이지를 조회하는 PagingItemReader
+ * <p>
+ * chunk가 커밋될 때마다 마지막으로 읽은 item의 id를 ExecutionContext에 {@link #CURRENT_ID} 키로 저장한다.
+ * 실패한 Step을 재시작하면 저장된 id 이후부터 조회하므로, 커밋된 chunk는 다시 읽지 않는다.
+ */
 public class QuerydslNoOffsetPagingItemReader<T> extends QuerydslPagingItemReader<T> {
+    public static final String CURRENT_ID = "current.id";
+
     private QuerydslNoOffsetOptions<T> options;
     private Function<JPAQueryFactory, JPAQuery<T>> idSelectQuery;
+    private T lastReadItem;
+    private Object restoredId;
 
     private QuerydslNoOffsetPagingItemReader() {
         super();
@@ -38,6 +50,54 @@ public class QuerydslNoOffsetPagingItemReader<T> extends QuerydslPagingItemReade
         this.idSelectQuery = idSelectQuery;
     }
 
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (isSaveState() && executionContext.containsKey(getExecutionContextKey(CURRENT_ID))) {
+            restoredId = executionContext.get(getExecutionContextKey(CURRENT_ID));
+        }
+
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+
+        if (isSaveState() && lastReadItem != null) {
+            executionContext.put(getExecutionContextKey(CURRENT_ID), options.getFiledValue(lastReadItem));
+        }
+    }
+
+    @Override
+    protected T doRead() throws Exception {
+        T item = super.doRead();
+
+        if (item != null) {
+            lastReadItem = item;
+        }
+        return item;
+    }
+
+    /**
+     * 저장된 id가 있다면 읽은 item 수만큼 건너뛰지 않고, 저장된 id 이후(id 미포함)부터 조회하도록 다음 페이지로 이동한다.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        if (restoredId != null) {
+            super.jumpToItem(getPageSize());
+            return;
+        }
+
+        super.jumpToItem(itemIndex);
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        lastReadItem = null;
+        restoredId = null;
+        super.doClose();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void doReadPage() {
@@ -57,7 +117,14 @@ public class QuerydslNoOffsetPagingItemReader<T> extends QuerydslPagingItemReade
     protected JPAQuery<T> createQuery() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         JPAQuery<T> query = queryFunction.apply(queryFactory);
-        options.initKeys((idSelectQuery != null) ? idSelectQuery.apply(queryFactory) : query, getPage()); // 제일 첫번째 페이징시 시작해야할 ID 찾기
+        JPAQuery<T> idQuery = (idSelectQuery != null) ? idSelectQuery.apply(queryFactory) : query;
+
+        if (restoredId != null) {
+            options.restoreKeys(idQuery, restoredId); // 재시작 시 이전 실행에서 마지막으로 읽은 ID부터 이어서 조회
+            restoredId = null;
+        } else {
+            options.initKeys(idQuery, getPage()); // 제일 첫번째 페이징시 시작해야할 ID 찾기
+        }
 
         return options.createQuery(query, getPage());
     }
@@ -71,6 +71,17 @@ public class QuerydslNoOffsetNumberOptions<T, N extends Number & Comparable<?>>
         }
     }
 
+    @Override
+    public void restoreKeys(JPAQuery<T> query, Object currentId) {
+        //noinspection unchecked
+        this.currentId = (N) currentId;
+        initLastId(query);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Restored Key= " + this.currentId + ", Last Key= " + lastId);
+        }
+    }
+
     @Override
     protected void initFirstId(JPAQuery<T> query) {
         JPAQuery<T> clone = query.clone();
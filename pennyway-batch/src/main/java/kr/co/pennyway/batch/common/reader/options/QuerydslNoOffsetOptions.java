@@ -42,6 +42,15 @@ public abstract class QuerydslNoOffsetOptions<T> {
 
     public abstract void initKeys(JPAQuery<T> query, int page);
 
+    /**
+     * 재시작 시 이전 실행에서 마지막으로 처리한 offset을 복원하고, 마지막 offset을 다시 조회한다. <br/>
+     * 복원한 offset은 이미 처리되었으므로, 다음 페이지부터 조회해야 한다.
+     *
+     * @param query     마지막 offset을 조회할 쿼리
+     * @param currentId 이전 실행에서 마지막으로 처리한 offset
+     */
+    public abstract void restoreKeys(JPAQuery<T> query, Object currentId);
+
     protected abstract void initFirstId(JPAQuery<T> query);
 
     protected abstract void initLastId(JPAQuery<T> query);
@@ -50,7 +59,7 @@ public abstract class QuerydslNoOffsetOptions<T> {
 
     public abstract void resetCurrentId(T item);
 
-    protected Object getFiledValue(T item) {
+    public Object getFiledValue(T item) {
         try {
             Field field = item.getClass().getDeclaredField(fieldName);
             field.setAccessible(true);
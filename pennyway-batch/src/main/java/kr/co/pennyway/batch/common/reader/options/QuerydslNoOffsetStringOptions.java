@@ -70,6 +70,16 @@ public class QuerydslNoOffsetStringOptions<T> extends QuerydslNoOffsetOptions<T>
         }
     }
 
+    @Override
+    public void restoreKeys(JPAQuery<T> query, Object currentId) {
+        this.currentId = (String) currentId;
+        initLastId(query);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Restored Key= " + this.currentId + ", Last Key= " + lastId);
+        }
+    }
+
     @Override
     protected void initFirstId(JPAQuery<T> query) {
         JPAQuery<T> clone = query.clone();
@@ -0,0 +1,52 @@
+package kr.co.pennyway.batch.common.template;
+
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 한 번의 Job 실행 동안 공지 제목과 내용을 렌더링한다.
+ * <p>
+ * 수신자와 무관한 제목은 생성 시점에 한 번만 렌더링하고, 모든 수신자에게 같은 문자열을 반환한다.
+ * {@link Announcement#MONTHLY_TARGET_AMOUNT}의 제목은 기준일의 월로 채워지므로, 자정을 넘겨 실행되더라도 같은 Job 안에서는 같은 제목을 사용한다.
+ */
+public final class AnnouncementRenderer {
+    private final Announcement announcement;
+    private final String constantTitle;
+
+    private AnnouncementRenderer(Announcement announcement, String constantTitle) {
+        this.announcement = announcement;
+        this.constantTitle = constantTitle;
+    }
+
+    /**
+     * @param baseDate : Job의 기준일
+     */
+    public static AnnouncementRenderer of(Announcement announcement, LocalDate baseDate) {
+        Objects.requireNonNull(announcement, "announcement must not be null");
+        Objects.requireNonNull(baseDate, "baseDate must not be null");
+
+        if (announcement.equals(Announcement.MONTHLY_TARGET_AMOUNT)) {
+            return new AnnouncementRenderer(announcement, announcement.createFormattedTitle(String.valueOf(baseDate.getMonthValue())));
+        }
+
+        if (announcement.getTitleTemplate().isConstant()) {
+            return new AnnouncementRenderer(announcement, announcement.getTitle());
+        }
+
+        return new AnnouncementRenderer(announcement, null);
+    }
+
+    public String title(String name) {
+        return (constantTitle != null) ? constantTitle : announcement.createFormattedTitle(name);
+    }
+
+    public String content(String name) {
+        return announcement.createFormattedContent(name);
+    }
+
+    public Announcement announcement() {
+        return announcement;
+    }
+}
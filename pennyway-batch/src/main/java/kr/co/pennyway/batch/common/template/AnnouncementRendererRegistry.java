@@ -0,0 +1,90 @@
+package kr.co.pennyway.batch.common.template;
+
+import kr.co.pennyway.batch.job.NotificationJobParameters;
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job 실행별로 {@link AnnouncementRenderer}를 생성하고 공유한다.
+ * <p>
+ * Writer는 파티션마다 다른 스레드에서 실행되지만, 같은 Job 실행의 모든 파티션은 하나의 렌더러를 공유한다.
+ * 렌더러의 기준일은 {@link NotificationJobParameters#BASE_DATE} 파라미터이며, 없는 경우 Job의 시작 시각을 사용한다.
+ * <p>
+ * 렌더러는 다음 시점에 제거한다.
+ * <pre>
+ * - worker Step에 listener로 등록한 경우 : 이 노드에서 실행 중인 같은 Job 실행의 Step이 모두 끝났을 때. 원격 파티션을 실행하는 노드는 Job listener가 호출되지 않으므로 반드시 등록해야 한다.
+ * - Job에 listener로 등록한 경우 : Job이 끝났을 때
+ * </pre>
+ */
+@Component
+public class AnnouncementRendererRegistry implements JobExecutionListener, StepExecutionListener {
+    private final Map<Long, Map<Announcement, AnnouncementRenderer>> renderers = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> runningSteps = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 Step이 속한 Job 실행의 렌더러를 반환한다. Step 밖에서 호출하면 현재 날짜를 기준으로 새 렌더러를 생성한다.
+     */
+    public AnnouncementRenderer get(Announcement announcement) {
+        StepContext context = StepSynchronizationManager.getContext();
+
+        if (context == null) {
+            return AnnouncementRenderer.of(announcement, LocalDate.now());
+        }
+
+        JobExecution jobExecution = context.getStepExecution().getJobExecution();
+        return renderers.computeIfAbsent(jobExecution.getId(), id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(announcement, key -> AnnouncementRenderer.of(key, baseDate(jobExecution)));
+    }
+
+    @Override
+    public void beforeStep(@NonNull StepExecution stepExecution) {
+        runningSteps.merge(stepExecution.getJobExecutionId(), 1, Integer::sum);
+    }
+
+    @Override
+    public ExitStatus afterStep(@NonNull StepExecution stepExecution) {
+        runningSteps.computeIfPresent(stepExecution.getJobExecutionId(), (jobExecutionId, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            renderers.remove(jobExecutionId);
+            return null;
+        });
+        return null;
+    }
+
+    @Override
+    public void afterJob(@NonNull JobExecution jobExecution) {
+        renderers.remove(jobExecution.getId());
+    }
+
+    /**
+     * 렌더러를 보관 중인 Job 실행의 수
+     */
+    int size() {
+        return renderers.size();
+    }
+
+    private LocalDate baseDate(JobExecution jobExecution) {
+        LocalDate baseDate = jobExecution.getJobParameters().getLocalDate(NotificationJobParameters.BASE_DATE);
+        if (baseDate != null) {
+            return baseDate;
+        }
+
+        LocalDateTime startTime = jobExecution.getStartTime();
+        return (startTime != null) ? startTime.toLocalDate() : LocalDate.now();
+    }
+}
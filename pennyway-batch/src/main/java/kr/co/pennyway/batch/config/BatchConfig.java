@@ -1,9 +1,49 @@
 package kr.co.pennyway.batch.config;
 
+import kr.co.pennyway.batch.common.partition.PartitionHandlerFactory;
+import kr.co.pennyway.batch.common.properties.NotificationWindowProperties;
+import kr.co.pennyway.batch.common.properties.PartitionProperties;
+import org.redisson.api.RedissonClient;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableBatchProcessing
+@EnableConfigurationProperties({PartitionProperties.class, NotificationWindowProperties.class})
 public class BatchConfig {
+    public static final String PARTITION_TASK_EXECUTOR = "partitionTaskExecutor";
+
+    /**
+     * 파티션을 실행하는 executor <br/>
+     * 파티션은 각자 DB 커넥션을 사용하므로, 동시에 실행되는 파티션 수를 {@link PartitionProperties#poolSize()}로 제한한다.
+     */
+    @Bean(name = PARTITION_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor partitionTaskExecutor(PartitionProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.poolSize());
+        executor.setMaxPoolSize(properties.poolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("batch-partition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    @Bean
+    public PartitionHandlerFactory partitionHandlerFactory(@Qualifier(PARTITION_TASK_EXECUTOR) TaskExecutor partitionTaskExecutor,
+                                                           ObjectProvider<RedissonClient> redissonClientProvider,
+                                                           JobExplorer jobExplorer,
+                                                           PartitionProperties properties) {
+        return new PartitionHandlerFactory(partitionTaskExecutor, redissonClientProvider.getIfAvailable(), jobExplorer, properties);
+    }
 }
@@ -0,0 +1,18 @@
+package kr.co.pennyway.batch.config;
+
+import kr.co.pennyway.domain.common.importer.EnablePennywayDomainConfig;
+import kr.co.pennyway.domain.common.importer.PennywayDomainConfigGroup;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redisson은 리더 선출과 원격 파티션 실행에 사용하며, 배치 노드가 여러 개일 수 있으므로 기본으로 등록한다.
+ * 배치 노드가 하나뿐이라면 {@code pennyway.batch.single-node=true}로 등록하지 않을 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "pennyway.batch", name = "single-node", havingValue = "false", matchIfMissing = true)
+@EnablePennywayDomainConfig({
+        PennywayDomainConfigGroup.REDISSON
+})
+public class DomainConfig {
+}
@@ -1,7 +1,10 @@
 package kr.co.pennyway.batch.config;
 
+import kr.co.pennyway.domain.domains.device.service.DeviceTokenService;
+import kr.co.pennyway.infra.client.google.fcm.DeviceTokenPruner;
 import kr.co.pennyway.infra.common.importer.EnablePennywayInfraConfig;
 import kr.co.pennyway.infra.common.importer.PennywayInfraConfigGroup;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -9,4 +12,11 @@ import org.springframework.context.annotation.Configuration;
         PennywayInfraConfigGroup.FCM
 })
 public class InfraConfig {
+    /**
+     * FCM이 유효하지 않다고 응답한 디바이스 토큰을 비활성화하여, 다음 배치부터 조회되지 않도록 한다.
+     */
+    @Bean
+    public DeviceTokenPruner deviceTokenPruner(DeviceTokenService deviceTokenService) {
+        return deviceTokenService::deactivateDevicesByTokens;
+    }
 }
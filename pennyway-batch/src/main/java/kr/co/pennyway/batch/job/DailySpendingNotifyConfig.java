@@ -1,7 +1,15 @@
 package kr.co.pennyway.batch.job;
 
+import kr.co.pennyway.batch.common.dispatch.NotificationDispatchQueue;
 import kr.co.pennyway.batch.common.dto.DeviceTokenOwner;
-import kr.co.pennyway.batch.reader.ActiveDeviceTokenReader;
+import kr.co.pennyway.batch.common.partition.PartitionHandlerFactory;
+import kr.co.pennyway.batch.common.reader.QuerydslNoOffsetPagingItemReader;
+import kr.co.pennyway.batch.common.template.AnnouncementRendererRegistry;
+import kr.co.pennyway.batch.config.BatchConfig;
+import kr.co.pennyway.batch.listener.NotificationBucketReportListener;
+import kr.co.pennyway.batch.listener.PrunedDeviceTokenJobListener;
+import kr.co.pennyway.batch.listener.StepThroughputListener;
+import kr.co.pennyway.batch.partitioner.DeviceTokenIdRangePartitioner;
 import kr.co.pennyway.batch.writer.DailySpendingNotifyWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
@@ -18,12 +26,23 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class DailySpendingNotifyConfig {
     private final JobRepository jobRepository;
-    private final ActiveDeviceTokenReader reader;
+    private final QuerydslNoOffsetPagingItemReader<DeviceTokenOwner> reader;
     private final DailySpendingNotifyWriter writer;
+    private final DeviceTokenIdRangePartitioner partitioner;
+    private final StepThroughputListener throughputListener;
+    private final NotificationDispatchQueue notificationDispatchQueue;
+    private final PrunedDeviceTokenJobListener prunedDeviceTokenJobListener;
+    private final AnnouncementRendererRegistry announcementRendererRegistry;
+    private final NotificationBucketReportListener notificationBucketReportListener;
+    private final PartitionHandlerFactory partitionHandlerFactory;
 
     @Bean
     public Job dailyNotificationJob(PlatformTransactionManager transactionManager) {
         return new JobBuilder("dailyNotificationJob", jobRepository)
+                .validator(NotificationJobParameters.validator())
+                .listener(prunedDeviceTokenJobListener)
+                .listener(announcementRendererRegistry)
+                .listener(notificationBucketReportListener)
                 .start(dailyNotificationStep(transactionManager))
                 .on("FAILED")
                 .stopAndRestart(dailyNotificationStep(transactionManager))
@@ -33,13 +52,30 @@ public class DailySpendingNotifyConfig {
                 .build();
     }
 
+    /**
+     * 디바이스 토큰 id 구간별로 나눈 파티션을 {@link BatchConfig#PARTITION_TASK_EXECUTOR} 또는 원격 노드에서 병렬로 실행한다. <br/>
+     * 재시작 시에는 완료되지 않은 파티션만 다시 실행한다.
+     */
     @Bean
     @JobScope
     public Step dailyNotificationStep(PlatformTransactionManager transactionManager) {
         return new StepBuilder("sendSpendingNotifyStep", jobRepository)
+                .partitioner("sendSpendingNotifyWorkerStep", partitioner)
+                .partitionHandler(partitionHandlerFactory.create("dailyNotificationWorkerStep", dailyNotificationWorkerStep(transactionManager)))
+                .listener(throughputListener)
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step dailyNotificationWorkerStep(PlatformTransactionManager transactionManager) {
+        return new StepBuilder("sendSpendingNotifyWorkerStep", jobRepository)
                 .<DeviceTokenOwner, DeviceTokenOwner>chunk(1000, transactionManager)
-                .reader(reader.querydslNoOffsetPagingItemReader())
+                .reader(reader)
                 .writer(writer)
+                .listener(throughputListener)
+                .listener(notificationDispatchQueue)
+                .listener(announcementRendererRegistry)
                 .build();
     }
 }
@@ -1,7 +1,14 @@
 package kr.co.pennyway.batch.job;
 
+import kr.co.pennyway.batch.common.dispatch.NotificationDispatchQueue;
 import kr.co.pennyway.batch.common.dto.DeviceTokenOwner;
-import kr.co.pennyway.batch.reader.ActiveDeviceTokenReader;
+import kr.co.pennyway.batch.common.partition.PartitionHandlerFactory;
+import kr.co.pennyway.batch.common.reader.QuerydslNoOffsetPagingItemReader;
+import kr.co.pennyway.batch.common.template.AnnouncementRendererRegistry;
+import kr.co.pennyway.batch.config.BatchConfig;
+import kr.co.pennyway.batch.listener.PrunedDeviceTokenJobListener;
+import kr.co.pennyway.batch.listener.StepThroughputListener;
+import kr.co.pennyway.batch.partitioner.DeviceTokenIdRangePartitioner;
 import kr.co.pennyway.batch.writer.MonthlyTotalAmountNotifyWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
@@ -18,12 +25,21 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class MonthlyTargetAmountNotifyConfig {
     private final JobRepository jobRepository;
-    private final ActiveDeviceTokenReader reader;
+    private final QuerydslNoOffsetPagingItemReader<DeviceTokenOwner> reader;
     private final MonthlyTotalAmountNotifyWriter writer;
+    private final DeviceTokenIdRangePartitioner partitioner;
+    private final StepThroughputListener throughputListener;
+    private final NotificationDispatchQueue notificationDispatchQueue;
+    private final PrunedDeviceTokenJobListener prunedDeviceTokenJobListener;
+    private final AnnouncementRendererRegistry announcementRendererRegistry;
+    private final PartitionHandlerFactory partitionHandlerFactory;
 
     @Bean
     public Job monthlyNotificationJob(PlatformTransactionManager transactionManager) {
         return new JobBuilder("monthlyNotificationJob", jobRepository)
+                .validator(NotificationJobParameters.validator())
+                .listener(prunedDeviceTokenJobListener)
+                .listener(announcementRendererRegistry)
                 .start(monthlyNotificationStep(transactionManager))
                 .on("FAILED")
                 .stopAndRestart(monthlyNotificationStep(transactionManager))
@@ -33,13 +49,30 @@ public class MonthlyTargetAmountNotifyConfig {
                 .build();
     }
 
+    /**
+     * 디바이스 토큰 id 구간별로 나눈 파티션을 {@link BatchConfig#PARTITION_TASK_EXECUTOR} 또는 원격 노드에서 병렬로 실행한다. <br/>
+     * 재시작 시에는 완료되지 않은 파티션만 다시 실행한다.
+     */
     @Bean
     @JobScope
     public Step monthlyNotificationStep(PlatformTransactionManager transactionManager) {
         return new StepBuilder("sendMonthlyNotifyStep", jobRepository)
+                .partitioner("sendMonthlyNotifyWorkerStep", partitioner)
+                .partitionHandler(partitionHandlerFactory.create("monthlyNotificationWorkerStep", monthlyNotificationWorkerStep(transactionManager)))
+                .listener(throughputListener)
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step monthlyNotificationWorkerStep(PlatformTransactionManager transactionManager) {
+        return new StepBuilder("sendMonthlyNotifyWorkerStep", jobRepository)
                 .<DeviceTokenOwner, DeviceTokenOwner>chunk(1000, transactionManager)
-                .reader(reader.querydslNoOffsetPagingItemReader())
+                .reader(reader)
                 .writer(writer)
+                .listener(throughputListener)
+                .listener(notificationDispatchQueue)
+                .listener(announcementRendererRegistry)
                 .build();
     }
 }
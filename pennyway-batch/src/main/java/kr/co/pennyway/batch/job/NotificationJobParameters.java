@@ -0,0 +1,61 @@
+package kr.co.pennyway.batch.job;
+
+import kr.co.pennyway.batch.common.leader.JobLeaderElection;
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+
+import java.time.LocalDate;
+
+/**
+ * 알림 Job의 JobParameters
+ * <p>
+ * 기준일({@link #BASE_DATE})과 공지 유형({@link #ANNOUNCEMENT})으로 하나의 논리적인 실행을 식별한다.
+ * 디바이스 토큰을 그룹으로 나누어 보내는 경우, 그룹 번호({@link #BUCKET})와 그룹 수({@link #BUCKET_COUNT})도 실행을 식별하는 데 사용한다.
+ * 같은 파라미터로 다시 실행하면 같은 JobInstance로 취급되므로, 실패한 실행은 이어서 재시작되고 완료된 실행은 다시 실행되지 않는다.
+ */
+public final class NotificationJobParameters {
+    public static final String BASE_DATE = "baseDate";
+    public static final String ANNOUNCEMENT = "announcement";
+    public static final String BUCKET = "bucket";
+    public static final String BUCKET_COUNT = "bucketCount";
+
+    private NotificationJobParameters() {}
+
+    public static JobParameters of(LocalDate baseDate, Announcement announcement) {
+        return new JobParametersBuilder()
+                .addLocalDate(BASE_DATE, baseDate)
+                .addString(ANNOUNCEMENT, announcement.name())
+                .toJobParameters();
+    }
+
+    /**
+     * bucketCount개의 그룹 중 bucket번째 그룹에 배정된 디바이스 토큰 id 구간에만 알림을 보내는 실행의 JobParameters <br/>
+     * 그룹에 배정된 구간은 {@link kr.co.pennyway.batch.partitioner.DeviceTokenIdRangePartitioner}가 파티션으로 나눈다.
+     */
+    public static JobParameters of(LocalDate baseDate, Announcement announcement, int bucket, int bucketCount) {
+        return new JobParametersBuilder(of(baseDate, announcement))
+                .addLong(BUCKET, (long) bucket)
+                .addLong(BUCKET_COUNT, (long) bucketCount)
+                .toJobParameters();
+    }
+
+    /**
+     * 리더의 펜싱 토큰을 JobInstance 식별에 사용하지 않는 파라미터로 추가한다. 토큰이 null이면 추가하지 않는다.
+     */
+    public static JobParameters withLeaderToken(JobParameters jobParameters, Long leaderToken) {
+        if (leaderToken == null) {
+            return jobParameters;
+        }
+
+        return new JobParametersBuilder(jobParameters)
+                .addLong(JobLeaderElection.LEADER_TOKEN, leaderToken, false)
+                .toJobParameters();
+    }
+
+    public static JobParametersValidator validator() {
+        return new DefaultJobParametersValidator(new String[]{BASE_DATE, ANNOUNCEMENT}, new String[]{BUCKET, BUCKET_COUNT, JobLeaderElection.LEADER_TOKEN});
+    }
+}
@@ -0,0 +1,40 @@
+package kr.co.pennyway.batch.job;
+
+import kr.co.pennyway.batch.tasklet.SpendingMonthlySummaryReconcileTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class SpendingMonthlySummaryReconcileConfig {
+    /**
+     * 실행일. 하루에 한 번 실행하며, 같은 날 실패한 실행은 다시 호출하면 재시작된다.
+     */
+    public static final String RUN_DATE = "runDate";
+
+    private final JobRepository jobRepository;
+    private final SpendingMonthlySummaryReconcileTasklet tasklet;
+
+    @Bean
+    public Job spendingMonthlySummaryReconcileJob(PlatformTransactionManager transactionManager) {
+        return new JobBuilder("spendingMonthlySummaryReconcileJob", jobRepository)
+                .start(spendingMonthlySummaryReconcileStep(transactionManager))
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step spendingMonthlySummaryReconcileStep(PlatformTransactionManager transactionManager) {
+        return new StepBuilder("reconcileSpendingMonthlySummaryStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package kr.co.pennyway.batch.listener;
+
+import kr.co.pennyway.batch.common.dispatch.NotificationDispatchQueue;
+import kr.co.pennyway.batch.common.properties.NotificationWindowProperties;
+import kr.co.pennyway.batch.job.NotificationJobParameters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 사용자 그룹별로 실행된 알림 Job이 끝나면, 그룹의 dispatcher 전달(handoff) 토큰 수와 예정 시각 대비 지연을 Job의 ExecutionContext에 기록한다.
+ * <p>
+ * 전달 토큰 수는 파티션마다 {@link NotificationDispatchQueue}가 기록한 값을 합산한다. 원격 노드에서 실행된 파티션도 포함하기 위해 JobRepository에서 다시 조회한다.
+ * 그룹 파라미터가 없는 실행은 기록하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBucketReportListener implements JobExecutionListener {
+    public static final String BUCKET_HANDOFF_COUNT = "bucket.handoffCount";
+    public static final String BUCKET_DELAY_MILLIS = "bucket.delayMillis";
+
+    private final JobExplorer jobExplorer;
+    private final NotificationWindowProperties notificationWindowProperties;
+
+    @Override
+    public void afterJob(@NonNull JobExecution jobExecution) {
+        JobParameters jobParameters = jobExecution.getJobParameters();
+        Long bucket = jobParameters.getLong(NotificationJobParameters.BUCKET);
+        Long bucketCount = jobParameters.getLong(NotificationJobParameters.BUCKET_COUNT);
+
+        if (bucket == null || bucketCount == null) {
+            return;
+        }
+
+        long handoffCount = countHandedOff(jobExecution);
+        LocalTime slot = notificationWindowProperties.slotOf(bucket.intValue());
+        LocalDateTime startTime = jobExecution.getStartTime();
+        long delayMillis = (startTime != null) ? Math.max(Duration.between(slot, startTime.toLocalTime()).toMillis(), 0L) : 0L;
+
+        jobExecution.getExecutionContext().putLong(BUCKET_HANDOFF_COUNT, handoffCount);
+        jobExecution.getExecutionContext().putLong(BUCKET_DELAY_MILLIS, delayMillis);
+        log.info("{} 그룹 {}/{} (예정 시각 {}) - handoff: {}, 지연: {}ms, 상태: {}",
+                jobExecution.getJobInstance().getJobName(), bucket, bucketCount, slot, handoffCount, delayMillis, jobExecution.getStatus());
+    }
+
+    private long countHandedOff(JobExecution jobExecution) {
+        JobExecution stored = jobExplorer.getJobExecution(jobExecution.getId());
+        if (stored == null) {
+            return 0L;
+        }
+
+        long count = 0L;
+        for (StepExecution stepExecution : stored.getStepExecutions()) {
+            count += stepExecution.getExecutionContext().getLong(NotificationDispatchQueue.HANDOFF_COUNT, 0L);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.pennyway.batch.listener;
+
+import kr.co.pennyway.infra.client.google.fcm.InvalidDeviceTokenBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job 실행 동안 비활성화된 디바이스 토큰 수를 Job의 ExecutionContext에 기록한다.
+ * <p>
+ * 푸시 알림은 비동기로 전송되므로, Job이 끝난 뒤 도착한 FCM 응답에 따른 비활성화는 다음 실행에 집계될 수 있다.
+ * 여러 Job이 동시에 실행되는 경우에는 다른 Job에서 비활성화된 토큰도 함께 집계된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrunedDeviceTokenJobListener implements JobExecutionListener {
+    public static final String PRUNED_DEVICE_TOKENS = "prunedDeviceTokens";
+    private static final String PRUNED_COUNT_AT_START = "prunedDeviceTokens.atStart";
+
+    private final InvalidDeviceTokenBuffer invalidDeviceTokenBuffer;
+
+    @Override
+    public void beforeJob(@NonNull JobExecution jobExecution) {
+        jobExecution.getExecutionContext().putLong(PRUNED_COUNT_AT_START, invalidDeviceTokenBuffer.prunedCount());
+    }
+
+    @Override
+    public void afterJob(@NonNull JobExecution jobExecution) {
+        try {
+            invalidDeviceTokenBuffer.flush();
+        } catch (RuntimeException e) {
+            log.error("유효하지 않은 디바이스 토큰을 비활성화하지 못했습니다. 다음 flush에서 재시도합니다.", e);
+        }
+
+        long pruned = invalidDeviceTokenBuffer.prunedCount() - jobExecution.getExecutionContext().getLong(PRUNED_COUNT_AT_START, 0L);
+        jobExecution.getExecutionContext().putLong(PRUNED_DEVICE_TOKENS, pruned);
+        log.info("{} 실행 동안 비활성화된 디바이스 토큰 수: {}", jobExecution.getJobInstance().getJobName(), pruned);
+    }
+}
@@ -0,0 +1,48 @@
+package kr.co.pennyway.batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Step이 끝나면 read, write 처리량을 Step의 ExecutionContext에 기록한다. <br/>
+ * 파티션의 worker Step에 등록하면 파티션별 처리량을, manager Step에 등록하면 전체 파티션을 합산한 처리량을 확인할 수 있다.
+ * 푸시 알림 전송 처리량은 {@link kr.co.pennyway.batch.common.dispatch.NotificationDispatchQueue}가 기록한다.
+ */
+@Slf4j
+@Component
+public class StepThroughputListener implements StepExecutionListener {
+    public static final String READ_COUNT = "throughput.readCount";
+    public static final String WRITE_COUNT = "throughput.writeCount";
+    public static final String ELAPSED_MILLIS = "throughput.elapsedMillis";
+    public static final String READ_PER_SECOND = "throughput.readPerSecond";
+    public static final String WRITE_PER_SECOND = "throughput.writePerSecond";
+
+    @Override
+    public ExitStatus afterStep(@NonNull StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        long elapsedMillis = (startTime != null) ? Math.max(Duration.between(startTime, LocalDateTime.now()).toMillis(), 1L) : 1L;
+        double readPerSecond = stepExecution.getReadCount() * 1000.0 / elapsedMillis;
+        double writePerSecond = stepExecution.getWriteCount() * 1000.0 / elapsedMillis;
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(READ_COUNT, stepExecution.getReadCount());
+        context.putLong(WRITE_COUNT, stepExecution.getWriteCount());
+        context.putLong(ELAPSED_MILLIS, elapsedMillis);
+        context.putDouble(READ_PER_SECOND, readPerSecond);
+        context.putDouble(WRITE_PER_SECOND, writePerSecond);
+
+        log.info("{} 처리량 - read: {} ({}/s), write: {} ({}/s), elapsed: {}ms",
+                stepExecution.getStepName(), stepExecution.getReadCount(), String.format("%.1f", readPerSecond),
+                stepExecution.getWriteCount(), String.format("%.1f", writePerSecond), elapsedMillis);
+
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,128 @@
+package kr.co.pennyway.batch.partitioner;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.pennyway.batch.common.properties.NotificationWindowProperties;
+import kr.co.pennyway.batch.job.NotificationJobParameters;
+import kr.co.pennyway.domain.domains.device.domain.QDeviceToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 활성화된 디바이스 토큰의 id 범위를 gridSize개의 연속된 구간으로 나누는 {@link Partitioner} <br/>
+ * 각 파티션의 ExecutionContext에는 구간의 시작({@link #MIN_ID})과 끝({@link #MAX_ID}) id가 저장되며, 두 값 모두 구간에 포함된다.
+ * <p>
+ * 구간은 id 값을 기준으로 균등하게 나누므로, id가 듬성듬성한 구간의 파티션은 다른 파티션보다 적은 토큰을 처리할 수 있다.
+ * 재시작 시에는 이전 실행의 ExecutionContext를 그대로 사용하므로, 이 클래스는 다시 호출되지 않는다.
+ * <p>
+ * Job에 {@link NotificationJobParameters#BUCKET} 파라미터가 있다면, gridSize와 관계없이 해당 그룹에 배정된 id 구간마다 하나의 파티션을 만든다.
+ * 그룹의 구간은 {@link NotificationWindowProperties#stripeSize()} 단위로 자른 id 구간 중, 구간 번호를 그룹 수로 나눈 나머지가 그룹 번호와 같은 구간이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceTokenIdRangePartitioner implements Partitioner {
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+    private static final String PARTITION_PREFIX = "partition";
+
+    private final EntityManagerFactory emf;
+    private final NotificationWindowProperties notificationWindowProperties;
+
+    private final QDeviceToken deviceToken = QDeviceToken.deviceToken;
+
+    @Override
+    @NonNull
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Tuple range = findIdRange();
+        Long min = range != null ? range.get(deviceToken.id.min()) : null;
+        Long max = range != null ? range.get(deviceToken.id.max()) : null;
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        if (min == null || max == null) {
+            partitions.put(PARTITION_PREFIX + 0, createContext(0L, -1L));
+            return partitions;
+        }
+
+        JobParameters jobParameters = currentJobParameters();
+        Long bucket = jobParameters.getLong(NotificationJobParameters.BUCKET);
+        Long bucketCount = jobParameters.getLong(NotificationJobParameters.BUCKET_COUNT);
+
+        if (bucket != null && bucketCount != null) {
+            return partitionBucket(min, max, bucket, bucketCount);
+        }
+
+        long targetSize = (max - min) / gridSize + 1;
+
+        int number = 0;
+        for (long start = min; start <= max; start += targetSize) {
+            long end = Math.min(start + targetSize - 1, max);
+            partitions.put(PARTITION_PREFIX + number++, createContext(start, end));
+        }
+
+        log.info("디바이스 토큰 id 범위 [{}, {}]를 {}개의 파티션으로 나눕니다.", min, max, partitions.size());
+        return partitions;
+    }
+
+    /**
+     * [min, max]에 걸친 id 구간 중 bucket번째 그룹에 배정된 구간을 파티션으로 만든다.
+     */
+    private Map<String, ExecutionContext> partitionBucket(long min, long max, long bucket, long bucketCount) {
+        long stripeSize = notificationWindowProperties.stripeSize();
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        long firstStripe = min / stripeSize;
+        int number = 0;
+        for (long stripe = firstStripe + Math.floorMod(bucket - firstStripe, bucketCount); stripe <= max / stripeSize; stripe += bucketCount) {
+            long start = Math.max(stripe * stripeSize, min);
+            long end = Math.min(stripe * stripeSize + stripeSize - 1, max);
+            partitions.put(PARTITION_PREFIX + number++, createContext(start, end));
+        }
+
+        if (partitions.isEmpty()) {
+            partitions.put(PARTITION_PREFIX + 0, createContext(0L, -1L));
+        }
+
+        log.info("디바이스 토큰 id 범위 [{}, {}] 중 {}/{}번 그룹의 구간을 {}개의 파티션으로 나눕니다.", min, max, bucket, bucketCount, partitions.size());
+        return partitions;
+    }
+
+    private JobParameters currentJobParameters() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return (context != null) ? context.getStepExecution().getJobParameters() : new JobParameters();
+    }
+
+    private Tuple findIdRange() {
+        EntityManager entityManager = emf.createEntityManager();
+
+        try {
+            return new JPAQueryFactory(entityManager)
+                    .select(deviceToken.id.min(), deviceToken.id.max())
+                    .from(deviceToken)
+                    .where(deviceToken.activated.isTrue())
+                    .fetchOne();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private ExecutionContext createContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
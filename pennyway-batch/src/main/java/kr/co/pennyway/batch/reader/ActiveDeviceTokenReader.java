@@ -2,18 +2,24 @@ package kr.co.pennyway.batch.reader;
 
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import jakarta.persistence.EntityManagerFactory;
 import kr.co.pennyway.batch.common.dto.DeviceTokenOwner;
+import kr.co.pennyway.batch.common.reader.QuerydslCursorItemReader;
+import kr.co.pennyway.batch.common.reader.QuerydslCursorItemReaderBuilder;
 import kr.co.pennyway.batch.common.reader.QuerydslNoOffsetPagingItemReader;
 import kr.co.pennyway.batch.common.reader.QuerydslNoOffsetPagingItemReaderBuilder;
 import kr.co.pennyway.batch.common.reader.expression.Expression;
 import kr.co.pennyway.batch.common.reader.options.QuerydslNoOffsetNumberOptions;
 import kr.co.pennyway.batch.common.reader.options.QuerydslNoOffsetOptions;
+import kr.co.pennyway.batch.job.NotificationJobParameters;
+import kr.co.pennyway.batch.partitioner.DeviceTokenIdRangePartitioner;
 import kr.co.pennyway.domain.domains.device.domain.QDeviceToken;
 import kr.co.pennyway.domain.domains.user.domain.QUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
@@ -28,11 +34,19 @@ public class ActiveDeviceTokenReader {
     private final QUser user = QUser.user;
     private final QDeviceToken deviceToken = QDeviceToken.deviceToken;
 
+    /**
+     * {@link DeviceTokenIdRangePartitioner}가 나눈 디바이스 토큰 id 구간 [minId, maxId]에 속한 활성 디바이스 토큰을 조회한다. <br/>
+     * {@link NotificationJobParameters#BUCKET} 파라미터로 디바이스 토큰을 그룹으로 나누는 경우에도, 그룹에 배정된 id 구간은 파티셔너가 나누므로 PK 범위로만 조회한다. <br/>
+     * 파티션마다 별도의 인스턴스가 생성되므로, 파티션의 worker Step에서만 사용해야 한다.
+     */
     @Bean
     @StepScope
-    public QuerydslNoOffsetPagingItemReader<DeviceTokenOwner> querydslNoOffsetPagingItemReader() {
+    public QuerydslNoOffsetPagingItemReader<DeviceTokenOwner> querydslNoOffsetPagingItemReader(
+            @Value("#{stepExecutionContext['" + DeviceTokenIdRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + DeviceTokenIdRangePartitioner.MAX_ID + "']}") Long maxId
+    ) {
         QuerydslNoOffsetOptions<DeviceTokenOwner> options = QuerydslNoOffsetNumberOptions.of(deviceToken.id, Expression.ASC, "deviceTokenId");
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
+        BooleanExpression condition = createActiveCondition(minId, maxId);
 
         return QuerydslNoOffsetPagingItemReaderBuilder.<DeviceTokenOwner>builder()
                 .entityManagerFactory(emf)
@@ -42,14 +56,47 @@ public class ActiveDeviceTokenReader {
                         .select(createConstructorExpression())
                         .from(deviceToken)
                         .innerJoin(user).on(deviceToken.user.id.eq(user.id))
-                        .where(deviceToken.activated.isTrue()
-                                .and(user.notifySetting.accountBookNotify.isTrue())
-                                .and(deviceToken.lastSignedInAt.goe(sevenDaysAgo)))
+                        .where(condition)
                 )
-                .idSelectQuery(queryFactory -> queryFactory.select(createConstructorExpression()).from(deviceToken))
+                .idSelectQuery(queryFactory -> queryFactory
+                        .select(createConstructorExpression())
+                        .from(deviceToken)
+                        .where(deviceToken.id.between(minId, maxId)))
                 .build();
     }
 
+    /**
+     * {@link #querydslNoOffsetPagingItemReader(Long, Long)}와 같은 디바이스 토큰을 하나의 커서로 조회한다. <br/>
+     * 페이지마다 쿼리를 다시 실행하지 않으므로 조회 비용은 적지만, Step이 끝날 때까지 DB 커넥션 하나를 점유한다. <br/>
+     * 공용 커넥션 풀에는 {@code useCursorFetch}가 설정되어 있지 않으므로, Job에서 사용하려면 {@link QuerydslCursorItemReader}의 설명대로 별도의 DataSource를 구성해야 한다.
+     */
+    @Bean
+    @StepScope
+    public QuerydslCursorItemReader<DeviceTokenOwner, Long> querydslCursorItemReader(
+            @Value("#{stepExecutionContext['" + DeviceTokenIdRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + DeviceTokenIdRangePartitioner.MAX_ID + "']}") Long maxId
+    ) {
+        BooleanExpression condition = createActiveCondition(minId, maxId);
+
+        return QuerydslCursorItemReaderBuilder.<DeviceTokenOwner>builder()
+                .entityManagerFactory(emf)
+                .fetchSize(1000)
+                .key(deviceToken.id, DeviceTokenOwner::deviceTokenId)
+                .queryFunction(queryFactory -> queryFactory
+                        .select(createConstructorExpression())
+                        .from(deviceToken)
+                        .innerJoin(user).on(deviceToken.user.id.eq(user.id))
+                        .where(condition)
+                );
+    }
+
+    private BooleanExpression createActiveCondition(Long minId, Long maxId) {
+        return deviceToken.activated.isTrue()
+                .and(user.notifySetting.accountBookNotify.isTrue())
+                .and(deviceToken.lastSignedInAt.goe(LocalDateTime.now().minusDays(7)))
+                .and(deviceToken.id.between(minId, maxId));
+    }
+
     private ConstructorExpression<DeviceTokenOwner> createConstructorExpression() {
         return Projections.constructor(
                 DeviceTokenOwner.class,
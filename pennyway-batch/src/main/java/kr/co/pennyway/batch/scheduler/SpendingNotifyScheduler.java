@@ -1,51 +1,139 @@
 package kr.co.pennyway.batch.scheduler;
 
+import kr.co.pennyway.batch.common.leader.JobLeaderElection;
+import kr.co.pennyway.batch.common.properties.NotificationWindowProperties;
+import kr.co.pennyway.batch.job.NotificationJobParameters;
+import kr.co.pennyway.batch.job.SpendingMonthlySummaryReconcileConfig;
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job은 여러 배치 노드가 같은 시각에 트리거하더라도 {@link JobLeaderElection}으로 선출된 하나의 노드만 실행한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SpendingNotifyScheduler {
+    private static final Set<BatchStatus> RESTARTABLE_STATUSES = EnumSet.of(BatchStatus.FAILED, BatchStatus.STOPPED);
+
     private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobLeaderElection jobLeaderElection;
+    private final NotificationWindowProperties notificationWindowProperties;
     private final Job dailyNotificationJob;
     private final Job monthlyNotificationJob;
+    private final Job spendingMonthlySummaryReconcileJob;
+    private final Set<Long> abandonedJobInstanceIds = ConcurrentHashMap.newKeySet();
+    private LocalDate abandonedDate;
 
-    @Scheduled(cron = "0 0 20 * * ?")
+    /**
+     * 디바이스 토큰을 {@link NotificationWindowProperties#buckets()}개의 그룹으로 나누고, 보낼 시각이 된 그룹마다 Job을 실행한다. <br/>
+     * 매분 호출되며, 아직 실행되지 않은 그룹과 마지막 실행이 실패({@link BatchStatus#FAILED})하거나 중단({@link BatchStatus#STOPPED})된 그룹을 실행한다.
+     * 노드가 멈춰 놓친 그룹은 다음 호출에서 이어서 실행하고, 실패하거나 중단된 그룹은 같은 JobParameters로 재시작하여 완료되지 않은 파티션만 다시 처리한다.
+     * 실패한 그룹은 {@link NotificationWindowProperties#backoffAfter(int)}만큼 기다린 뒤 재시작하며, {@link NotificationWindowProperties#maxAttempts()}번 실행한 그룹은 그날 더 이상 실행하지 않는다.
+     * 실행 중이거나 완료된 그룹은 실행하지 않는다.
+     */
+    @Scheduled(cron = "0 * * * * ?")
     public void runDailyNotificationJob() {
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
+        LocalDateTime now = LocalDateTime.now();
+        int dueBuckets = notificationWindowProperties.dueBuckets(now.toLocalTime());
 
-        try {
-            jobLauncher.run(dailyNotificationJob, jobParameters);
-        } catch (JobExecutionAlreadyRunningException | JobRestartException
-                 | JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
-            log.error("Failed to run dailyNotificationJob", e);
+        if (!now.toLocalDate().equals(abandonedDate)) {
+            abandonedJobInstanceIds.clear();
+            abandonedDate = now.toLocalDate();
+        }
+
+        for (int bucket = 0; bucket < dueBuckets; ++bucket) {
+            JobParameters jobParameters = NotificationJobParameters.of(now.toLocalDate(), Announcement.DAILY_SPENDING, bucket, notificationWindowProperties.buckets());
+
+            if (isLaunchable(dailyNotificationJob, jobParameters, now)) {
+                runAsLeader(dailyNotificationJob, jobParameters);
+            }
         }
     }
 
+    /**
+     * 같은 날짜로 다시 호출하면 중단된 실행을 마지막으로 커밋된 chunk 이후부터 재시작하며, 이미 완료된 경우 실행하지 않는다.
+     */
     @Scheduled(cron = "0 0 10 1 * ?")
     public void runMonthlyNotificationJob() {
+        runAsLeader(monthlyNotificationJob, NotificationJobParameters.of(LocalDate.now(), Announcement.MONTHLY_TARGET_AMOUNT));
+    }
+
+    /**
+     * 실행일로 JobInstance를 식별하므로, 여러 노드에서 트리거되거나 다시 호출되더라도 하루에 한 번만 완료된다.
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void runSpendingMonthlySummaryReconcileJob() {
         JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
+                .addLocalDate(SpendingMonthlySummaryReconcileConfig.RUN_DATE, LocalDate.now())
                 .toJobParameters();
 
+        runAsLeader(spendingMonthlySummaryReconcileJob, jobParameters);
+    }
+
+    /**
+     * JobInstance가 없거나, 마지막 실행이 실패 또는 중단되어 실행 중인 실행이 없고 재시작을 기다리는 시간이 지난 경우 true <br/>
+     * 실행 횟수가 {@link NotificationWindowProperties#maxAttempts()}에 도달하면 재시작을 포기하고, JobInstance마다 한 번 에러 로그를 남긴다.
+     */
+    private boolean isLaunchable(Job job, JobParameters jobParameters, LocalDateTime now) {
+        JobInstance jobInstance = jobExplorer.getJobInstance(job.getName(), jobParameters);
+        if (jobInstance == null) {
+            return true;
+        }
+
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(jobInstance);
+        if (lastExecution == null || !RESTARTABLE_STATUSES.contains(lastExecution.getStatus())) {
+            return false;
+        }
+
+        int attempts = jobExplorer.getJobExecutions(jobInstance).size();
+        if (attempts >= notificationWindowProperties.maxAttempts()) {
+            if (abandonedJobInstanceIds.add(jobInstance.getInstanceId())) {
+                log.error("{} gave up after {} attempts. last status: {}, parameters: {}", job.getName(), attempts, lastExecution.getStatus(), jobParameters);
+            }
+            return false;
+        }
+
+        LocalDateTime endTime = lastExecution.getEndTime();
+        return endTime == null || !now.isBefore(endTime.plus(notificationWindowProperties.backoffAfter(attempts)));
+    }
+
+    private void runAsLeader(Job job, JobParameters jobParameters) {
+        jobLeaderElection.runIfLeader(job.getName(), leaderToken -> launch(job, NotificationJobParameters.withLeaderToken(jobParameters, leaderToken)));
+    }
+
+    private void launch(Job job, JobParameters jobParameters) {
         try {
-            jobLauncher.run(monthlyNotificationJob, jobParameters);
-        } catch (JobExecutionAlreadyRunningException | JobRestartException
-                 | JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
-            log.error("Failed to run monthlyNotificationJob", e);
+            jobLauncher.run(job, jobParameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("{} is already completed. parameters: {}", job.getName(), jobParameters);
+        } catch (DuplicateKeyException e) {
+            log.info("{} is already launched by another node. parameters: {}", job.getName(), jobParameters);
+        } catch (JobExecutionAlreadyRunningException | JobRestartException | JobParametersInvalidException e) {
+            log.error("Failed to run {}", job.getName(), e);
         }
     }
 }
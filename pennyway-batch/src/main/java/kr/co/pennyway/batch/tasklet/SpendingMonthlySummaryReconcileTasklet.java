@@ -0,0 +1,46 @@
+package kr.co.pennyway.batch.tasklet;
+
+import kr.co.pennyway.domain.domains.spending.repository.SpendingMonthlySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * 년/월별 지출 집계 데이터(spending_monthly_summary)를 지출 내역 원본으로부터 다시 계산하는 Tasklet <br/>
+ * 재계산 전에 원본과 값이 다른 집계 데이터의 개수(drift)를 조회하여 로그와 StepExecution의 ExecutionContext에 남긴다. <br/>
+ * 지출 내역이 있는 모든 사용자의 초기화 표식을 먼저 생성하므로, 집계 테이블 배포 직후 수동으로 실행하면 기존 지출 내역의 backfill로 사용할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendingMonthlySummaryReconcileTasklet implements Tasklet {
+    public static final String DRIFT_COUNT_KEY = "driftCount";
+
+    private final SpendingMonthlySummaryRepository spendingMonthlySummaryRepository;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        long drift = spendingMonthlySummaryRepository.countDrift();
+
+        if (drift > 0) {
+            log.warn("지출 집계 데이터와 원본이 일치하지 않습니다. drift: {}", drift);
+        } else {
+            log.info("지출 집계 데이터와 원본이 일치합니다.");
+        }
+
+        int marked = spendingMonthlySummaryRepository.insertMissingMarkers();
+        int upserted = spendingMonthlySummaryRepository.rebuildAll();
+        int deleted = spendingMonthlySummaryRepository.deleteAllOrphans();
+        log.info("지출 집계 데이터 재계산 완료. marker: {}, upsert: {}, delete: {}", marked, upserted, deleted);
+
+        contribution.getStepExecution().getExecutionContext().putLong(DRIFT_COUNT_KEY, drift);
+        contribution.incrementWriteCount(upserted + deleted);
+
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -1,7 +1,10 @@
 package kr.co.pennyway.batch.writer;
 
+import kr.co.pennyway.batch.common.dispatch.NotificationDispatchQueue;
 import kr.co.pennyway.batch.common.dto.AnnounceNotificationDto;
 import kr.co.pennyway.batch.common.dto.DeviceTokenOwner;
+import kr.co.pennyway.batch.common.template.AnnouncementRenderer;
+import kr.co.pennyway.batch.common.template.AnnouncementRendererRegistry;
 import kr.co.pennyway.domain.domains.notification.repository.NotificationRepository;
 import kr.co.pennyway.domain.domains.notification.type.Announcement;
 import kr.co.pennyway.infra.common.event.NotificationEvent;
@@ -10,7 +13,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +27,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MonthlyTotalAmountNotifyWriter implements ItemWriter<DeviceTokenOwner> {
     private final NotificationRepository notificationRepository;
-    private final ApplicationEventPublisher publisher;
+    private final NotificationDispatchQueue notificationDispatchQueue;
+    private final AnnouncementRendererRegistry announcementRendererRegistry;
 
     @Override
     @StepScope
@@ -33,18 +36,22 @@ public class MonthlyTotalAmountNotifyWriter implements ItemWriter<DeviceTokenOwn
     public void write(@NonNull Chunk<? extends DeviceTokenOwner> owners) throws Exception {
         log.info("Writer 실행: {}", owners.size());
 
+        AnnouncementRenderer renderer = announcementRendererRegistry.get(Announcement.MONTHLY_TARGET_AMOUNT);
         Map<Long, AnnounceNotificationDto> notificationMap = new HashMap<>();
 
         for (DeviceTokenOwner owner : owners) {
-            notificationMap.computeIfAbsent(owner.userId(), k -> AnnounceNotificationDto.from(owner, Announcement.MONTHLY_TARGET_AMOUNT)).addDeviceToken(owner.deviceToken());
+            notificationMap.computeIfAbsent(owner.userId(), k -> AnnounceNotificationDto.from(owner, renderer)).addDeviceToken(owner.deviceToken());
         }
 
         List<Long> userIds = new ArrayList<>(notificationMap.keySet());
 
         notificationRepository.saveDailySpendingAnnounceInBulk(userIds, Announcement.MONTHLY_TARGET_AMOUNT);
 
+        List<NotificationEvent> events = new ArrayList<>(notificationMap.size());
         for (AnnounceNotificationDto notification : notificationMap.values()) {
-            publisher.publishEvent(NotificationEvent.of(notification.title(), notification.content(), notification.deviceTokensForList(), ""));
+            events.add(NotificationEvent.of(notification.title(), notification.content(), notification.deviceTokensForList(), "", Announcement.MONTHLY_TARGET_AMOUNT.name()));
         }
+
+        notificationDispatchQueue.enqueueAfterCommit(events);
     }
 }
@@ -0,0 +1,171 @@
+package kr.co.pennyway.batch.common.dispatch;
+
+import kr.co.pennyway.infra.client.google.fcm.FcmMulticastDispatcher;
+import kr.co.pennyway.infra.common.event.NotificationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class NotificationDispatchQueueTest {
+    private final FcmMulticastDispatcher dispatcher = mock(FcmMulticastDispatcher.class);
+    private final AtomicInteger dispatched = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private NotificationDispatchQueue queue;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        StepSynchronizationManager.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        queue.destroy();
+    }
+
+    @Test
+    @DisplayName("대기열에 capacity개의 알림이 쌓이면, 자리가 날 때까지 알림을 넣는 스레드가 대기한다.")
+    public void blockEnqueueWhenFull() throws Exception {
+        // given
+        blockDispatcher();
+        queue = new NotificationDispatchQueue(dispatcher, 2, 1, 1000);
+
+        // when
+        CompletableFuture<Void> enqueue = CompletableFuture.runAsync(() -> queue.enqueueAfterCommit(events(5)));
+
+        // then
+        assertThrows(TimeoutException.class, () -> enqueue.get(300, TimeUnit.MILLISECONDS), "대기열이 가득 차면 대기해야 한다.");
+        assertEquals(0, dispatched.get());
+
+        release.countDown();
+        enqueue.get(5, TimeUnit.SECONDS);
+        assertTrue(await(() -> dispatched.get() == 5), "자리가 나면 모든 알림이 dispatcher로 넘어가야 한다.");
+    }
+
+    @Test
+    @DisplayName("Step이 끝나면 남은 알림이 모두 dispatcher로 넘어갈 때까지 기다리고, 넘긴 디바이스 토큰 수를 기록한다.")
+    public void drainBeforeStepEnds() {
+        // given
+        doAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(20);
+            dispatched.incrementAndGet();
+            return null;
+        }).when(dispatcher).dispatch(any());
+        queue = new NotificationDispatchQueue(dispatcher, 100, 2, 5000);
+        StepExecution stepExecution = startStep();
+
+        // when
+        queue.enqueueAfterCommit(events(10));
+        queue.afterStep(stepExecution);
+
+        // then
+        assertEquals(10, dispatched.get(), "afterStep이 끝나기 전에 모든 알림이 넘어가야 한다.");
+        assertEquals(20L, stepExecution.getExecutionContext().getLong(NotificationDispatchQueue.HANDOFF_COUNT));
+    }
+
+    @Test
+    @DisplayName("Step이 끝날 때 drain-timeout 안에 알림이 모두 넘어가지 않으면, 기다리지 않고 넘긴 만큼만 기록한다.")
+    public void stopWaitingAfterDrainTimeout() {
+        // given
+        blockDispatcher();
+        queue = new NotificationDispatchQueue(dispatcher, 100, 1, 200);
+        StepExecution stepExecution = startStep();
+        queue.enqueueAfterCommit(events(3));
+
+        // when
+        long start = System.nanoTime();
+        queue.afterStep(stepExecution);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMillis >= 200 && elapsedMillis < 2000, "drain-timeout만큼만 기다려야 한다. elapsed: " + elapsedMillis);
+        assertEquals(0L, stepExecution.getExecutionContext().getLong(NotificationDispatchQueue.HANDOFF_COUNT));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 넣은 알림은 커밋된 후에만 dispatcher로 넘어가고, 롤백되면 버려진다.")
+    public void enqueueOnlyAfterCommit() {
+        // given
+        doAnswer(invocation -> dispatched.incrementAndGet()).when(dispatcher).dispatch(any());
+        queue = new NotificationDispatchQueue(dispatcher, 100, 1, 1000);
+
+        // when - 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        queue.enqueueAfterCommit(events(2));
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when - 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        queue.enqueueAfterCommit(events(3));
+        boolean dispatchedBeforeCommit = await(() -> dispatched.get() > 0, 200);
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // then
+        assertFalse(dispatchedBeforeCommit, "커밋 전에는 넘어가지 않아야 한다.");
+        assertTrue(await(() -> dispatched.get() == 3), "커밋된 알림만 넘어가야 한다.");
+        assertFalse(await(() -> dispatched.get() > 3, 200), "롤백된 알림은 넘어가지 않아야 한다.");
+    }
+
+    private void blockDispatcher() {
+        doAnswer(invocation -> {
+            release.await();
+            dispatched.incrementAndGet();
+            return null;
+        }).when(dispatcher).dispatch(any());
+    }
+
+    private StepExecution startStep() {
+        StepExecution stepExecution = new StepExecution("sendNotificationStep", new JobExecution(1L), 1L);
+        StepSynchronizationManager.register(stepExecution);
+        queue.beforeStep(stepExecution);
+        return stepExecution;
+    }
+
+    private List<NotificationEvent> events(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> NotificationEvent.of("title", "content", List.of("token" + i + "-1", "token" + i + "-2"), null))
+                .toList();
+    }
+
+    private boolean await(BooleanSupplier condition) {
+        return await(condition, 5000);
+    }
+
+    private boolean await(BooleanSupplier condition, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+}
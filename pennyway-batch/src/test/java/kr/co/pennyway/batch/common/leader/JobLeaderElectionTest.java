@@ -0,0 +1,111 @@
+package kr.co.pennyway.batch.common.leader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RFencedLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class JobLeaderElectionTest {
+    private static final String JOB_NAME = "dailyNotificationJob";
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    private final RFencedLock lock = mock(RFencedLock.class);
+    private final List<Long> tokens = new ArrayList<>();
+    private JobLeaderElection jobLeaderElection;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(lock).when(redissonClient).getFencedLock(anyString());
+        jobLeaderElection = new JobLeaderElection(provider(redissonClient));
+    }
+
+    @Test
+    @DisplayName("락을 획득한 노드는 펜싱 토큰을 전달하여 task를 실행하고, 끝나면 락을 해제한다.")
+    public void runWithTokenWhenElected() {
+        // given
+        when(lock.tryLockAndGetToken()).thenReturn(3L);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+
+        // when
+        boolean executed = jobLeaderElection.runIfLeader(JOB_NAME, tokens::add);
+
+        // then
+        assertTrue(executed);
+        assertEquals(List.of(3L), tokens);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리더라면 task를 실행하지 않는다.")
+    public void skipWhenNotElected() {
+        // given
+        when(lock.tryLockAndGetToken()).thenReturn(null);
+
+        // when
+        boolean executed = jobLeaderElection.runIfLeader(JOB_NAME, tokens::add);
+
+        // then
+        assertFalse(executed);
+        assertTrue(tokens.isEmpty());
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("task를 실행하는 동안 락을 잃었다면, 다른 노드의 락을 해제하지 않는다.")
+    public void keepOtherLeaderLockWhenLeadershipLost() {
+        // given
+        when(lock.tryLockAndGetToken()).thenReturn(3L);
+        when(lock.isHeldByCurrentThread()).thenReturn(false);
+
+        // when
+        jobLeaderElection.runIfLeader(JOB_NAME, tokens::add);
+
+        // then
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("현재 토큰보다 작은 토큰은 이전 리더의 토큰이다.")
+    public void detectStaleToken() {
+        // given
+        when(lock.getToken()).thenReturn(5L);
+
+        // when - then
+        assertTrue(jobLeaderElection.isStale(JOB_NAME, 4L));
+        assertFalse(jobLeaderElection.isStale(JOB_NAME, 5L));
+        assertFalse(jobLeaderElection.isStale(JOB_NAME, null), "토큰이 없는 요청은 수동으로 실행된 Job이므로 확인하지 않는다.");
+    }
+
+    @Test
+    @DisplayName("RedissonClient가 없으면 토큰 없이 바로 task를 실행하고, 어떤 토큰도 이전 리더의 토큰으로 보지 않는다.")
+    public void runWithoutRedisson() {
+        // given
+        JobLeaderElection local = new JobLeaderElection(provider(null));
+
+        // when
+        boolean executed = local.runIfLeader(JOB_NAME, tokens::add);
+
+        // then
+        assertTrue(executed);
+        assertEquals(1, tokens.size());
+        assertNull(tokens.get(0));
+        assertFalse(local.isStale(JOB_NAME, 1L));
+        verifyNoInteractions(redissonClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<RedissonClient> provider(RedissonClient redissonClient) {
+        ObjectProvider<RedissonClient> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redissonClient);
+        return provider;
+    }
+}
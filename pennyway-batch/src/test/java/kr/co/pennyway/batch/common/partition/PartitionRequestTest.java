@@ -0,0 +1,42 @@
+package kr.co.pennyway.batch.common.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PartitionRequestTest {
+    @Test
+    @DisplayName("리더 토큰이 있는 요청을 직렬화한 뒤 다시 파싱하면 같은 요청이 된다.")
+    public void serializeWithLeaderToken() {
+        // given
+        PartitionRequest request = new PartitionRequest(1L, 2L, "dailyNotificationWorkerStep", 3L);
+
+        // when
+        PartitionRequest parsed = PartitionRequest.parse(request.serialize());
+
+        // then
+        assertEquals(request, parsed);
+    }
+
+    @Test
+    @DisplayName("리더 토큰이 없는 요청은 토큰을 비워서 직렬화하고, 파싱하면 null이 된다.")
+    public void serializeWithoutLeaderToken() {
+        // given
+        PartitionRequest request = new PartitionRequest(1L, 2L, "dailyNotificationWorkerStep", null);
+
+        // when
+        String message = request.serialize();
+
+        // then
+        assertEquals("1:2:dailyNotificationWorkerStep:", message);
+        assertEquals(request, PartitionRequest.parse(message));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 요청은 파싱할 수 없다.")
+    public void parseInvalidMessage() {
+        assertThrows(IllegalArgumentException.class, () -> PartitionRequest.parse("1:2:dailyNotificationWorkerStep"));
+    }
+}
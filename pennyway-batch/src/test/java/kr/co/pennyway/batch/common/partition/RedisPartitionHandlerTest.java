@@ -0,0 +1,109 @@
+package kr.co.pennyway.batch.common.partition;
+
+import kr.co.pennyway.batch.common.leader.JobLeaderElection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBlockingQueue;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class RedisPartitionHandlerTest {
+    private static final String STEP_BEAN_NAME = "dailyNotificationWorkerStep";
+
+    @SuppressWarnings("unchecked")
+    private final RBlockingQueue<String> queue = mock(RBlockingQueue.class);
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final List<String> requests = new ArrayList<>();
+
+    @Test
+    @DisplayName("모든 파티션을 리더 토큰과 함께 큐에 요청하고, 원격 노드가 기록한 파티션의 실행 결과를 반환한다.")
+    public void requestPartitionsAndReturnResults() throws Exception {
+        // given
+        captureRequests();
+        JobExecution jobExecution = jobExecution(7L);
+        StepExecution manager = new StepExecution("sendSpendingNotifyStep", jobExecution, 1L);
+        Set<StepExecution> partitions = Set.of(partition(jobExecution, 2L), partition(jobExecution, 3L));
+        when(jobExplorer.getStepExecution(eq(jobExecution.getId()), anyLong())).thenAnswer(invocation -> {
+            StepExecution finished = partition(jobExecution, invocation.getArgument(1));
+            finished.setStatus(BatchStatus.COMPLETED);
+            return finished;
+        });
+        RedisPartitionHandler handler = new RedisPartitionHandler(queue, jobExplorer, STEP_BEAN_NAME, 2, 5000);
+
+        // when
+        Set<StepExecution> results = handler.doHandle(manager, partitions);
+
+        // then
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == BatchStatus.COMPLETED));
+        assertEquals(2, requests.size());
+        assertTrue(requests.contains(new PartitionRequest(jobExecution.getId(), 2L, STEP_BEAN_NAME, 7L).serialize()));
+        assertTrue(requests.contains(new PartitionRequest(jobExecution.getId(), 3L, STEP_BEAN_NAME, 7L).serialize()));
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않은 파티션이 있으면 TimeoutException이 발생한다.")
+    public void timeoutWhenPartitionNotFinished() {
+        // given
+        captureRequests();
+        JobExecution jobExecution = jobExecution(7L);
+        StepExecution manager = new StepExecution("sendSpendingNotifyStep", jobExecution, 1L);
+        StepExecution running = partition(jobExecution, 2L);
+        running.setStatus(BatchStatus.STARTED);
+        when(jobExplorer.getStepExecution(jobExecution.getId(), 2L)).thenReturn(running);
+        RedisPartitionHandler handler = new RedisPartitionHandler(queue, jobExplorer, STEP_BEAN_NAME, 1, 0);
+
+        // when - then
+        assertThrows(TimeoutException.class, () -> handler.doHandle(manager, Set.of(running)));
+    }
+
+    @Test
+    @DisplayName("수동으로 실행되어 리더 토큰이 없는 Job의 파티션은 토큰을 비워서 요청한다.")
+    public void requestWithoutLeaderToken() throws Exception {
+        // given
+        captureRequests();
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "dailyNotificationJob"), 10L, new JobParametersBuilder().toJobParameters());
+        StepExecution manager = new StepExecution("sendSpendingNotifyStep", jobExecution, 1L);
+        StepExecution partition = partition(jobExecution, 2L);
+        StepExecution finished = partition(jobExecution, 2L);
+        finished.setStatus(BatchStatus.FAILED);
+        when(jobExplorer.getStepExecution(jobExecution.getId(), 2L)).thenReturn(finished);
+        RedisPartitionHandler handler = new RedisPartitionHandler(queue, jobExplorer, STEP_BEAN_NAME, 1, 5000);
+
+        // when
+        Set<StepExecution> results = handler.doHandle(manager, Set.of(partition));
+
+        // then
+        assertEquals(BatchStatus.FAILED, results.iterator().next().getStatus(), "실패한 파티션도 끝난 것으로 보고 결과를 반환해야 한다.");
+        assertEquals(List.of(new PartitionRequest(jobExecution.getId(), 2L, STEP_BEAN_NAME, null).serialize()), requests);
+    }
+
+    private void captureRequests() {
+        doAnswer(invocation -> requests.add(invocation.getArgument(0))).when(queue).add(anyString());
+    }
+
+    private JobExecution jobExecution(long leaderToken) {
+        return new JobExecution(new JobInstance(1L, "dailyNotificationJob"), 10L, new JobParametersBuilder()
+                .addLong(JobLeaderElection.LEADER_TOKEN, leaderToken, false)
+                .toJobParameters());
+    }
+
+    private StepExecution partition(JobExecution jobExecution, long id) {
+        return new StepExecution("sendSpendingNotifyWorkerStep:partition" + id, jobExecution, id);
+    }
+}
@@ -0,0 +1,129 @@
+package kr.co.pennyway.batch.common.partition;
+
+import kr.co.pennyway.batch.common.leader.JobLeaderElection;
+import kr.co.pennyway.batch.common.properties.PartitionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBlockingQueue;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.context.ApplicationContext;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class RemotePartitionWorkerTest {
+    private static final String JOB_NAME = "dailyNotificationJob";
+    private static final String STEP_BEAN_NAME = "dailyNotificationWorkerStep";
+
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    @SuppressWarnings("unchecked")
+    private final RBlockingQueue<String> queue = mock(RBlockingQueue.class);
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobLeaderElection jobLeaderElection = mock(JobLeaderElection.class);
+    private final Step workerStep = mock(Step.class);
+    private final ConcurrentLinkedQueue<String> messages = new ConcurrentLinkedQueue<>();
+    private RemotePartitionWorker worker;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        doReturn(queue).when(redissonClient).getBlockingQueue(anyString(), any(Codec.class));
+        when(queue.poll(anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            String message = messages.poll();
+            if (message == null) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            return message;
+        });
+        when(applicationContext.getBean(STEP_BEAN_NAME, Step.class)).thenReturn(workerStep);
+
+        PartitionProperties properties = new PartitionProperties(4, 1, 16, true, "batch:partition:requests", 3600000);
+        worker = new RemotePartitionWorker(applicationContext, redissonClient, jobExplorer, jobRepository, jobLeaderElection, properties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        worker.stop();
+    }
+
+    @Test
+    @DisplayName("큐에서 가져온 파티션 요청을 worker Step으로 실행한다.")
+    public void executeRequestedPartition() throws Exception {
+        // given
+        StepExecution partition = partition(BatchStatus.STARTING);
+        request(partition, 3L);
+
+        // when
+        worker.start();
+
+        // then
+        verify(workerStep, timeout(5000)).execute(partition);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 실행한 파티션은 건너뛴다.")
+    public void skipHandledPartition() throws Exception {
+        // given
+        request(partition(BatchStatus.STARTED), 3L);
+        StepExecution next = partition(BatchStatus.STARTING, 3L);
+        request(next, 3L);
+
+        // when
+        worker.start();
+
+        // then
+        verify(workerStep, timeout(5000)).execute(next);
+        verify(workerStep, times(1)).execute(any());
+    }
+
+    @Test
+    @DisplayName("이전 리더가 보낸 파티션은 실행하지 않고 실패로 기록한다.")
+    public void rejectPartitionFromStaleLeader() throws Exception {
+        // given
+        StepExecution partition = partition(BatchStatus.STARTING);
+        request(partition, 1L);
+        when(jobLeaderElection.isStale(JOB_NAME, 1L)).thenReturn(true);
+
+        // when
+        worker.start();
+
+        // then
+        verify(jobRepository, timeout(5000)).update(partition);
+        verify(workerStep, never()).execute(any());
+        assertEquals(BatchStatus.FAILED, partition.getStatus());
+    }
+
+    private StepExecution partition(BatchStatus status) {
+        return partition(status, 2L);
+    }
+
+    private StepExecution partition(BatchStatus status, long id) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, JOB_NAME), 10L, new JobParameters());
+        StepExecution stepExecution = new StepExecution("sendSpendingNotifyWorkerStep:partition" + id, jobExecution, id);
+        stepExecution.setStatus(status);
+        return stepExecution;
+    }
+
+    private void request(StepExecution partition, Long leaderToken) {
+        when(jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId())).thenReturn(partition);
+        messages.add(PartitionRequest.of(partition, STEP_BEAN_NAME, leaderToken).serialize());
+    }
+}
@@ -0,0 +1,52 @@
+package kr.co.pennyway.batch.common.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NotificationWindowPropertiesTest {
+    private final NotificationWindowProperties properties = new NotificationWindowProperties(20, Duration.ofHours(1), 6, 10000, 3, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("각 그룹의 알림 시각은 시작 시각부터 window를 그룹 수로 나눈 간격으로 배치된다.")
+    public void slotsAreSpreadOverWindow() {
+        assertEquals(LocalTime.of(20, 0), properties.slotOf(0));
+        assertEquals(LocalTime.of(20, 10), properties.slotOf(1));
+        assertEquals(LocalTime.of(20, 50), properties.slotOf(5));
+    }
+
+    @Test
+    @DisplayName("보낼 시각이 된 그룹의 수를 반환한다.")
+    public void countDueBuckets() {
+        assertEquals(0, properties.dueBuckets(LocalTime.of(19, 59)));
+        assertEquals(1, properties.dueBuckets(LocalTime.of(20, 0)));
+        assertEquals(3, properties.dueBuckets(LocalTime.of(20, 25)));
+        assertEquals(6, properties.dueBuckets(LocalTime.of(23, 59)));
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 window는 설정할 수 없다.")
+    public void windowMustEndBeforeMidnight() {
+        assertThrows(IllegalArgumentException.class, () -> new NotificationWindowProperties(23, Duration.ofHours(2), 6, 10000, 3, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("길이가 0이거나 음수인 window는 설정할 수 없다.")
+    public void windowMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new NotificationWindowProperties(20, Duration.ZERO, 6, 10000, 3, Duration.ofMinutes(5)));
+        assertThrows(IllegalArgumentException.class, () -> new NotificationWindowProperties(20, Duration.ofMinutes(-1), 6, 10000, 3, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("재시작하기 전에 기다리는 시간은 실행할 때마다 두 배로 늘어난다.")
+    public void backoffDoublesPerAttempt() {
+        assertEquals(Duration.ofMinutes(5), properties.backoffAfter(1));
+        assertEquals(Duration.ofMinutes(10), properties.backoffAfter(2));
+        assertEquals(Duration.ofMinutes(20), properties.backoffAfter(3));
+    }
+}
@@ -0,0 +1,258 @@
+package kr.co.pennyway.batch.common.reader;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.pennyway.batch.common.dto.DeviceTokenOwner;
+import kr.co.pennyway.batch.common.properties.NotificationWindowProperties;
+import kr.co.pennyway.batch.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.batch.job.NotificationJobParameters;
+import kr.co.pennyway.batch.partitioner.DeviceTokenIdRangePartitioner;
+import kr.co.pennyway.batch.reader.ActiveDeviceTokenReader;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.domains.device.domain.DeviceToken;
+import kr.co.pennyway.domain.domains.device.repository.DeviceTokenRepository;
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import kr.co.pennyway.domain.domains.user.type.ProfileVisibility;
+import kr.co.pennyway.domain.domains.user.type.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림 Job이 실패한 뒤 같은 JobParameters로 다시 실행되면, 마지막으로 커밋된 chunk 이후부터 이어서 처리하는지 확인한다.
+ * <p>
+ * 디바이스 토큰은 MySQL 컨테이너에 저장하고, JobRepository는 테스트마다 새로 생성하는 H2 내장 DB를 사용한다.
+ * Reader는 {@link ActiveDeviceTokenReader}가 생성하는 no-offset Reader와 커서 Reader를 그대로 사용한다.
+ */
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create"})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+public class NotificationJobRestartTest extends ContainerMySqlTestConfig {
+    private static final int CHUNK_SIZE = 3;
+    private static final int TOKEN_COUNT = 10;
+
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DeviceTokenRepository deviceTokenRepository;
+
+    private EmbeddedDatabase jobRepositoryDatabase;
+    private JobRepository jobRepository;
+    private JdbcTransactionManager transactionManager;
+    private TaskExecutorJobLauncher jobLauncher;
+
+    private final List<Long> written = new CopyOnWriteArrayList<>();
+    private volatile Long failOnDeviceTokenId;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jobRepositoryDatabase = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("/org/springframework/batch/core/schema-h2.sql")
+                .build();
+        transactionManager = new JdbcTransactionManager(jobRepositoryDatabase);
+
+        JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+        factory.setDataSource(jobRepositoryDatabase);
+        factory.setTransactionManager(transactionManager);
+        factory.afterPropertiesSet();
+        jobRepository = factory.getObject();
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deviceTokenRepository.deleteAllInBatch();
+        jobRepositoryDatabase.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 Job을 같은 파라미터로 다시 실행하면, 마지막으로 커밋된 chunk 이후의 디바이스 토큰부터 처리한다.")
+    public void resumeFromLastCommittedChunk() throws Exception {
+        assertResumeFromLastCommittedChunk(this::noOffsetReader);
+    }
+
+    @Test
+    @DisplayName("커서 Reader도 재시작 시 마지막으로 커밋된 chunk 이후의 디바이스 토큰부터 처리한다.")
+    public void resumeCursorReaderFromLastCommittedChunk() throws Exception {
+        assertResumeFromLastCommittedChunk(this::cursorReader);
+    }
+
+    private void assertResumeFromLastCommittedChunk(Function<List<Long>, ItemStreamReader<DeviceTokenOwner>> readerFactory) throws Exception {
+        // given
+        List<Long> deviceTokenIds = saveDeviceTokens();
+        JobParameters jobParameters = NotificationJobParameters.of(LocalDate.of(2024, 7, 1), Announcement.DAILY_SPENDING);
+        failOnDeviceTokenId = deviceTokenIds.get(7); // 세 번째 chunk [6, 7, 8]에서 실패
+
+        // when
+        JobExecution failed = jobLauncher.run(createJob(readerFactory.apply(deviceTokenIds)), jobParameters);
+        List<Long> writtenBeforeRestart = List.copyOf(written);
+
+        failOnDeviceTokenId = null;
+        JobExecution restarted = jobLauncher.run(createJob(readerFactory.apply(deviceTokenIds)), jobParameters);
+
+        // then
+        assertEquals(BatchStatus.FAILED, failed.getStatus());
+        assertEquals(deviceTokenIds.subList(0, 6), writtenBeforeRestart);
+
+        assertEquals(BatchStatus.COMPLETED, restarted.getStatus());
+        assertEquals(failed.getJobInstance().getInstanceId(), restarted.getJobInstance().getInstanceId());
+        assertEquals(deviceTokenIds, written, "커밋된 chunk는 다시 처리하지 않아야 한다.");
+
+        StepExecution restartedStep = restarted.getStepExecutions().iterator().next();
+        assertEquals(TOKEN_COUNT - 6, restartedStep.getReadCount());
+    }
+
+    @Test
+    @DisplayName("완료된 Job은 같은 파라미터로 다시 실행할 수 없다.")
+    public void doNotRunCompletedJobAgain() throws Exception {
+        // given
+        List<Long> deviceTokenIds = saveDeviceTokens();
+        JobParameters jobParameters = NotificationJobParameters.of(LocalDate.of(2024, 7, 1), Announcement.DAILY_SPENDING);
+        assertEquals(BatchStatus.COMPLETED, jobLauncher.run(createJob(noOffsetReader(deviceTokenIds)), jobParameters).getStatus());
+
+        // when - then
+        assertThrows(JobInstanceAlreadyCompleteException.class, () -> jobLauncher.run(createJob(noOffsetReader(deviceTokenIds)), jobParameters));
+        assertEquals(deviceTokenIds, written);
+    }
+
+    @Test
+    @DisplayName("디바이스 토큰을 그룹으로 나누어 조회하면, 모든 디바이스 토큰을 정확히 한 번씩 조회한다.")
+    public void readEveryDeviceTokenOnceAcrossBuckets() throws Exception {
+        // given
+        List<Long> deviceTokenIds = saveDeviceTokens();
+        int bucketCount = 3;
+        DeviceTokenIdRangePartitioner partitioner = new DeviceTokenIdRangePartitioner(emf, new NotificationWindowProperties(20, Duration.ofHours(1), bucketCount, 2, 3, Duration.ofMinutes(5)));
+        List<Long> read = new ArrayList<>();
+        Set<Integer> bucketsWithTokens = new HashSet<>();
+
+        // when
+        for (int bucket = 0; bucket < bucketCount; ++bucket) {
+            JobParameters jobParameters = NotificationJobParameters.of(LocalDate.of(2024, 7, 1), Announcement.DAILY_SPENDING, bucket, bucketCount);
+            StepSynchronizationManager.register(new StepExecution("sendSpendingNotifyStep", new JobExecution(new JobInstance(1L, "dailyNotificationJob"), 1L, jobParameters), 1L));
+
+            try {
+                for (ExecutionContext partition : partitioner.partition(2).values()) {
+                    ItemStreamReader<DeviceTokenOwner> reader = new ActiveDeviceTokenReader(emf)
+                            .querydslNoOffsetPagingItemReader(partition.getLong(DeviceTokenIdRangePartitioner.MIN_ID), partition.getLong(DeviceTokenIdRangePartitioner.MAX_ID));
+                    reader.open(new ExecutionContext());
+
+                    DeviceTokenOwner owner;
+                    while ((owner = reader.read()) != null) {
+                        bucketsWithTokens.add(bucket);
+                        read.add(owner.deviceTokenId());
+                    }
+                    reader.close();
+                }
+            } finally {
+                StepSynchronizationManager.close();
+            }
+        }
+
+        // then
+        read.sort(null);
+        assertEquals(deviceTokenIds, read);
+        assertEquals(bucketCount, bucketsWithTokens.size(), "id 구간이 모든 그룹에 번갈아 배정되어야 한다.");
+    }
+
+    /**
+     * 실행할 때마다 새 Reader를 생성하여, Reader의 상태가 ExecutionContext에서만 복원되도록 한다.
+     */
+    private ItemStreamReader<DeviceTokenOwner> noOffsetReader(List<Long> deviceTokenIds) {
+        return new ActiveDeviceTokenReader(emf).querydslNoOffsetPagingItemReader(deviceTokenIds.get(0), deviceTokenIds.get(deviceTokenIds.size() - 1));
+    }
+
+    private ItemStreamReader<DeviceTokenOwner> cursorReader(List<Long> deviceTokenIds) {
+        return new ActiveDeviceTokenReader(emf).querydslCursorItemReader(deviceTokenIds.get(0), deviceTokenIds.get(deviceTokenIds.size() - 1));
+    }
+
+    private Job createJob(ItemStreamReader<DeviceTokenOwner> reader) {
+        ItemWriter<DeviceTokenOwner> writer = chunk -> {
+            List<Long> ids = new ArrayList<>();
+            for (DeviceTokenOwner owner : chunk) {
+                if (owner.deviceTokenId().equals(failOnDeviceTokenId)) {
+                    throw new IllegalStateException("chunk 처리 중 실패");
+                }
+                ids.add(owner.deviceTokenId());
+            }
+            written.addAll(ids);
+        };
+
+        Step step = new StepBuilder("sendNotifyStep", jobRepository)
+                .<DeviceTokenOwner, DeviceTokenOwner>chunk(CHUNK_SIZE, transactionManager)
+                .reader(reader)
+                .writer(writer)
+                .build();
+
+        return new JobBuilder("notificationRestartTestJob", jobRepository)
+                .validator(NotificationJobParameters.validator())
+                .start(step)
+                .build();
+    }
+
+    private List<Long> saveDeviceTokens() {
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < TOKEN_COUNT; ++i) {
+            User user = userRepository.save(createUser("user" + i));
+            ids.add(deviceTokenRepository.save(DeviceToken.of("token" + i, user)).getId());
+        }
+        return ids;
+    }
+
+    private User createUser(String name) {
+        return User.builder()
+                .username("test")
+                .name(name)
+                .password("test")
+                .phone("010-1234-5678")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package kr.co.pennyway.batch.common.reader;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.pennyway.batch.common.dto.DeviceTokenOwner;
+import kr.co.pennyway.batch.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.batch.reader.ActiveDeviceTokenReader;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import kr.co.pennyway.domain.domains.user.type.ProfileVisibility;
+import kr.co.pennyway.domain.domains.user.type.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 100만 개의 디바이스 토큰을 {@link QuerydslNoOffsetPagingItemReader}와 {@link QuerydslCursorItemReader}로 모두 읽는 시간을 비교한다.
+ * <p>
+ * 두 Reader 모두 {@link ActiveDeviceTokenReader}가 생성하는 Reader를 사용하며, 페이지 크기와 fetchSize는 1000으로 같다.
+ * 실행 시간이 길기 때문에 {@code -Dbenchmark=true}를 지정한 경우에만 실행한다.
+ *
+ * <pre>
+ * {@code ./gradlew :pennyway-batch:test --tests "*QuerydslCursorItemReaderBenchmarkTest" -Dbenchmark=true}
+ * </pre>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.datasource.hikari.data-source-properties.useCursorFetch=true"
+})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+public class QuerydslCursorItemReaderBenchmarkTest extends ContainerMySqlTestConfig {
+    private static final int TOKEN_COUNT = 1_000_000;
+    private static final int USER_COUNT = 1_000;
+
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private UserRepository userRepository;
+
+    private long minId;
+    private long maxId;
+
+    @BeforeEach
+    public void setUp() {
+        long firstUserId = userRepository.save(createUser("user0")).getId();
+        for (int i = 1; i < USER_COUNT; ++i) {
+            userRepository.save(createUser("user" + i));
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute((Statement statement) -> {
+            statement.execute("SET SESSION cte_max_recursion_depth = " + (TOKEN_COUNT + 1));
+            statement.execute("""
+                    INSERT INTO device_token (token, activated, created_at, last_signed_in_at, user_id)
+                    WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                    SELECT CONCAT('token', n), true, NOW(), NOW(), %d + MOD(n, %d) FROM seq
+                    """.formatted(TOKEN_COUNT - 1, firstUserId, USER_COUNT));
+            return null;
+        });
+
+        minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM device_token", Long.class);
+        maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM device_token", Long.class);
+    }
+
+    @Test
+    @DisplayName("100만 개의 디바이스 토큰을 읽을 때, no-offset Reader와 커서 Reader의 처리 시간을 비교한다.")
+    public void compareReadThroughput() throws Exception {
+        ActiveDeviceTokenReader readers = new ActiveDeviceTokenReader(emf);
+
+        // JIT, 커넥션 풀 준비
+        readAll(readers.querydslCursorItemReader(minId, minId + 10_000));
+        readAll(readers.querydslNoOffsetPagingItemReader(minId, minId + 10_000));
+
+        long start = System.nanoTime();
+        int noOffsetCount = readAll(readers.querydslNoOffsetPagingItemReader(minId, maxId));
+        long noOffsetMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        int cursorCount = readAll(readers.querydslCursorItemReader(minId, maxId));
+        long cursorMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("rows: {}, no-offset: {}ms ({} rows/s), cursor: {}ms ({} rows/s)",
+                TOKEN_COUNT, noOffsetMillis, TOKEN_COUNT * 1000L / Math.max(noOffsetMillis, 1),
+                cursorMillis, TOKEN_COUNT * 1000L / Math.max(cursorMillis, 1));
+        assertEquals(TOKEN_COUNT, noOffsetCount);
+        assertEquals(TOKEN_COUNT, cursorCount);
+    }
+
+    private int readAll(ItemStreamReader<DeviceTokenOwner> reader) throws Exception {
+        reader.open(new ExecutionContext());
+
+        try {
+            int count = 0;
+            while (reader.read() != null) {
+                ++count;
+            }
+            return count;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private User createUser(String name) {
+        return User.builder()
+                .username("test")
+                .name(name)
+                .password("test")
+                .phone("010-1234-5678")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build();
+    }
+}
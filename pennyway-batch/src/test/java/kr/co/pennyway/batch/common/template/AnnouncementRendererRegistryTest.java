@@ -0,0 +1,54 @@
+package kr.co.pennyway.batch.common.template;
+
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class AnnouncementRendererRegistryTest {
+    private final AnnouncementRendererRegistry registry = new AnnouncementRendererRegistry();
+
+    @AfterEach
+    public void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    @DisplayName("Job listener가 호출되지 않는 원격 노드에서도, 같은 Job 실행의 Step이 모두 끝나면 렌더러를 제거한다.")
+    public void removeRendererAfterLastStep() {
+        // given
+        JobExecution jobExecution = new JobExecution(1L);
+        StepExecution first = new StepExecution("sendSpendingNotifyWorkerStep:partition0", jobExecution, 1L);
+        StepExecution second = new StepExecution("sendSpendingNotifyWorkerStep:partition1", jobExecution, 2L);
+        registry.beforeStep(first);
+        registry.beforeStep(second);
+
+        AnnouncementRenderer firstRenderer = render(first);
+        AnnouncementRenderer secondRenderer = render(second);
+
+        // when
+        registry.afterStep(first);
+        int sizeAfterFirst = registry.size();
+        registry.afterStep(second);
+
+        // then
+        assertSame(firstRenderer, secondRenderer, "같은 Job 실행의 Step은 렌더러를 공유해야 한다.");
+        assertEquals(1, sizeAfterFirst, "실행 중인 Step이 남아있다면 렌더러를 유지해야 한다.");
+        assertEquals(0, registry.size());
+    }
+
+    private AnnouncementRenderer render(StepExecution stepExecution) {
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            return registry.get(Announcement.DAILY_SPENDING);
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package kr.co.pennyway.batch.scheduler;
+
+import kr.co.pennyway.batch.common.leader.JobLeaderElection;
+import kr.co.pennyway.batch.common.properties.NotificationWindowProperties;
+import kr.co.pennyway.batch.job.NotificationJobParameters;
+import kr.co.pennyway.batch.job.SpendingMonthlySummaryReconcileConfig;
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 모든 그룹의 알림 시각이 자정 직후가 되도록 설정하여, 호출 시각과 관계없이 모든 그룹이 보낼 차례가 되도록 한다.
+ */
+public class SpendingNotifySchedulerTest {
+    private static final int BUCKETS = 2;
+
+    private final JobLauncher jobLauncher = mock(JobLauncher.class);
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final Job dailyNotificationJob = mock(Job.class);
+    private final Job spendingMonthlySummaryReconcileJob = mock(Job.class);
+    private final Map<Long, JobExecution> lastExecutions = new HashMap<>();
+    private final Map<Long, Integer> attempts = new HashMap<>();
+    private final List<JobParameters> launched = new ArrayList<>();
+    private SpendingNotifyScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(dailyNotificationJob.getName()).thenReturn("dailyNotificationJob");
+        when(spendingMonthlySummaryReconcileJob.getName()).thenReturn("spendingMonthlySummaryReconcileJob");
+        when(jobExplorer.getJobInstance(eq("dailyNotificationJob"), any(JobParameters.class))).thenAnswer(invocation -> {
+            JobExecution lastExecution = lastExecutions.get(invocation.<JobParameters>getArgument(1).getLong(NotificationJobParameters.BUCKET));
+            return lastExecution != null ? lastExecution.getJobInstance() : null;
+        });
+        when(jobExplorer.getLastJobExecution(any(JobInstance.class))).thenAnswer(invocation ->
+                lastExecutions.get(invocation.<JobInstance>getArgument(0).getInstanceId()));
+        when(jobExplorer.getJobExecutions(any(JobInstance.class))).thenAnswer(invocation -> {
+            long instanceId = invocation.<JobInstance>getArgument(0).getInstanceId();
+            return Collections.nCopies(attempts.getOrDefault(instanceId, 0), lastExecutions.get(instanceId));
+        });
+        when(jobLauncher.run(any(Job.class), any(JobParameters.class))).thenAnswer(invocation -> {
+            launched.add(invocation.getArgument(1));
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<RedissonClient> redissonClientProvider = mock(ObjectProvider.class);
+        NotificationWindowProperties properties = new NotificationWindowProperties(0, Duration.ofSeconds(2), BUCKETS, 10000, 3, Duration.ofMinutes(5));
+        scheduler = new SpendingNotifyScheduler(jobLauncher, jobExplorer, new JobLeaderElection(redissonClientProvider), properties,
+                dailyNotificationJob, mock(Job.class), spendingMonthlySummaryReconcileJob);
+    }
+
+    @Test
+    @DisplayName("아직 실행되지 않은 그룹은 모두 실행한다.")
+    public void launchNewBuckets() {
+        // when
+        scheduler.runDailyNotificationJob();
+
+        // then
+        assertEquals(List.of(0L, 1L), launchedBuckets());
+    }
+
+    @Test
+    @DisplayName("완료된 그룹은 실행하지 않고, 마지막 실행이 실패한 그룹은 같은 JobParameters로 다시 실행한다.")
+    public void relaunchFailedBucket() {
+        // given
+        lastExecution(0L, BatchStatus.COMPLETED);
+        lastExecution(1L, BatchStatus.FAILED);
+
+        // when
+        scheduler.runDailyNotificationJob();
+
+        // then
+        assertEquals(List.of(1L), launchedBuckets());
+        assertEquals(NotificationJobParameters.of(LocalDate.now(), Announcement.DAILY_SPENDING, 1, BUCKETS),
+                launched.get(0), "JobInstance를 식별하는 파라미터가 같아야 재시작된다.");
+    }
+
+    @Test
+    @DisplayName("마지막 실행이 중단된 그룹은 다시 실행하고, 실행 중인 그룹은 실행하지 않는다.")
+    public void relaunchStoppedBucketButNotRunningBucket() {
+        // given
+        lastExecution(0L, BatchStatus.STOPPED);
+        lastExecution(1L, BatchStatus.STARTED);
+
+        // when
+        scheduler.runDailyNotificationJob();
+
+        // then
+        assertEquals(List.of(0L), launchedBuckets());
+    }
+
+    @Test
+    @DisplayName("정합성 검증 Job은 실행일로 식별한다.")
+    public void identifyReconcileJobByRunDate() throws Exception {
+        // when
+        scheduler.runSpendingMonthlySummaryReconcileJob();
+        scheduler.runSpendingMonthlySummaryReconcileJob();
+
+        // then
+        verify(jobLauncher, times(2)).run(eq(spendingMonthlySummaryReconcileJob), any(JobParameters.class));
+        assertEquals(launched.get(0), launched.get(1), "같은 날 다시 호출하면 같은 JobInstance로 실행되어야 한다.");
+        assertEquals(LocalDate.now(), launched.get(0).getLocalDate(SpendingMonthlySummaryReconcileConfig.RUN_DATE));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 같은 JobInstance를 먼저 생성했다면, 예외를 전파하지 않고 다음 그룹을 실행한다.")
+    public void skipBucketLaunchedByAnotherNode() throws Exception {
+        // given
+        doThrow(new DuplicateKeyException("JOB_INST_UN")).when(jobLauncher)
+                .run(eq(dailyNotificationJob), argThat(jobParameters -> jobParameters.getLong(NotificationJobParameters.BUCKET) == 0L));
+
+        // when
+        assertDoesNotThrow(() -> scheduler.runDailyNotificationJob());
+
+        // then
+        assertEquals(List.of(1L), launchedBuckets());
+    }
+
+    @Test
+    @DisplayName("실패한 그룹은 재시작을 기다리는 시간이 지난 뒤에 다시 실행한다.")
+    public void relaunchFailedBucketAfterBackoff() {
+        // given
+        lastExecution(0L, BatchStatus.FAILED, 1, LocalDateTime.now());
+        lastExecution(1L, BatchStatus.FAILED, 1, LocalDateTime.now().minusMinutes(5));
+
+        // when
+        scheduler.runDailyNotificationJob();
+
+        // then
+        assertEquals(List.of(1L), launchedBuckets());
+    }
+
+    @Test
+    @DisplayName("최대 실행 횟수만큼 실패한 그룹은 다시 실행하지 않는다.")
+    public void giveUpAfterMaxAttempts() {
+        // given
+        lastExecution(0L, BatchStatus.FAILED, 3, LocalDateTime.now().minusHours(1));
+        lastExecution(1L, BatchStatus.FAILED, 2, LocalDateTime.now().minusHours(1));
+
+        // when
+        scheduler.runDailyNotificationJob();
+
+        // then
+        assertEquals(List.of(1L), launchedBuckets());
+    }
+
+    private void lastExecution(long bucket, BatchStatus status) {
+        lastExecution(bucket, status, 1, null);
+    }
+
+    private void lastExecution(long bucket, BatchStatus status, int attempt, LocalDateTime endTime) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(bucket, "dailyNotificationJob"), bucket, new JobParameters());
+        jobExecution.setStatus(status);
+        jobExecution.setEndTime(endTime);
+        lastExecutions.put(bucket, jobExecution);
+        attempts.put(bucket, attempt);
+    }
+
+    private List<Long> launchedBuckets() {
+        return launched.stream()
+                .map(jobParameters -> jobParameters.getLong(NotificationJobParameters.BUCKET))
+                .toList();
+    }
+}
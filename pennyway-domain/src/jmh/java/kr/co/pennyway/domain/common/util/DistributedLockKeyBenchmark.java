@@ -0,0 +1,58 @@
+package kr.co.pennyway.domain.common.util;
+
+import kr.co.pennyway.domain.common.redisson.DistributedLockPrefix;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목표 금액 생성 시 {@code @DistributedLock}의 Lock 이름을 만드는 비용을 비교한다.
+ * <p>
+ * 표현식은 {@code TargetAmountSaveService#createTargetAmount}에 선언된 것과 같다.
+ * <p>
+ * {@code ./gradlew :pennyway-domain:jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistributedLockKeyBenchmark {
+    private static final String KEY = "#key.concat(#userId).concat('_').concat(#date.getYear()).concat('-').concat(#date.getMonthValue())";
+    private static final String[] PARAMETER_NAMES = {"key", "userId", "date"};
+
+    private Object[] args;
+    private Expression cachedExpression;
+
+    @Setup
+    public void setUp() {
+        args = new Object[]{DistributedLockPrefix.TARGET_AMOUNT_USER, 1L, LocalDate.of(2024, 7, 1)};
+        cachedExpression = CustomSpringELParser.parseExpression(KEY);
+    }
+
+    /**
+     * 변경 전. 호출마다 파서와 {@link StandardEvaluationContext}를 생성하고 표현식을 다시 파싱한다.
+     */
+    @Benchmark
+    public Object legacyResolve() {
+        ExpressionParser parser = new SpelExpressionParser();
+        StandardEvaluationContext context = new StandardEvaluationContext();
+
+        for (int i = 0; i < PARAMETER_NAMES.length; i++) {
+            context.setVariable(PARAMETER_NAMES[i], args[i]);
+        }
+
+        return parser.parseExpression(KEY).getValue(context, Object.class);
+    }
+
+    /**
+     * 변경 후. 메서드별로 캐싱한 표현식을 평가하며, 반복 평가되면 컴파일된 표현식을 사용한다.
+     */
+    @Benchmark
+    public Object cachedResolve() {
+        return CustomSpringELParser.getDynamicValue(cachedExpression, PARAMETER_NAMES, args);
+    }
+}
@@ -0,0 +1,72 @@
+package kr.co.pennyway.domain.domains.notification.type;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공지 알림 하나의 제목과 내용을 렌더링하는 비용을 비교한다.
+ * <p>
+ * 알림 하나당 할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm} 항목으로 확인한다.
+ * <p>
+ * {@code ./gradlew :pennyway-domain:jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnnouncementRenderBenchmark {
+    private String name;
+    private String monthlyTitle;
+
+    @Setup
+    public void setUp() {
+        name = "페니웨이";
+        monthlyTitle = Announcement.MONTHLY_TARGET_AMOUNT.createFormattedTitle(String.valueOf(LocalDateTime.now().getMonthValue()));
+    }
+
+    /**
+     * 변경 전 정기 지출 알림. 제목과 내용을 매번 {@link String#format(String, Object...)}으로 포맷팅한다.
+     */
+    @Benchmark
+    public void legacyDailySpending(Blackhole blackhole) {
+        blackhole.consume(legacyFormat(Announcement.DAILY_SPENDING.getTitle(), name));
+        blackhole.consume(legacyFormat(Announcement.DAILY_SPENDING.getContent(), name));
+    }
+
+    /**
+     * 변경 후 정기 지출 알림. 미리 분석해둔 템플릿으로 제목을 렌더링하고, 자리가 없는 내용은 원본 문자열을 재사용한다.
+     */
+    @Benchmark
+    public void templateDailySpending(Blackhole blackhole) {
+        blackhole.consume(Announcement.DAILY_SPENDING.createFormattedTitle(name));
+        blackhole.consume(Announcement.DAILY_SPENDING.createFormattedContent(name));
+    }
+
+    /**
+     * 변경 전 월간 목표 금액 알림. 사용자마다 현재 월을 조회하여 제목을 포맷팅한다.
+     */
+    @Benchmark
+    public void legacyMonthlyTargetAmount(Blackhole blackhole) {
+        blackhole.consume(legacyFormat(Announcement.MONTHLY_TARGET_AMOUNT.getTitle(), String.valueOf(LocalDateTime.now().getMonthValue())));
+        blackhole.consume(legacyFormat(Announcement.MONTHLY_TARGET_AMOUNT.getContent(), name));
+    }
+
+    /**
+     * 변경 후 월간 목표 금액 알림. Job 실행마다 한 번 렌더링한 제목을 재사용한다.
+     */
+    @Benchmark
+    public void templateMonthlyTargetAmount(Blackhole blackhole) {
+        blackhole.consume(monthlyTitle);
+        blackhole.consume(Announcement.MONTHLY_TARGET_AMOUNT.createFormattedContent(name));
+    }
+
+    private String legacyFormat(String pattern, String value) {
+        if (pattern.indexOf("%") == -1) {
+            return pattern;
+        }
+
+        return String.format(pattern, value);
+    }
+}
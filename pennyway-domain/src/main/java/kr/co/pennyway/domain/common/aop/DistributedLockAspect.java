@@ -1,6 +1,12 @@
 package kr.co.pennyway.domain.common.aop;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.pennyway.domain.common.exception.DistributedLockErrorCode;
+import kr.co.pennyway.domain.common.exception.DistributedLockErrorException;
 import kr.co.pennyway.domain.common.redisson.DistributedLock;
+import kr.co.pennyway.domain.common.redisson.LockType;
 import kr.co.pennyway.domain.common.util.CustomSpringELParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,11 +16,28 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.expression.Expression;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 /**
  * {@link DistributedLock} 어노테이션을 사용한 메소드에 대한 분산 락 처리를 위한 AOP
+ * <p>
+ * Lock 이름을 만드는 SpEL 표현식은 메서드와 표현식 문자열별로 한 번만 파싱하여 재사용한다.
+ * <p>
+ * Redisson Lock을 획득하기 전에 {@link LocalLockStripes}의 로컬 Lock을 먼저 획득하여, 같은 노드의 중복 요청이 Redis에 Lock 요청을 반복하지 않도록 한다.
+ * Lock을 즉시 획득하지 못하면 경합으로 집계한 뒤, {@link DistributedLock#failFast()}가 아닌 경우에만 waitTime만큼 대기한다.
+ * 로컬 Lock은 다른 이름의 Lock과 공유될 수 있으므로, failFast인 경우 로컬 Lock을 즉시 획득하지 못하면 로컬 Lock 없이 Redisson Lock으로 획득 여부를 판단한다.
+ * 다음 지표를 메서드별로 기록하며, Lock 이름은 사용자마다 다르므로 태그로 사용하지 않는다.
+ * <pre>
+ * - distributed.lock.wait : Lock 획득까지 대기한 시간 (result = acquired | rejected)
+ * - distributed.lock.hold : Lock을 획득한 뒤 메서드 실행이 끝날 때까지의 시간
+ * - distributed.lock.contention : Lock을 즉시 획득하지 못한 횟수
+ * </pre>
  */
 @Slf4j
 @Aspect
@@ -24,6 +47,9 @@ public class DistributedLockAspect {
 
     private final RedissonClient redissonClient;
     private final CallTransactionFactory callTransactionFactory;
+    private final MeterRegistry meterRegistry;
+    private final LocalLockStripes localLockStripes;
+    private final Map<LockDefinitionKey, LockDefinition> lockDefinitions = new ConcurrentHashMap<>();
 
     @Around("@annotation(kr.co.pennyway.domain.common.redisson.DistributedLock)")
     public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable {
@@ -31,26 +57,156 @@ public class DistributedLockAspect {
         Method method = signature.getMethod();
         DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
 
-        String key = REDISSON_LOCK_PREFIX + CustomSpringELParser.getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
-        RLock rLock = redissonClient.getLock(key);
+        LockDefinition definition = lockDefinitions.computeIfAbsent(new LockDefinitionKey(method, distributedLock.key()), this::createLockDefinition);
+        String key = REDISSON_LOCK_PREFIX + CustomSpringELParser.getDynamicValue(definition.expression(), signature.getParameterNames(), joinPoint.getArgs());
+        RLock rLock = distributedLock.type().getLock(redissonClient, key);
+
+        long waitStartedAt = System.nanoTime();
+        Acquisition acquisition = tryLock(getLocalLock(distributedLock.type(), key), rLock, distributedLock, definition, key);
+        long acquiredAt = System.nanoTime();
+
+        if (!acquisition.acquired()) {
+            definition.rejectedWait().record(acquiredAt - waitStartedAt, TimeUnit.NANOSECONDS);
+            log.info("{} : Redisson Lock 획득 실패 : {} {}", Thread.currentThread().getId(), method.getName(), key);
+            throw new DistributedLockErrorException(DistributedLockErrorCode.LOCK_NOT_ACQUIRED);
+        }
+        definition.acquiredWait().record(acquiredAt - waitStartedAt, TimeUnit.NANOSECONDS);
 
         try {
-            boolean available = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
-            if (!available) {
-                return false;
-            }
             log.info("{} : Redisson Lock 진입 : {} {}", Thread.currentThread().getId(), method.getName(), key);
-
             return callTransactionFactory.getCallTransaction(distributedLock.needNewTransaction()).proceed(joinPoint);
+        } finally {
+            definition.hold().record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            try {
+                unlock(rLock, method, key);
+            } finally {
+                if (acquisition.localLock() != null) {
+                    acquisition.localLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link LockType#FAIR}은 노드 간 요청 순서를 보장해야 하므로 로컬 Lock을 사용하지 않는다.
+     * 현재 스레드가 같은 stripe의 shared Lock을 보유한 채 exclusive Lock을 요청하면, 로컬 Lock은 shared Lock을 exclusive Lock으로 바꿀 수 없어 스스로를 기다리게 되므로 로컬 Lock을 사용하지 않는다.
+     */
+    private Lock getLocalLock(LockType type, String key) {
+        if (!localLockStripes.isEnabled() || type == LockType.FAIR) {
+            return null;
+        }
+
+        boolean shared = type == LockType.READ;
+        if (!shared && localLockStripes.isSharedHeldByCurrentThread(key)) {
+            return null;
+        }
+        return localLockStripes.get(key, shared);
+    }
+
+    /**
+     * 로컬 Lock, Redisson Lock 순서로 획득하며, 두 Lock의 대기 시간을 합쳐 waitTime을 넘지 않는다.
+     * failFast인 경우 로컬 Lock의 경합은 다른 이름의 Lock 때문일 수 있으므로, 로컬 Lock을 건너뛰고 Redisson Lock만 획득한다.
+     * Redisson Lock을 획득하지 못하면 로컬 Lock을 해제한다.
+     */
+    private Acquisition tryLock(Lock localLock, RLock rLock, DistributedLock distributedLock, LockDefinition definition, String key) throws InterruptedException {
+        long deadline = System.nanoTime() + distributedLock.timeUnit().toNanos(Math.max(distributedLock.waitTime(), 0L));
+        boolean contended = false;
+
+        try {
+            if (localLock != null && !localLock.tryLock()) {
+                contended = true;
+                if (distributedLock.failFast()) {
+                    localLock = null;
+                } else if (!localLock.tryLock(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                    return Acquisition.REJECTED;
+                }
+            }
+
+            boolean acquired = false;
+            try {
+                acquired = rLock.tryLock(0, distributedLock.leaseTime(), distributedLock.timeUnit());
+                if (!acquired) {
+                    contended = true;
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(remainingNanos(deadline));
+                    acquired = !distributedLock.failFast() && remainingMillis > 0
+                            && rLock.tryLock(remainingMillis, leaseTimeMillis(distributedLock), TimeUnit.MILLISECONDS);
+                }
+                return acquired ? new Acquisition(true, localLock) : Acquisition.REJECTED;
+            } finally {
+                if (!acquired && localLock != null) {
+                    localLock.unlock();
+                }
+            }
         } catch (InterruptedException e) {
             throw new InterruptedException("Failed to acquire lock: " + key);
         } finally {
-            try {
-                log.info("{} : Redisson Lock 해제 : {} {}", Thread.currentThread().getId(), method.getName(), key);
-                rLock.unlock();
-            } catch (IllegalMonitorStateException ignored) {
-                log.error("Redisson lock is already unlocked: {} {}", method.getName(), key);
+            if (contended) {
+                definition.contention().increment();
             }
         }
     }
+
+    private long remainingNanos(long deadline) {
+        return Math.max(deadline - System.nanoTime(), 0L);
+    }
+
+    private long leaseTimeMillis(DistributedLock distributedLock) {
+        return distributedLock.leaseTime() > 0 ? distributedLock.timeUnit().toMillis(distributedLock.leaseTime()) : distributedLock.leaseTime();
+    }
+
+    private void unlock(RLock rLock, Method method, String key) {
+        try {
+            log.info("{} : Redisson Lock 해제 : {} {}", Thread.currentThread().getId(), method.getName(), key);
+            rLock.unlock();
+        } catch (IllegalMonitorStateException ignored) {
+            log.error("Redisson lock is already unlocked: {} {}", method.getName(), key);
+        }
+    }
+
+    private LockDefinition createLockDefinition(LockDefinitionKey definitionKey) {
+        Method method = definitionKey.method();
+        String lockName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        String type = method.getAnnotation(DistributedLock.class).type().name();
+
+        return new LockDefinition(
+                CustomSpringELParser.parseExpression(definitionKey.key()),
+                waitTimer(lockName, type, "acquired"),
+                waitTimer(lockName, type, "rejected"),
+                Timer.builder("distributed.lock.hold")
+                        .description("Lock을 획득한 뒤 해제할 때까지의 시간")
+                        .tag("lock", lockName)
+                        .tag("type", type)
+                        .register(meterRegistry),
+                Counter.builder("distributed.lock.contention")
+                        .description("Lock을 즉시 획득하지 못한 횟수")
+                        .tag("lock", lockName)
+                        .tag("type", type)
+                        .register(meterRegistry)
+        );
+    }
+
+    private Timer waitTimer(String lockName, String type, String result) {
+        return Timer.builder("distributed.lock.wait")
+                .description("Lock 획득까지 대기한 시간")
+                .tag("lock", lockName)
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 컴파일된 표현식은 처음 평가한 인자 타입에 맞춰지므로, 표현식 문자열이 같더라도 메서드가 다르면 따로 캐싱한다.
+     */
+    private record LockDefinitionKey(Method method, String key) {
+    }
+
+    private record LockDefinition(Expression expression, Timer acquiredWait, Timer rejectedWait, Timer hold, Counter contention) {
+    }
+
+    /**
+     * @param localLock : 획득한 로컬 Lock. 로컬 Lock을 사용하지 않았거나 건너뛴 경우 null
+     */
+    private record Acquisition(boolean acquired, Lock localLock) {
+        private static final Acquisition REJECTED = new Acquisition(false, null);
+    }
 }
@@ -0,0 +1,68 @@
+package kr.co.pennyway.domain.common.aop;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Lock 이름을 해시하여 고정된 개수의 JVM 로컬 Lock 중 하나에 대응시킨다.
+ * <p>
+ * {@link DistributedLockAspect}는 Redisson Lock보다 먼저 로컬 Lock을 획득하므로, 같은 노드에서 같은 이름의 Lock을 요청한 스레드는 Redis가 아닌 프로세스 안에서 대기한다.
+ * 서로 다른 이름이 같은 stripe에 대응될 수 있다. 이 경우 대기하는 Lock은 관계없는 Lock이 해제될 때까지 기다리므로, 같은 노드 안에서 불필요하게 순서대로 실행되고
+ * 관계없는 Lock의 보유 시간이 waitTime보다 길면 Lock 획득에 실패할 수 있다. 대기하지 않는 {@link kr.co.pennyway.domain.common.redisson.DistributedLock#failFast()} Lock은
+ * 충돌만으로 거절되지 않도록, {@link DistributedLockAspect}가 stripe의 경합을 무시하고 Redisson Lock으로 판단한다.
+ * stripe 수가 0이면 로컬 Lock을 사용하지 않는다.
+ */
+public final class LocalLockStripes {
+    private final ReentrantReadWriteLock[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripes : 로컬 Lock 수. 2의 거듭제곱으로 올림한다.
+     */
+    public LocalLockStripes(int stripes) {
+        if (stripes < 0) {
+            throw new IllegalArgumentException("stripes must not be negative: " + stripes);
+        }
+
+        int size = 0;
+        if (stripes > 0) {
+            size = 1;
+            while (size < stripes) {
+                size <<= 1;
+            }
+        }
+
+        this.stripes = new ReentrantReadWriteLock[size];
+        for (int i = 0; i < size; ++i) {
+            this.stripes[i] = new ReentrantReadWriteLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public boolean isEnabled() {
+        return stripes.length > 0;
+    }
+
+    /**
+     * @param shared : true인 경우 같은 stripe의 다른 shared Lock과 함께 획득할 수 있는 Lock을 반환한다.
+     */
+    public Lock get(String key, boolean shared) {
+        ReentrantReadWriteLock stripe = stripe(key);
+
+        return shared ? stripe.readLock() : stripe.writeLock();
+    }
+
+    /**
+     * shared Lock은 exclusive Lock으로 바꿀 수 없으므로, shared Lock을 보유한 스레드가 같은 stripe의 exclusive Lock을 요청하면 스스로를 기다리게 된다.
+     *
+     * @return 현재 스레드가 key에 대응되는 stripe의 shared Lock을 보유하고 있는지 여부
+     */
+    public boolean isSharedHeldByCurrentThread(String key) {
+        return stripe(key).getReadHoldCount() > 0;
+    }
+
+    private ReentrantReadWriteLock stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+}
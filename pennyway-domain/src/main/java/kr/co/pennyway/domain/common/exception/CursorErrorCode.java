@@ -0,0 +1,30 @@
+package kr.co.pennyway.domain.common.exception;
+
+import kr.co.pennyway.common.exception.BaseErrorCode;
+import kr.co.pennyway.common.exception.CausedBy;
+import kr.co.pennyway.common.exception.ReasonCode;
+import kr.co.pennyway.common.exception.StatusCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CursorErrorCode implements BaseErrorCode {
+    /* 400 Bad Request */
+    MALFORMED_CURSOR(StatusCode.BAD_REQUEST, ReasonCode.MALFORMED_PARAMETER, "유효하지 않은 cursor입니다."),
+    CURSOR_SORT_MISMATCH(StatusCode.BAD_REQUEST, ReasonCode.INVALID_REQUEST, "cursor가 요청한 정렬 조건과 일치하지 않습니다.");
+
+    private final StatusCode statusCode;
+    private final ReasonCode reasonCode;
+    private final String message;
+
+    @Override
+    public CausedBy causedBy() {
+        return CausedBy.of(statusCode, reasonCode);
+    }
+
+    @Override
+    public String getExplainError() throws NoSuchFieldError {
+        return message;
+    }
+}
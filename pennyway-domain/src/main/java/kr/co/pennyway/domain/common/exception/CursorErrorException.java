@@ -0,0 +1,22 @@
+package kr.co.pennyway.domain.common.exception;
+
+import kr.co.pennyway.common.exception.CausedBy;
+import kr.co.pennyway.common.exception.GlobalErrorException;
+
+public class CursorErrorException extends GlobalErrorException {
+    private final CursorErrorCode errorCode;
+
+    public CursorErrorException(CursorErrorCode errorCode) {
+        super(errorCode);
+        this.errorCode = errorCode;
+    }
+
+    @Override
+    public CausedBy causedBy() {
+        return errorCode.causedBy();
+    }
+
+    public String getExplainError() {
+        return errorCode.getExplainError();
+    }
+}
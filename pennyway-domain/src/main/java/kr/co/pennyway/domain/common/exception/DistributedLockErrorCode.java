@@ -0,0 +1,29 @@
+package kr.co.pennyway.domain.common.exception;
+
+import kr.co.pennyway.common.exception.BaseErrorCode;
+import kr.co.pennyway.common.exception.CausedBy;
+import kr.co.pennyway.common.exception.ReasonCode;
+import kr.co.pennyway.common.exception.StatusCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DistributedLockErrorCode implements BaseErrorCode {
+    /* 409 Conflict */
+    LOCK_NOT_ACQUIRED(StatusCode.CONFLICT, ReasonCode.CONCURRENT_MODIFICATION_CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+
+    private final StatusCode statusCode;
+    private final ReasonCode reasonCode;
+    private final String message;
+
+    @Override
+    public CausedBy causedBy() {
+        return CausedBy.of(statusCode, reasonCode);
+    }
+
+    @Override
+    public String getExplainError() throws NoSuchFieldError {
+        return message;
+    }
+}
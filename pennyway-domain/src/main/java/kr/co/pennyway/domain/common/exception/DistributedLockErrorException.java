@@ -0,0 +1,22 @@
+package kr.co.pennyway.domain.common.exception;
+
+import kr.co.pennyway.common.exception.CausedBy;
+import kr.co.pennyway.common.exception.GlobalErrorException;
+
+public class DistributedLockErrorException extends GlobalErrorException {
+    private final DistributedLockErrorCode errorCode;
+
+    public DistributedLockErrorException(DistributedLockErrorCode errorCode) {
+        super(errorCode);
+        this.errorCode = errorCode;
+    }
+
+    @Override
+    public CausedBy causedBy() {
+        return errorCode.causedBy();
+    }
+
+    public String getExplainError() {
+        return errorCode.getExplainError();
+    }
+}
@@ -0,0 +1,145 @@
+package kr.co.pennyway.domain.common.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Spring Data Redis Repository({@code @RedisHash})가 남긴 key를 정리하는 일회성 작업
+ * <p>
+ * Repository는 저장할 때마다 keyspace 이름의 index set에 id를 추가하지만, keyspace 이벤트를 사용하지 않아 만료된 id가 제거되지 않았다.
+ * 다음 key를 정리하며, 만료 시간이 있는 hash 값은 그대로 두어 스스로 만료되도록 한다.
+ * <pre>
+ * - index set : forbiddenToken, refreshToken, signEventLog
+ * - phantom key : {keyspace}:{id}:phantom
+ * - 만료 시간이 없는 refreshToken hash : hash에 저장된 ttl(초)을 만료 시간으로 설정한다. 갱신 요청이 오면 문자열 key로 옮겨진다.
+ * </pre>
+ * 이전 버전의 서버는 계속 index set과 phantom key를 만들기 때문에, 이전 버전의 서버가 모두 종료된 뒤 수동으로 활성화해야 한다.
+ * 서버가 시작될 때 전용 스레드에서 실행되며, {@link #DONE_KEY}를 먼저 설정한 서버 하나만 정리한다.
+ * 정리에 실패하거나 정리하던 서버가 종료되어 {@link #RUNNING_TIMEOUT}이 지나면 다음 시작 때 다시 시도한다.
+ * 정리를 다시 실행하려면 {@link #DONE_KEY}를 삭제한다.
+ */
+@Slf4j
+public class LegacyRedisIndexCleaner implements ApplicationRunner {
+    public static final String DONE_KEY = "cleanup:legacy-redis-index";
+    public static final Duration RUNNING_TIMEOUT = Duration.ofHours(1);
+    private static final List<String> KEYSPACES = List.of("forbiddenToken", "refreshToken", "signEventLog");
+    private static final String REFRESH_TOKEN_KEYSPACE = "refreshToken";
+    private static final String PHANTOM_KEY_SUFFIX = ":phantom";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public LegacyRedisIndexCleaner(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(DONE_KEY, "running", RUNNING_TIMEOUT))) {
+            log.debug("이전 Redis Repository key 정리가 이미 실행되었습니다.");
+            return;
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "legacy-redis-index-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture.runAsync(this::clean, executor)
+                .thenRun(() -> redisTemplate.opsForValue().set(DONE_KEY, "done"))
+                .exceptionally(e -> {
+                    log.error("이전 Redis Repository key 정리에 실패했습니다.", e);
+                    redisTemplate.delete(DONE_KEY);
+                    return null;
+                })
+                .whenComplete((result, e) -> executor.shutdown());
+    }
+
+    /**
+     * @return 정리한 key 수
+     */
+    public long clean() {
+        long cleaned = 0;
+
+        for (String keyspace : KEYSPACES) {
+            if (redisTemplate.type(keyspace) == DataType.SET) {
+                redisTemplate.unlink(keyspace);
+                ++cleaned;
+            }
+            cleaned += unlinkPhantomKeys(keyspace);
+        }
+        cleaned += expireRefreshTokenHashes();
+
+        log.info("이전 Redis Repository key 정리가 완료되었습니다. 정리한 key 수 : {}", cleaned);
+        return cleaned;
+    }
+
+    private long unlinkPhantomKeys(String keyspace) {
+        long count = 0;
+        List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+
+        ScanOptions options = ScanOptions.scanOptions().match(keyspace + ":*" + PHANTOM_KEY_SUFFIX).count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE) {
+                    count += unlink(keys);
+                }
+            }
+        }
+        return count + unlink(keys);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        Long unlinked = redisTemplate.unlink(keys);
+        keys.clear();
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private long expireRefreshTokenHashes() {
+        long count = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().match(REFRESH_TOKEN_KEYSPACE + ":*").type(DataType.HASH).count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long expire = redisTemplate.getExpire(key);
+                if (expire == null || expire != -1) {
+                    continue;
+                }
+
+                long ttl = parseSeconds(redisTemplate.opsForHash().get(key, "ttl"));
+                if (ttl > 0) {
+                    redisTemplate.expire(key, Duration.ofSeconds(ttl));
+                    ++count;
+                }
+            }
+        }
+        return count;
+    }
+
+    private long parseSeconds(Object ttl) {
+        try {
+            return ttl != null ? Long.parseLong(ttl.toString()) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -1,4 +0,0 @@
-package kr.co.pennyway.domain.common.redis;
-
-public interface RedisPackageLocation {
-}
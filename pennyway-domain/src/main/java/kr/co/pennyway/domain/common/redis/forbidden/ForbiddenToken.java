@@ -2,17 +2,16 @@ package kr.co.pennyway.domain.common.redis.forbidden;
 
 import lombok.Builder;
 import lombok.Getter;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
 
+/**
+ * 블랙 리스트에 등록된 액세스 토큰 정보
+ * <p>
+ * ttl은 초 단위이며, {@link ForbiddenTokenRepository}가 key의 만료 시간으로 사용한다.
+ */
 @Getter
-@RedisHash("forbiddenToken")
 public class ForbiddenToken {
-    @Id
     private final String accessToken;
     private final Long userId;
-    @TimeToLive
     private final long ttl;
 
     @Builder
@@ -0,0 +1,208 @@
+package kr.co.pennyway.domain.common.redis.forbidden;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 블랙 리스트에 등록된 액세스 토큰을 서버마다 로컬에 보관하는 {@link TimeBucketedBloomFilter} <br/>
+ * 대부분의 토큰은 블랙 리스트에 없으므로, filter가 "없음"을 보장하는 경우 Redis를 조회하지 않는다.
+ * <p>
+ * 블랙 리스트 등록은 {@link #CHANNEL} 채널로 발행되어 모든 서버의 filter에 반영된다.
+ * 채널을 구독하기 전에 등록된 토큰과 구독이 끊긴 동안 유실된 메시지를 반영하기 위해, 구독이 (재)시작될 때마다 Redis의 블랙 리스트를 다시 읽어 filter를 채운다.
+ * 동기화가 끝나기 전에는 filter를 사용하지 않고 모든 요청을 Redis로 확인한다.
+ * <p>
+ * 이 클래스를 {@link org.springframework.data.redis.listener.RedisMessageListenerContainer}에 {@link #CHANNEL} 채널의 리스너로 등록해야 한다.
+ */
+@Slf4j
+public class ForbiddenTokenFilter implements MessageListener, SubscriptionListener {
+    public static final String CHANNEL = "forbidden-token:created";
+    private static final String KEY_PREFIX = "forbiddenToken:";
+    private static final String PHANTOM_KEY_SUFFIX = ":phantom";
+    private static final String DELIMITER = ":";
+
+    private final TimeBucketedBloomFilter bloomFilter;
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+
+    private final AtomicLong subscriptionGeneration = new AtomicLong();
+    private volatile boolean ready = false;
+
+    private final Counter negative;
+    private final Counter positive;
+    private final Counter bypass;
+    private final Counter falsePositive;
+
+    /**
+     * @param bucketWidth        : Bloom filter 구간의 길이. 구간은 토큰의 만료 시각 기준으로 나뉘며, 구간의 끝이 지나면 제거된다.
+     * @param expectedInsertions : 구간별 예상 블랙 리스트 등록 수
+     * @param falsePositiveRate  : 구간별 목표 오탐률
+     */
+    public ForbiddenTokenFilter(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Duration bucketWidth, int expectedInsertions, double falsePositiveRate) {
+        this(redisTemplate, meterRegistry, bucketWidth, expectedInsertions, falsePositiveRate, Clock.systemDefaultZone());
+    }
+
+    ForbiddenTokenFilter(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Duration bucketWidth, int expectedInsertions, double falsePositiveRate, Clock clock) {
+        this.bloomFilter = new TimeBucketedBloomFilter(bucketWidth.toMillis(), expectedInsertions, falsePositiveRate, clock);
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+
+        this.negative = checkCounter(meterRegistry, "negative");
+        this.positive = checkCounter(meterRegistry, "positive");
+        this.bypass = checkCounter(meterRegistry, "bypass");
+        this.falsePositive = Counter.builder("forbidden.token.filter.false.positives")
+                .description("filter가 블랙 리스트에 있을 수 있다고 판단했으나, Redis에 존재하지 않은 토큰 수")
+                .register(meterRegistry);
+
+        Gauge.builder("forbidden.token.filter.memory", bloomFilter, TimeBucketedBloomFilter::memoryBytes)
+                .description("블랙 리스트 filter가 사용하는 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("forbidden.token.filter.buckets", bloomFilter, TimeBucketedBloomFilter::bucketCount)
+                .description("블랙 리스트 filter의 구간 수")
+                .register(meterRegistry);
+        Gauge.builder("forbidden.token.filter.ready", this, filter -> filter.ready ? 1 : 0)
+                .description("블랙 리스트 filter의 동기화 여부")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰이 블랙 리스트에 등록되어 있을 가능성이 있는지 확인한다.
+     *
+     * @return false인 경우 블랙 리스트에 없음이 보장되며, true인 경우 Redis로 확인해야 한다.
+     */
+    public boolean mightBeForbidden(String accessToken) {
+        if (!ready) {
+            bypass.increment();
+            return true;
+        }
+
+        if (bloomFilter.mightContain(accessToken)) {
+            positive.increment();
+            return true;
+        }
+
+        negative.increment();
+        return false;
+    }
+
+    /**
+     * {@link #mightBeForbidden(String)}가 true를 반환했으나 Redis에 존재하지 않은 경우 호출한다.
+     */
+    public void recordFalsePositive() {
+        falsePositive.increment();
+    }
+
+    /**
+     * 블랙 리스트 등록을 현재 서버의 filter에 즉시 반영하고, 다른 서버에 전파한다. <br/>
+     * 전파에 실패하면 다른 서버는 구독이 재시작될 때까지 해당 토큰을 허용할 수 있으므로, 예외를 호출자에게 전파한다.
+     */
+    public void register(String accessToken, LocalDateTime expiresAt) {
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        bloomFilter.put(accessToken, expiresAtMillis);
+        redisTemplate.convertAndSend(CHANNEL, expiresAtMillis + DELIMITER + accessToken);
+    }
+
+    /**
+     * 다른 서버에서 발행한 블랙 리스트 등록 메시지를 filter에 반영한다. 메시지 형식은 {@code {만료 시각(epoch millis)}:{토큰}}이다.
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(DELIMITER);
+
+        try {
+            bloomFilter.put(body.substring(index + 1), Long.parseLong(body.substring(0, index)));
+        } catch (RuntimeException e) {
+            log.warn("블랙 리스트 등록 메시지를 처리할 수 없습니다. 다음 동기화 전까지 filter를 사용하지 않습니다. message: {}", body, e);
+            ready = false;
+            synchronizeAsync(subscriptionGeneration.incrementAndGet());
+        }
+    }
+
+    /**
+     * 구독이 (재)시작되면, 구독이 없던 동안 등록된 토큰을 반영하기 위해 Redis의 블랙 리스트로 filter를 다시 채운다. <br/>
+     * 구독 알림은 Redis 클라이언트의 I/O 스레드에서 호출될 수 있으므로, 동기화는 별도의 스레드에서 수행한다.
+     */
+    @Override
+    public void onChannelSubscribed(@NonNull byte[] channel, long count) {
+        ready = false;
+        synchronizeAsync(subscriptionGeneration.incrementAndGet());
+    }
+
+    @Override
+    public void onChannelUnsubscribed(@NonNull byte[] channel, long count) {
+        subscriptionGeneration.incrementAndGet();
+        ready = false;
+        log.warn("블랙 리스트 채널 구독이 해제되었습니다. 재구독 전까지 filter를 사용하지 않습니다.");
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    private void synchronizeAsync(long generation) {
+        CompletableFuture.runAsync(() -> synchronize(generation))
+                .exceptionally(e -> {
+                    log.error("블랙 리스트 filter 동기화에 실패했습니다. 재구독 전까지 filter를 사용하지 않습니다.", e);
+                    return null;
+                });
+    }
+
+    /**
+     * Redis에 남아있는 블랙 리스트를 filter에 반영한다. <br/>
+     * 동기화 도중 구독 상태가 바뀐 경우, 새로운 동기화가 완료되어야 filter를 사용한다.
+     */
+    private void synchronize(long generation) {
+        long now = clock.millis();
+        int count = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.endsWith(PHANTOM_KEY_SUFFIX)) {
+                    continue;
+                }
+
+                Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis == null || ttlMillis <= 0) {
+                    continue;
+                }
+
+                bloomFilter.put(key.substring(KEY_PREFIX.length()), now + ttlMillis);
+                ++count;
+            }
+        }
+
+        if (subscriptionGeneration.get() == generation) {
+            ready = true;
+            log.info("블랙 리스트 filter 동기화가 완료되었습니다. 반영된 토큰 수 : {}", count);
+        }
+    }
+
+    private Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("forbidden.token.filter.checks")
+                .description("블랙 리스트 filter의 확인 결과 수. negative는 Redis 조회를 생략한 요청, bypass는 동기화 전이라 filter를 사용하지 않은 요청이다.")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,40 @@
 package kr.co.pennyway.domain.common.redis.forbidden;
 
-import org.springframework.data.repository.CrudRepository;
+import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
 
-public interface ForbiddenTokenRepository extends CrudRepository<ForbiddenToken, String> {
+import java.time.Duration;
+
+/**
+ * 블랙 리스트에 등록된 액세스 토큰을 {@code forbiddenToken:{accessToken}} 문자열 key에 저장하는 Repository
+ * <p>
+ * 값은 사용자 아이디이며, 만료 시간은 Redis TTL로 관리하므로 index set이나 phantom key를 만들지 않는다.
+ * {@link ForbiddenTokenFilter}는 같은 key prefix를 scan하여 filter를 동기화한다.
+ */
+@Repository
+public class ForbiddenTokenRepository {
+    private static final String KEY_PREFIX = "forbiddenToken:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ForbiddenTokenRepository(@DomainRedisConnectionFactory RedisConnectionFactory redisConnectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * TTL이 0 이하라면 이미 만료된 토큰이므로 저장하지 않는다.
+     */
+    public void save(ForbiddenToken forbiddenToken) {
+        if (forbiddenToken.getTtl() <= 0) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + forbiddenToken.getAccessToken(), String.valueOf(forbiddenToken.getUserId()), Duration.ofSeconds(forbiddenToken.getTtl()));
+    }
+
+    public boolean existsById(String accessToken) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + accessToken));
+    }
 }
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @DomainService
 public class ForbiddenTokenService {
     private final ForbiddenTokenRepository forbiddenTokenRepository;
+    private final ForbiddenTokenFilter forbiddenTokenFilter;
 
     /**
      * 토큰을 블랙 리스트에 등록합니다.
@@ -29,15 +30,25 @@ public class ForbiddenTokenService {
 
         ForbiddenToken forbiddenToken = ForbiddenToken.of(accessToken, userId, timeToLive);
         forbiddenTokenRepository.save(forbiddenToken);
+        forbiddenTokenFilter.register(accessToken, expiresAt);
         log.info("forbidden token registered. about User : {}", forbiddenToken.getUserId());
     }
 
     /**
-     * 토큰이 블랙 리스트에 등록되어 있는지 확인합니다.
+     * 토큰이 블랙 리스트에 등록되어 있는지 확인합니다. <br/>
+     * 로컬 filter가 블랙 리스트에 없음을 보장하는 경우, Redis를 조회하지 않습니다.
      *
      * @return : 블랙 리스트에 등록되어 있으면 true, 아니면 false
      */
     public boolean isForbidden(String accessToken) {
-        return forbiddenTokenRepository.existsById(accessToken);
+        if (!forbiddenTokenFilter.mightBeForbidden(accessToken)) {
+            return false;
+        }
+
+        boolean forbidden = forbiddenTokenRepository.existsById(accessToken);
+        if (!forbidden) {
+            forbiddenTokenFilter.recordFalsePositive();
+        }
+        return forbidden;
     }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package kr.co.pennyway.domain.common.redis.forbidden;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 만료 시각을 기준으로 구간(bucket)을 나누어 관리하는 Bloom filter <br/>
+ * 값은 만료 시각이 속한 구간의 Bloom filter에 추가되며, 구간의 끝이 지나면 구간 전체를 제거한다.
+ * 따라서 만료된 값을 개별적으로 삭제하지 않아도 filter의 크기와 오탐률이 계속 증가하지 않는다.
+ * <p>
+ * {@link #mightContain(String)}이 false를 반환하면 값은 추가된 적이 없음이 보장되며, true를 반환하면 추가되었을 가능성이 있다.
+ */
+class TimeBucketedBloomFilter {
+    private final ConcurrentNavigableMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+    private final long bucketWidthMillis;
+    private final int numBits;
+    private final int numHashFunctions;
+    private final Clock clock;
+
+    /**
+     * @param bucketWidthMillis   : 구간의 길이 (ms)
+     * @param expectedInsertions  : 구간별 예상 추가 개수
+     * @param falsePositiveRate   : 예상 추가 개수만큼 추가되었을 때의 목표 오탐률
+     */
+    TimeBucketedBloomFilter(long bucketWidthMillis, int expectedInsertions, double falsePositiveRate, Clock clock) {
+        if (bucketWidthMillis <= 0 || expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("bucketWidthMillis, expectedInsertions는 양수, falsePositiveRate는 0과 1 사이의 값이어야 합니다.");
+        }
+
+        this.bucketWidthMillis = bucketWidthMillis;
+        this.numBits = (int) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.clock = clock;
+    }
+
+    /**
+     * 값을 추가한다. 이미 만료된 값은 추가하지 않는다.
+     *
+     * @param expiresAtMillis : 값의 만료 시각 (epoch millis)
+     */
+    void put(String value, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.millis()) {
+            return;
+        }
+
+        long[] hashes = hash(value);
+        buckets.computeIfAbsent(expiresAtMillis / bucketWidthMillis, key -> new Bucket(numBits)).put(hashes, numHashFunctions);
+    }
+
+    boolean mightContain(String value) {
+        evictExpiredBuckets();
+
+        long[] hashes = hash(value);
+        for (Bucket bucket : buckets.values()) {
+            if (bucket.mightContain(hashes, numHashFunctions)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void clear() {
+        buckets.clear();
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    long memoryBytes() {
+        return (long) buckets.size() * ((numBits + Long.SIZE - 1) / Long.SIZE) * Long.BYTES;
+    }
+
+    /**
+     * 구간의 끝이 현재 시각보다 이전인 구간은 모든 값이 만료되었으므로 제거한다.
+     */
+    private void evictExpiredBuckets() {
+        long current = clock.millis() / bucketWidthMillis;
+
+        Map.Entry<Long, Bucket> oldest;
+        while ((oldest = buckets.firstEntry()) != null && oldest.getKey() < current) {
+            buckets.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /**
+     * 서로 다른 seed를 사용한 두 개의 64bit FNV-1a 해시를 계산한다. <br/>
+     * k개의 해시 함수는 double hashing({@code h1 + i * h2})으로 유도한다.
+     */
+    private static long[] hash(String value) {
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x84222325cbf29ce4L;
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        return new long[]{mix(h1), mix(h2) | 1L};
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Bucket {
+        private final AtomicLongArray bits;
+        private final int numBits;
+
+        Bucket(int numBits) {
+            this.bits = new AtomicLongArray((numBits + Long.SIZE - 1) / Long.SIZE);
+            this.numBits = numBits;
+        }
+
+        void put(long[] hashes, int numHashFunctions) {
+            for (int i = 0; i < numHashFunctions; ++i) {
+                int index = index(hashes, i);
+                long mask = 1L << index;
+                int word = index >>> 6;
+
+                long current;
+                while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                    // 다른 스레드가 같은 word를 변경한 경우 재시도한다.
+                }
+            }
+        }
+
+        boolean mightContain(long[] hashes, int numHashFunctions) {
+            for (int i = 0; i < numHashFunctions; ++i) {
+                int index = index(hashes, i);
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long[] hashes, int i) {
+            return (int) Long.remainderUnsigned(hashes[0] + i * hashes[1], numBits);
+        }
+    }
+}
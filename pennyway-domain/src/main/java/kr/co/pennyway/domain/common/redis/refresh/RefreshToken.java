@@ -4,18 +4,19 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
 
-@RedisHash("refreshToken")
+/**
+ * Redis에 저장되는 refresh token 정보
+ * <p>
+ * ttl은 초 단위이며, {@link RefreshTokenRepository}가 key의 만료 시간으로 사용한다.
+ */
 @Getter
 @ToString(of = {"userId", "token", "ttl"})
 @EqualsAndHashCode(of = {"userId", "token"})
 public class RefreshToken {
-    @Id
     private final Long userId;
     private final long ttl;
-    private String token;
+    private final String token;
 
     @Builder
     private RefreshToken(String token, Long userId, long ttl) {
@@ -31,8 +32,4 @@ public class RefreshToken {
                 .ttl(ttl)
                 .build();
     }
-
-    protected void rotation(String token) {
-        this.token = token;
-    }
 }
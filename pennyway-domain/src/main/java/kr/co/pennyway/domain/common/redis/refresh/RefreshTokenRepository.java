@@ -1,6 +1,131 @@
 package kr.co.pennyway.domain.common.redis.refresh;
 
-import org.springframework.data.repository.CrudRepository;
+import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
 
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, Long> {
-}
\ No newline at end of file
+import java.util.List;
+
+/**
+ * refresh token을 {@code refreshToken:{userId}} 문자열 key에 TTL과 함께 저장하는 Repository
+ * <p>
+ * 모든 연산은 Lua 스크립트 하나로 실행되므로, 토큰 비교와 교체가 한 번의 round-trip 안에서 원자적으로 처리된다.
+ * 이전에 {@code @RedisHash}로 저장된 hash 값은 갱신하는 시점에 문자열 key로 옮기고, Spring Data가 관리하던 {@code refreshToken} index set에서도 제거한다.
+ * 조회는 두 형식을 모두 읽는다.
+ * <p>
+ * 이전 버전의 노드는 문자열 key를 hash로 조회하여 WRONGTYPE 오류가 발생하므로, 이전 버전과 이 버전의 노드를 동시에 운영해서는 안 된다.
+ */
+@Repository
+public class RefreshTokenRepository {
+    private static final String KEY_PREFIX = "refreshToken:";
+    private static final String LEGACY_INDEX_KEY = "refreshToken";
+
+    /**
+     * KEYS[1] : refresh token key, KEYS[2] : legacy index set <br/>
+     * ARGV[1] : 요청한 refresh token, ARGV[2] : 새 refresh token, ARGV[3] : TTL(초), ARGV[4] : userId
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local stored
+            local type = redis.call('TYPE', KEYS[1])['ok']
+            if type == 'hash' then
+                stored = redis.call('HGET', KEYS[1], 'token')
+                redis.call('DEL', KEYS[1])
+                redis.call('SREM', KEYS[2], ARGV[4])
+            elseif type == 'string' then
+                stored = redis.call('GET', KEYS[1])
+            end
+            if not stored then
+                return 0
+            end
+            if stored ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 2
+            end
+            if tonumber(ARGV[3]) > 0 then
+                redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            else
+                redis.call('SET', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] : refresh token key, KEYS[2] : legacy index set <br/>
+     * ARGV[1] : refresh token, ARGV[2] : TTL(초), ARGV[3] : userId
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(ARGV[2]) > 0 then
+                redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            else
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            return redis.call('SREM', KEYS[2], ARGV[3])
+            """, Long.class);
+
+    /**
+     * KEYS[1] : refresh token key, KEYS[2] : legacy index set <br/>
+     * ARGV[1] : userId
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local deleted = redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return deleted
+            """, Long.class);
+
+    /**
+     * KEYS[1] : refresh token key
+     */
+    private static final RedisScript<String> FIND_SCRIPT = new DefaultRedisScript<>("""
+            local type = redis.call('TYPE', KEYS[1])['ok']
+            if type == 'hash' then
+                return redis.call('HGET', KEYS[1], 'token')
+            elseif type == 'string' then
+                return redis.call('GET', KEYS[1])
+            end
+            return false
+            """, String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RefreshTokenRepository(@DomainRedisConnectionFactory RedisConnectionFactory redisConnectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    public void save(RefreshToken refreshToken) {
+        redisTemplate.execute(SAVE_SCRIPT, keys(refreshToken.getUserId()),
+                refreshToken.getToken(), String.valueOf(refreshToken.getTtl()), String.valueOf(refreshToken.getUserId()));
+    }
+
+    /**
+     * 저장된 refresh token이 요청한 토큰과 같을 때만 새 토큰으로 교체한다. 다르다면 저장된 토큰을 삭제한다.
+     *
+     * @param ttl : 새 refresh token의 TTL(초). 0 이하라면 만료 시간을 설정하지 않는다.
+     */
+    public RefreshTokenRotationStatus rotate(Long userId, String oldRefreshToken, String newRefreshToken, long ttl) {
+        Long code = redisTemplate.execute(ROTATE_SCRIPT, keys(userId),
+                oldRefreshToken, newRefreshToken, String.valueOf(ttl), String.valueOf(userId));
+        return RefreshTokenRotationStatus.of(code);
+    }
+
+    /**
+     * @return 삭제된 refresh token이 있다면 true
+     */
+    public boolean delete(Long userId) {
+        Long deleted = redisTemplate.execute(DELETE_SCRIPT, keys(userId), String.valueOf(userId));
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 이전 형식(hash)으로 저장된 토큰도 조회하며, 조회만으로는 문자열 key로 옮기지 않는다.
+     */
+    public String findTokenById(Long userId) {
+        return redisTemplate.execute(FIND_SCRIPT, List.of(KEY_PREFIX + userId));
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(KEY_PREFIX + userId, LEGACY_INDEX_KEY);
+    }
+}
@@ -0,0 +1,26 @@
+package kr.co.pennyway.domain.common.redis.refresh;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * refresh token 교체 스크립트의 실행 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RefreshTokenRotationStatus {
+    MISSING(0L),
+    ROTATED(1L),
+    MISMATCHED_AND_REVOKED(2L);
+
+    private final long code;
+
+    public static RefreshTokenRotationStatus of(Long code) {
+        return Arrays.stream(values())
+                .filter(status -> code != null && status.code == code)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("unknown rotation status : " + code));
+    }
+}
@@ -10,15 +10,17 @@ public interface RefreshTokenService {
 
     /**
      * 사용자가 보낸 refresh token으로 기존 refresh token과 비교 검증 후, 새로운 refresh token으로 저장한다.
+     * 비교와 교체는 한 번의 Redis 요청으로 원자적으로 처리된다.
      *
      * @param userId          : 토큰 주인 pk
      * @param oldRefreshToken : 사용자가 보낸 refresh token
      * @param newRefreshToken : 교체할 refresh token
+     * @param ttl             : 교체할 refresh token의 TTL(초)
      * @return {@link RefreshToken}
      * @throws IllegalArgumentException : userId에 해당하는 refresh token이 없을 경우
      * @throws IllegalStateException    : 요청한 토큰과 저장된 토큰이 다르다면 토큰이 탈취되었다고 판단하여 값 삭제
      */
-    RefreshToken refresh(Long userId, String oldRefreshToken, String newRefreshToken) throws IllegalArgumentException, IllegalStateException;
+    RefreshToken refresh(Long userId, String oldRefreshToken, String newRefreshToken, long ttl) throws IllegalArgumentException, IllegalStateException;
 
     /**
      * access token 으로 refresh token을 찾아서 제거 (로그아웃)
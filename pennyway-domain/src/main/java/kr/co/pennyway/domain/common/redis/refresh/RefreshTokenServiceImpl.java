@@ -9,61 +9,38 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
-    
+
     @Override
     public void save(RefreshToken refreshToken) {
         refreshTokenRepository.save(refreshToken);
         log.debug("리프레시 토큰 저장 : {}", refreshToken);
     }
 
+    /**
+     * 토큰 비교와 교체는 {@link RefreshTokenRepository#rotate(Long, String, String, long)}의 Lua 스크립트 안에서 원자적으로 처리되므로,
+     * 같은 토큰으로 동시에 갱신을 요청하더라도 하나의 요청만 성공한다.
+     */
     @Override
-    public RefreshToken refresh(Long userId, String oldRefreshToken, String newRefreshToken) throws IllegalArgumentException, IllegalStateException {
-        RefreshToken refreshToken = findOrElseThrow(userId);
-
-        validateToken(oldRefreshToken, refreshToken);
-
-        refreshToken.rotation(newRefreshToken);
-        refreshTokenRepository.save(refreshToken);
+    public RefreshToken refresh(Long userId, String oldRefreshToken, String newRefreshToken, long ttl) throws IllegalArgumentException, IllegalStateException {
+        RefreshTokenRotationStatus status = refreshTokenRepository.rotate(userId, oldRefreshToken, newRefreshToken, ttl);
+
+        switch (status) {
+            case MISSING -> throw new IllegalArgumentException("refresh token not found");
+            case MISMATCHED_AND_REVOKED -> {
+                log.warn("리프레시 토큰 불일치(탈취). 사용자 {}의 리프레시 토큰 삭제", userId);
+                throw new IllegalStateException("refresh token mismatched");
+            }
+        }
 
         log.info("사용자 {}의 리프레시 토큰 갱신", userId);
-        return refreshToken;
+        return RefreshToken.of(userId, newRefreshToken, ttl);
     }
 
     @Override
     public void delete(Long userId, String refreshToken) throws IllegalArgumentException {
-        RefreshToken token = findOrElseThrow(userId);
-        refreshTokenRepository.delete(token);
-        log.info("사용자 {}의 리프레시 토큰 삭제", userId);
-    }
-
-    private RefreshToken findOrElseThrow(Long userId) {
-        return refreshTokenRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("refresh token not found"));
-    }
-
-    /**
-     * @param requestRefreshToken  String : 사용자가 보낸 refresh token
-     * @param expectedRefreshToken String : Redis에 저장된 refresh token
-     * @throws IllegalStateException : 요청한 토큰과 저장된 토큰이 다르다면 토큰이 탈취되었다고 판단하여 값 삭제
-     */
-    private void validateToken(String requestRefreshToken, RefreshToken expectedRefreshToken) throws IllegalStateException {
-        if (isTakenAway(requestRefreshToken, expectedRefreshToken.getToken())) {
-            log.warn("리프레시 토큰 불일치(탈취). expected : {}, actual : {}", requestRefreshToken, expectedRefreshToken.getToken());
-            refreshTokenRepository.delete(expectedRefreshToken);
-            log.info("사용자 {}의 리프레시 토큰 삭제", expectedRefreshToken.getUserId());
-
-            throw new IllegalStateException("refresh token mismatched");
+        if (!refreshTokenRepository.delete(userId)) {
+            throw new IllegalArgumentException("refresh token not found");
         }
-    }
-
-    /**
-     * 토큰 탈취 여부 확인
-     *
-     * @param requestRefreshToken  String : 사용자가 보낸 refresh token
-     * @param expectedRefreshToken String : Redis에 저장된 refresh token
-     * @return boolean : 탈취되었다면 true, 아니면 false
-     */
-    private boolean isTakenAway(String requestRefreshToken, String expectedRefreshToken) {
-        return !requestRefreshToken.equals(expectedRefreshToken);
+        log.info("사용자 {}의 리프레시 토큰 삭제", userId);
     }
 }
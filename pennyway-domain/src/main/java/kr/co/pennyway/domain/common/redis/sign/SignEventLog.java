@@ -2,15 +2,16 @@ package kr.co.pennyway.domain.common.redis.sign;
 
 import lombok.Builder;
 import lombok.Getter;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
 
 import java.time.LocalDateTime;
 
+/**
+ * 사용자의 마지막 접속 정보
+ * <p>
+ * {@link SignEventLogRepository}가 사용자마다 하나의 key에 {@link SignEventLogSerializer}로 직렬화하여 하루 동안 보관한다.
+ */
 @Getter
-@RedisHash(value = "signEventLog", timeToLive = 60 * 60 * 24)
 public class SignEventLog {
-    @Id
     private final Long userId;
     private final LocalDateTime signedAt;
     private final String ipAddress;
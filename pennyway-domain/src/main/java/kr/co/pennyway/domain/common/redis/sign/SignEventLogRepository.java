@@ -1,6 +1,81 @@
 package kr.co.pennyway.domain.common.redis.sign;
 
-import org.springframework.data.repository.ListCrudRepository;
+import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
 
-public interface SignEventLogRepository extends ListCrudRepository<SignEventLog, Long> {
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 사용자의 접속 정보를 {@code signEventLog:{userId}} key에 {@link SignEventLogSerializer}로 직렬화하여 저장하는 Repository
+ * <p>
+ * 저장은 TTL을 포함한 SET 한 번으로 끝나며, 전체 조회는 index set 대신 key prefix를 scan한다.
+ */
+@Repository
+public class SignEventLogRepository {
+    private static final String KEY_PREFIX = "signEventLog:";
+    private static final String PHANTOM_KEY_SUFFIX = ":phantom";
+    private static final Duration TIME_TO_LIVE = Duration.ofDays(1);
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, SignEventLog> redisTemplate;
+
+    public SignEventLogRepository(@DomainRedisConnectionFactory RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, SignEventLog> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new SignEventLogSerializer());
+        template.afterPropertiesSet();
+
+        this.redisTemplate = template;
+    }
+
+    public void save(SignEventLog signEventLog) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + signEventLog.getUserId(), signEventLog, TIME_TO_LIVE);
+    }
+
+    /**
+     * 이전 형식(hash)으로 저장된 값은 MGET 결과가 null이므로 제외된다.
+     */
+    public List<SignEventLog> findAll() {
+        List<SignEventLog> signEventLogs = new ArrayList<>();
+        List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.endsWith(PHANTOM_KEY_SUFFIX)) {
+                    continue;
+                }
+
+                keys.add(key);
+                if (keys.size() == SCAN_BATCH_SIZE) {
+                    addAll(signEventLogs, keys);
+                }
+            }
+        }
+        addAll(signEventLogs, keys);
+
+        return signEventLogs;
+    }
+
+    private void addAll(List<SignEventLog> signEventLogs, List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<SignEventLog> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values != null) {
+            values.stream().filter(Objects::nonNull).forEach(signEventLogs::add);
+        }
+        keys.clear();
+    }
 }
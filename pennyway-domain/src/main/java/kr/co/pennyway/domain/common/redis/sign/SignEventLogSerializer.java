@@ -0,0 +1,93 @@
+package kr.co.pennyway.domain.common.redis.sign;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * {@link SignEventLog}를 필드 순서대로 기록하는 binary 직렬화 도구
+ * <p>
+ * 필드 이름이나 클래스 정보를 기록하지 않으므로, JSON이나 hash보다 적은 메모리를 사용한다.
+ * 맨 앞의 {@link #VERSION}은 필드 구성이 바뀌었을 때 이전 값을 구분하기 위해 사용하며, 알 수 없는 버전의 값은 null로 읽는다.
+ * 문자열 필드는 null 여부를 먼저 기록한다.
+ */
+public class SignEventLogSerializer implements RedisSerializer<SignEventLog> {
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte[] serialize(SignEventLog value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(value.getUserId());
+            writeDateTime(out, value.getSignedAt());
+            writeString(out, value.getIpAddress());
+            writeString(out, value.getIpAddressHeader());
+            writeString(out, value.getAppVersion());
+            writeString(out, value.getDeviceModel());
+            writeString(out, value.getOs());
+        } catch (IOException e) {
+            throw new SerializationException("Could not serialize SignEventLog", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public SignEventLog deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+
+            return SignEventLog.builder()
+                    .userId(in.readLong())
+                    .signedAt(readDateTime(in))
+                    .ipAddress(readString(in))
+                    .ipAddressHeader(readString(in))
+                    .appVersion(readString(in))
+                    .deviceModel(readString(in))
+                    .os(readString(in))
+                    .build();
+        } catch (IOException e) {
+            throw new SerializationException("Could not deserialize SignEventLog", e);
+        }
+    }
+
+    private void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toLocalDate().toEpochDay());
+            out.writeLong(value.toLocalTime().toNanoOfDay());
+        }
+    }
+
+    private LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -6,14 +6,30 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 메서드를 Redisson 분산 락 안에서 실행한다. <br/>
+ * Lock을 획득하지 못하면 메서드를 실행하지 않고 {@link kr.co.pennyway.domain.common.exception.DistributedLockErrorException}을 던진다.
+ * <p>
+ * 요청 스레드에서 호출하는 경우, 대기 시간 동안 스레드가 점유되므로 {@link #failFast()}를 사용하는 것을 권장한다.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
+    /**
+     * {@link #leaseTime()}으로 설정하면 고정된 임대 시간 없이 Redisson watchdog이 Lock의 만료 시간을 연장한다.
+     */
+    long WATCHDOG = -1L;
+
     /**
      * Lock 이름
      */
     String key();
 
+    /**
+     * Lock 종류 (DEFAULT: {@link LockType#REENTRANT})
+     */
+    LockType type() default LockType.REENTRANT;
+
     /**
      * Lock 유지 시간 (초)
      */
@@ -27,10 +43,16 @@ public @interface DistributedLock {
 
     /**
      * Lock 임대 시간 (DEFAULT: 5초)
-     * LOCK 획득 이후 leaseTime이 지나면 LOCK을 해제한다.
+     * LOCK 획득 이후 leaseTime이 지나면 LOCK을 해제한다. {@link #WATCHDOG}인 경우, 메서드가 끝날 때까지 Lock을 유지한다.
      */
     long leaseTime() default 5L;
 
+    /**
+     * Lock을 즉시 획득하지 못하면 대기하지 않고 실패할지 여부 (DEFAULT: false) <br/>
+     * true인 경우 {@link #waitTime()}은 무시된다.
+     */
+    boolean failFast() default false;
+
     /**
      * 동일한 트랜잭션에서 Lock을 획득할지 여부 (DEFAULT: true) <br/>
      * - true : Propagation.REQUIRES_NEW 전파 방식을 사용하여 새로운 트랜잭션에서 Lock을 획득한다. <br/>
@@ -5,4 +5,5 @@ package kr.co.pennyway.domain.common.redisson;
  */
 public class DistributedLockPrefix {
     public static final String TARGET_AMOUNT_USER = "TargetAmount_User_";
+    public static final String BATCH_JOB_LEADER = "Batch_Job_Leader_";
 }
@@ -0,0 +1,48 @@
+package kr.co.pennyway.domain.common.redisson;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+/**
+ * {@link DistributedLock}이 획득하는 Redisson Lock의 종류
+ */
+public enum LockType {
+    /**
+     * 획득 순서를 보장하지 않는 재진입 가능 Lock
+     */
+    REENTRANT {
+        @Override
+        public RLock getLock(RedissonClient redissonClient, String key) {
+            return redissonClient.getLock(key);
+        }
+    },
+    /**
+     * 먼저 요청한 스레드가 먼저 획득하는 Lock. 대기하는 스레드가 많을수록 Redis 요청이 늘어난다.
+     */
+    FAIR {
+        @Override
+        public RLock getLock(RedissonClient redissonClient, String key) {
+            return redissonClient.getFairLock(key);
+        }
+    },
+    /**
+     * 같은 key의 {@link #WRITE} Lock이 없으면 여러 스레드가 동시에 획득할 수 있는 Lock
+     */
+    READ {
+        @Override
+        public RLock getLock(RedissonClient redissonClient, String key) {
+            return redissonClient.getReadWriteLock(key).readLock();
+        }
+    },
+    /**
+     * 같은 key의 {@link #READ}, {@link #WRITE} Lock과 함께 획득할 수 없는 Lock
+     */
+    WRITE {
+        @Override
+        public RLock getLock(RedissonClient redissonClient, String key) {
+            return redissonClient.getReadWriteLock(key).writeLock();
+        }
+    };
+
+    public abstract RLock getLock(RedissonClient redissonClient, String key);
+}
@@ -0,0 +1,28 @@
+package kr.co.pennyway.domain.common.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * 키셋(seek) 페이지네이션의 조회 결과를 담는 Slice <br/>
+ * 다음 데이터를 조회할 때 사용할 cursor를 함께 제공한다.
+ *
+ * @author YANG JAESEO
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        super(content, pageable, hasNext);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return 다음 데이터가 존재하지 않으면 null을 반환한다.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
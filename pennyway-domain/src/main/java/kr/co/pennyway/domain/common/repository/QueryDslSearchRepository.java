@@ -14,7 +14,7 @@ import java.util.Map;
  * QueryDsl을 이용한 검색 조건을 처리하는 기본적인 메서드를 선언한 인터페이스
  *
  * @author YANG JAESEO
- * @version 1.1
+ * @version 1.2
  */
 public interface QueryDslSearchRepository<T> {
 
@@ -54,7 +54,8 @@ public interface QueryDslSearchRepository<T> {
     List<T> findList(Predicate predicate, QueryHandler queryHandler, Sort sort);
 
     /**
-     * 검색 조건에 해당하는 도메인 페이지를 조회하는 메서드
+     * 검색 조건에 해당하는 도메인 페이지를 조회하는 메서드 <br/>
+     * 전체 개수는 {@link #count(Predicate, QueryHandler)}로 조회하며, 첫 페이지의 결과가 페이지 크기보다 작은 경우에는 카운트 쿼리를 생략한다.
      *
      * @param predicate : 검색 조건
      * @param queryHandler : 검색 조건에 추가적으로 적용할 조건
@@ -88,6 +89,55 @@ public interface QueryDslSearchRepository<T> {
      */
     Page<T> findPage(Predicate predicate, QueryHandler queryHandler, Pageable pageable);
 
+    /**
+     * 검색 조건에 해당하는 도메인의 개수를 조회하는 메서드 <br/>
+     * 조회 쿼리와 동일한 Predicate, QueryHandler의 join 조건으로 {@code SELECT COUNT(*)} 쿼리를 생성하며, fetch join, 정렬 조건, offset/limit은 적용하지 않는다. <br/>
+     * QueryHandler가 group by를 적용한 경우에는 그룹의 개수를 반환한다.
+     *
+     * @param predicate : 검색 조건
+     * @param queryHandler : 검색 조건에 추가적으로 적용할 조건
+     * @return 검색 조건에 해당하는 도메인의 개수
+     *
+     * @see Predicate
+     * @see QueryHandler
+     */
+    long count(Predicate predicate, QueryHandler queryHandler);
+
+    /**
+     * 키셋(seek) 방식으로 검색 조건에 해당하는 도메인 Slice를 조회하는 메서드 <br/>
+     * offset 방식과 달리 이전 페이지의 데이터를 건너뛰기 위해 스캔하지 않으므로, 뒤쪽 페이지를 조회하더라도 성능이 일정하다. <br/>
+     * 정렬 조건에 식별자가 포함되어 있지 않다면, 마지막 정렬 키와 같은 방향으로 식별자 정렬 조건을 추가하여 순서를 유일하게 만든다.
+     *
+     * @param predicate : 검색 조건
+     * @param queryHandler : 검색 조건에 추가적으로 적용할 조건. offset, limit은 적용하지 않아야 한다.
+     * @param cursor : 이전 조회 결과의 {@link CursorSlice#getNextCursor()}. null이면 첫 번째 Slice를 조회한다.
+     * @param size : 조회할 데이터 개수
+     * @param sort : 정렬 조건. Querydsl의 경로 문자열(ex. "entity.createdAt")을 사용해야 하며, {@link org.springframework.data.querydsl.QSort}는 지원하지 않는다.
+     *
+     * // @formatter:off
+     * <pre>
+     * {@code
+     * @Component
+     * class SearchService {
+     *      private final QEntity entity = QEntity.entity;
+     *
+     *      private CursorSlice<Entity> select(String cursor) {
+     *          Predicate predicate = entity.user.id.eq(1L);
+     *          Sort sort = Sort.by(Sort.Order.desc("entity.createdAt"));
+     *
+     *          return searchRepository.findSlice(predicate, null, cursor, 30, sort);
+     *      }
+     * }
+     * }
+     * </pre>
+     * // @formatter:on
+     *
+     * @throws kr.co.pennyway.domain.common.exception.CursorErrorException cursor의 형식이 올바르지 않거나, 정렬 조건이 일치하지 않는 경우
+     * @see CursorSlice
+     * @see kr.co.pennyway.domain.common.util.QueryDslUtil#getSeekPredicate(Sort, List)
+     */
+    CursorSlice<T> findSlice(Predicate predicate, QueryHandler queryHandler, String cursor, int size, Sort sort);
+
     /**
      * 검색 조건에 해당하는 DTO 리스트를 조회하는 메서드 <br/>
      * bindings가 {@link LinkedHashMap}을 구현체로 사용하는 경우 Dto 생성자 파라미터 순서에 맞게 삽입하면, Dto의 불변성을 유지할 수 있다. <br/>
@@ -137,7 +187,8 @@ public interface QueryDslSearchRepository<T> {
     <P> List<P> selectList(Predicate predicate, Class<P> type, Map<String, Expression<?>> bindings, QueryHandler queryHandler, Sort sort);
 
     /**
-     * 검색 조건에 해당하는 DTO 페이지를 조회하는 메서드
+     * 검색 조건에 해당하는 DTO 페이지를 조회하는 메서드 <br/>
+     * 전체 개수는 {@link #count(Predicate, QueryHandler)}로 조회하며, 첫 페이지의 결과가 페이지 크기보다 작은 경우에는 카운트 쿼리를 생략한다. <br/>
      * bindings가 {@link LinkedHashMap}을 구현체로 사용하는 경우 Dto 생성자 파라미터 순서에 맞게 삽입하면, Dto의 불변성을 유지할 수 있다. <br/>
      * 만약 bindings가 삽입 순서를 보장하지 않을 경우, Dto는 기본 생성자와 setter 메서드를 제공해야 하며, 모든 필드의 final 키워드를 제거해야 한다.
      *
@@ -1,20 +1,30 @@
 package kr.co.pennyway.domain.common.repository;
 
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAQueryMixin;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import kr.co.pennyway.domain.common.util.CursorUtil;
 import kr.co.pennyway.domain.common.util.QueryDslUtil;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.querydsl.QSort;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,17 +33,20 @@ public class QueryDslSearchRepositoryImpl<T> implements QueryDslSearchRepository
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
     private final EntityPath<T> path;
+    private final String idAttribute;
 
     public QueryDslSearchRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
         this.em = entityManager;
         this.queryFactory = new JPAQueryFactory(entityManager);
         this.path = SimpleEntityPathResolver.INSTANCE.createPath(entityInformation.getJavaType());
+        this.idAttribute = (entityInformation.getIdAttribute() != null) ? entityInformation.getIdAttribute().getName() : "id";
     }
 
     public QueryDslSearchRepositoryImpl(Class<T> type, EntityManager entityManager) {
         this.em = entityManager;
         this.queryFactory = new JPAQueryFactory(entityManager);
         this.path = new EntityPathBase<>(type, "entity");
+        this.idAttribute = "id";
     }
 
     @Override
@@ -45,12 +58,11 @@ public class QueryDslSearchRepositoryImpl<T> implements QueryDslSearchRepository
     public Page<T> findPage(Predicate predicate, QueryHandler queryHandler, Pageable pageable) {
         Assert.notNull(pageable, "pageable must not be null!");
 
-        JPAQuery<?> query = this.buildWithoutSelect(predicate, null, queryHandler, pageable.getSort()).select(path);
+        JPAQuery<?> query = this.buildWithoutSelect(predicate, null, queryHandler, pageable.getSort())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
 
-        int totalSize = query.fetch().size();
-        query = query.offset(pageable.getOffset()).limit(pageable.getPageSize());
-
-        return new PageImpl<>(query.select(path).fetch(), pageable, totalSize);
+        return PageableExecutionUtils.getPage(query.select(path).fetch(), pageable, () -> this.count(predicate, queryHandler));
     }
 
     @Override
@@ -68,16 +80,34 @@ public class QueryDslSearchRepositoryImpl<T> implements QueryDslSearchRepository
     public <P> Page<P> selectPage(Predicate predicate, Class<P> type, Map<String, Expression<?>> bindings, QueryHandler queryHandler, Pageable pageable) {
         Assert.notNull(pageable, "pageable must not be null!");
 
-        JPAQuery<?> query = this.buildWithoutSelect(predicate, bindings, queryHandler, pageable.getSort()).select(path);
+        JPAQuery<?> query = this.buildWithoutSelect(predicate, bindings, queryHandler, pageable.getSort())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
 
-        int totalSize = query.fetch().size();
-        query = query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        List<P> content = (bindings instanceof LinkedHashMap)
+                ? query.select(Projections.constructor(type, bindings.values().toArray(new Expression<?>[0]))).fetch()
+                : query.select(Projections.bean(type, bindings)).fetch();
 
-        if (bindings instanceof LinkedHashMap) {
-            return new PageImpl<>(query.select(Projections.constructor(type, bindings.values().toArray(new Expression<?>[0]))).fetch(), pageable, totalSize);
+        return PageableExecutionUtils.getPage(content, pageable, () -> this.count(predicate, queryHandler));
+    }
+
+    @Override
+    public long count(Predicate predicate, QueryHandler queryHandler) {
+        JPAQuery<?> query = this.buildWithoutSelect(predicate, null, queryHandler, null);
+        QueryMetadata metadata = this.toCountMetadata(query.getMetadata());
+
+        if (!metadata.getGroupBy().isEmpty()) {
+            return new JPAQuery<>(em, metadata).select(Expressions.ONE).fetch().size();
         }
 
-        return new PageImpl<>(query.select(Projections.bean(type, bindings)).fetch(), pageable, totalSize);
+        if (metadata.isDistinct()) {
+            metadata.setDistinct(false);
+            Long count = new JPAQuery<>(em, metadata).select(Expressions.numberOperation(Long.class, Ops.AggOps.COUNT_DISTINCT_AGG, path)).fetchOne();
+            return (count == null) ? 0L : count;
+        }
+
+        Long count = new JPAQuery<>(em, metadata).select(Wildcard.count).fetchOne();
+        return (count == null) ? 0L : count;
     }
 
     /**
@@ -93,6 +123,103 @@ public class QueryDslSearchRepositoryImpl<T> implements QueryDslSearchRepository
         return query;
     }
 
+    @Override
+    public CursorSlice<T> findSlice(Predicate predicate, QueryHandler queryHandler, String cursor, int size, Sort sort) {
+        Assert.isTrue(size > 0, "size must be greater than 0!");
+        Assert.isTrue(!(sort instanceof QSort), "QSort is not supported for seek pagination!");
+
+        Sort seekSort = this.withIdTieBreaker((sort == null) ? Sort.unsorted() : sort);
+        JPAQuery<?> query = this.buildWithoutSelect(predicate, null, queryHandler, seekSort);
+
+        CursorUtil.Position position = (cursor != null) ? CursorUtil.decode(seekSort, cursor) : new CursorUtil.Position(null, 0);
+        if (position.values() != null) {
+            query.where(QueryDslUtil.getSeekPredicate(seekSort, position.values()));
+        }
+        if (position.offset() > 0) {
+            query.offset(position.offset());
+        }
+
+        List<T> contents = query.select(path).limit(size + 1).fetch();
+        boolean hasNext = contents.size() > size;
+
+        if (hasNext) {
+            contents = contents.subList(0, size);
+        }
+
+        String nextCursor = hasNext ? this.nextCursor(contents.get(size - 1), seekSort, position, size) : null;
+
+        return new CursorSlice<>(contents, PageRequest.of(0, size, seekSort), hasNext, nextCursor);
+    }
+
+    /**
+     * 마지막 데이터의 정렬 키로 키셋 cursor를 생성한다. <br/>
+     * 정렬 키 값이 null이거나 비교할 수 없는 타입(ex. enum)이라면 키셋 조건을 만들 수 없으므로, 현재 페이지의 기준 위치에서 offset을 늘린 cursor를 생성한다.
+     */
+    private String nextCursor(T last, Sort sort, CursorUtil.Position position, int size) {
+        List<Object> keys = this.extractSortKeys(last, sort);
+
+        return CursorUtil.isSeekable(keys)
+                ? CursorUtil.encode(sort, keys)
+                : CursorUtil.encodeOffset(sort, position.values(), position.offset() + size);
+    }
+
+    /**
+     * 정렬 조건에 식별자가 포함되어 있지 않다면, 마지막 정렬 조건과 같은 방향으로 식별자 정렬 조건을 추가하는 메서드
+     */
+    private Sort withIdTieBreaker(Sort sort) {
+        String idProperty = path.getMetadata().getName() + "." + idAttribute;
+
+        for (Sort.Order order : sort) {
+            if (order.getProperty().equals(idProperty) || order.getProperty().equals(idAttribute)) return sort;
+        }
+
+        Sort.Direction direction = sort.stream().reduce((first, second) -> second).map(Sort.Order::getDirection).orElse(Sort.Direction.DESC);
+
+        return sort.and(Sort.by(direction, idProperty));
+    }
+
+    /**
+     * 엔티티에서 정렬 조건에 해당하는 값을 추출하는 메서드 <br/>
+     * 정렬 키가 "entity.createdAt" 형태라면 엔티티 별칭을 제외한 "createdAt" 프로퍼티의 값을 추출한다.
+     */
+    private List<Object> extractSortKeys(T entity, Sort sort) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        String alias = path.getMetadata().getName() + ".";
+
+        List<Object> keys = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String property = order.getProperty().startsWith(alias) ? order.getProperty().substring(alias.length()) : order.getProperty();
+            keys.add(wrapper.getPropertyValue(property));
+        }
+
+        return keys;
+    }
+
+    /**
+     * 카운트 쿼리에 필요한 정보만 남긴 QueryMetadata를 생성하는 메서드 <br/>
+     * fetch join 플래그, 정렬 조건, offset/limit은 제외하고 join, where, group by, having 조건만 복사한다.
+     */
+    private QueryMetadata toCountMetadata(QueryMetadata source) {
+        QueryMetadata target = new DefaultQueryMetadata();
+
+        for (JoinExpression join : source.getJoins()) {
+            target.addJoin(join.getType(), join.getTarget());
+
+            if (join.getCondition() != null) target.addJoinCondition(join.getCondition());
+
+            join.getFlags().stream()
+                    .filter(flag -> !flag.equals(JPAQueryMixin.FETCH) && !flag.equals(JPAQueryMixin.FETCH_ALL_PROPERTIES))
+                    .forEach(target::addJoinFlag);
+        }
+
+        if (source.getWhere() != null) target.addWhere(source.getWhere());
+        source.getGroupBy().forEach(target::addGroupBy);
+        if (source.getHaving() != null) target.addHaving(source.getHaving());
+        target.setDistinct(source.isDistinct());
+
+        return target;
+    }
+
     /**
      * Querydsl의 JPAQuery에 Predicate를 적용하는 메서드 <br/>
      * Predicate가 null이 아닐 경우에만 적용
@@ -0,0 +1,201 @@
+package kr.co.pennyway.domain.common.util;
+
+import kr.co.pennyway.domain.common.exception.CursorErrorCode;
+import kr.co.pennyway.domain.common.exception.CursorErrorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * 키셋(seek) 페이지네이션에서 사용하는 cursor를 생성하고 해석하는 유틸리티 클래스 <br/>
+ * cursor는 정렬 조건과 마지막으로 조회한 데이터의 정렬 키 값을 담은 불투명한 문자열이며, 클라이언트는 그 내용을 해석하지 않고 그대로 전달해야 한다. <br/>
+ * 정렬 키 값이 null이거나 비교할 수 없는 타입(ex. enum)이라면 키셋 조건을 만들 수 없으므로, 마지막 키셋 위치와 그 위치로부터의 offset을 담은 cursor를 생성한다.
+ *
+ * @author YANG JAESEO
+ * @version 1.0
+ */
+public class CursorUtil {
+    private static final String DELIMITER = ".";
+    private static final String TYPE_DELIMITER = ":";
+    private static final String OFFSET_TYPE = "O";
+    private static final Pattern SIGNATURE_PATTERN = Pattern.compile("[\\w.]+:(ASC|DESC)(,[\\w.]+:(ASC|DESC))*");
+
+    private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    /**
+     * 정렬 조건과 정렬 키 값을 cursor 문자열로 변환하는 메서드
+     *
+     * @param sort   : 정렬 조건. 정렬 키 값의 순서와 같아야 한다.
+     * @param values : 정렬 키 값. {@link Long}, {@link Integer}, {@link String}, {@link LocalDateTime}, {@link LocalDate} 타입만 지원한다.
+     * @return cursor 문자열
+     * @throws IllegalArgumentException 정렬 키 값이 null이거나 지원하지 않는 타입인 경우
+     */
+    public static String encode(Sort sort, List<?> values) {
+        List<String> tokens = new ArrayList<>(values.size() + 1);
+        tokens.add(encodeToken(signature(sort)));
+
+        for (Object value : values) {
+            tokens.add(encodeToken(typeOf(value) + TYPE_DELIMITER + value));
+        }
+
+        return String.join(DELIMITER, tokens);
+    }
+
+    /**
+     * 정렬 조건, 기준 정렬 키 값과 offset을 cursor 문자열로 변환하는 메서드
+     *
+     * @param sort   : 정렬 조건
+     * @param values : 기준이 되는 정렬 키 값. 첫 페이지부터 offset을 계산한다면 null
+     * @param offset : 기준 위치 이후로 건너뛸 데이터 수
+     * @return cursor 문자열
+     */
+    public static String encodeOffset(Sort sort, List<?> values, long offset) {
+        String prefix = (values == null) ? encodeToken(signature(sort)) : encode(sort, values);
+
+        return prefix + DELIMITER + encodeToken(OFFSET_TYPE + TYPE_DELIMITER + offset);
+    }
+
+    /**
+     * 정렬 키 값으로 키셋 cursor를 만들 수 있는지 확인하는 메서드
+     *
+     * @return 모든 값이 null이 아니고 지원하는 타입이라면 true
+     */
+    public static boolean isSeekable(List<?> values) {
+        return values.stream().allMatch(value -> value != null && typeOrNull(value) != null);
+    }
+
+    /**
+     * cursor 문자열을 정렬 키 값과 offset으로 변환하는 메서드
+     *
+     * @param sort   : 정렬 조건. cursor를 생성할 때 사용한 정렬 조건과 같아야 한다.
+     * @param cursor : cursor 문자열
+     * @return {@link Position}
+     * @throws CursorErrorException cursor의 형식이 올바르지 않거나, 정렬 조건이 일치하지 않는 경우
+     */
+    public static Position decode(Sort sort, String cursor) {
+        String[] tokens = cursor.split("\\" + DELIMITER);
+        String signature = decodeToken(tokens[0]);
+
+        if (tokens.length < 2 || !SIGNATURE_PATTERN.matcher(signature).matches()) {
+            throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+        }
+
+        if (!signature(sort).equals(signature)) {
+            throw new CursorErrorException(CursorErrorCode.CURSOR_SORT_MISMATCH);
+        }
+
+        int valueEnd = tokens.length;
+        long offset = 0;
+
+        String last = decodeToken(tokens[tokens.length - 1]);
+        if (last.startsWith(OFFSET_TYPE + TYPE_DELIMITER)) {
+            offset = parseOffset(last);
+            --valueEnd;
+        }
+
+        if (valueEnd == 1) {
+            return new Position(null, offset);
+        }
+
+        if (valueEnd - 1 != sort.toList().size()) {
+            throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+        }
+
+        List<Object> values = new ArrayList<>(valueEnd - 1);
+        for (int i = 1; i < valueEnd; ++i) {
+            values.add(parseValue(decodeToken(tokens[i])));
+        }
+
+        return new Position(values, offset);
+    }
+
+    private static String signature(Sort sort) {
+        return StreamSupport.stream(sort.spliterator(), false)
+                .map(order -> order.getProperty() + TYPE_DELIMITER + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+
+    private static String typeOf(Object value) {
+        String type = typeOrNull(value);
+        if (type == null) {
+            throw new IllegalArgumentException("cursor로 사용할 수 없는 정렬 키 값입니다. value: " + value);
+        }
+
+        return type;
+    }
+
+    private static String typeOrNull(Object value) {
+        if (value instanceof Long) return "L";
+        if (value instanceof Integer) return "I";
+        if (value instanceof String) return "S";
+        if (value instanceof LocalDateTime) return "T";
+        if (value instanceof LocalDate) return "D";
+
+        return null;
+    }
+
+    private static long parseOffset(String token) {
+        try {
+            long offset = Long.parseLong(token.substring(OFFSET_TYPE.length() + TYPE_DELIMITER.length()));
+            if (offset < 0) {
+                throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+        }
+    }
+
+    private static Object parseValue(String token) {
+        int index = token.indexOf(TYPE_DELIMITER);
+        if (index < 0) {
+            throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+        }
+
+        String value = token.substring(index + 1);
+
+        try {
+            return switch (token.substring(0, index)) {
+                case "L" -> Long.valueOf(value);
+                case "I" -> Integer.valueOf(value);
+                case "S" -> value;
+                case "T" -> LocalDateTime.parse(value);
+                case "D" -> LocalDate.parse(value);
+                default -> throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+        }
+    }
+
+    private static String encodeToken(String token) {
+        return encoder.encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeToken(String token) {
+        try {
+            return new String(decoder.decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new CursorErrorException(CursorErrorCode.MALFORMED_CURSOR);
+        }
+    }
+
+    /**
+     * cursor가 가리키는 다음 페이지의 위치
+     *
+     * @param values : 마지막으로 키셋 조건을 만들 수 있었던 정렬 키 값. 첫 페이지부터 offset을 계산한다면 null
+     * @param offset : values 위치 이후로 건너뛸 데이터 수
+     */
+    public record Position(List<Object> values, long offset) {
+    }
+}
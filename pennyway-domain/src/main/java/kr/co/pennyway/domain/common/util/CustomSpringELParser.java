@@ -1,30 +1,70 @@
 package kr.co.pennyway.domain.common.util;
 
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 /**
  * Spring Expression Language (SpEL)을 사용한 커스텀 EL 파서
+ * <p>
+ * 표현식은 {@link SpelCompilerMode#MIXED} 모드로 파싱되어, 여러 번 평가되면 바이트코드로 컴파일된다.
+ * 컴파일된 표현식이 다른 타입의 인자로 실패하면 인터프리터 모드로 되돌아가므로, 파싱한 {@link Expression}은 호출하는 메서드별로 재사용해야 한다.
+ * <p>
+ * 평가에는 메서드 파라미터 변수와 인스턴스 메서드 호출만 허용하는 {@link SimpleEvaluationContext}를 사용한다.
+ * 타입 참조({@code T(...)}), 생성자 호출, bean 참조는 지원하지 않는다.
  */
 public class CustomSpringELParser {
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CustomSpringELParser.class.getClassLoader())
+    );
+
+    private CustomSpringELParser() {
+    }
+
+    /**
+     * SpEL 표현식을 파싱한다. 파싱한 결과는 스레드 안전하므로 캐싱하여 재사용할 수 있다.
+     *
+     * @param key : SpEL 표현식
+     * @return : 파싱된 표현식
+     */
+    public static Expression parseExpression(String key) {
+        return PARSER.parseExpression(key);
+    }
+
     /**
-     * SpEL을 사용하여 동적으로 값을 평가한다.
+     * 파싱된 SpEL 표현식을 평가한다.
      *
+     * @param expression     : {@link #parseExpression(String)}으로 파싱한 표현식
      * @param parameterNames : 메서드 파라미터 이름
      * @param args           : 메서드 파라미터 값
-     * @param key            : SpEL 표현식
      * @return : 평가된 값
      */
-    public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-        ExpressionParser parser = new SpelExpressionParser();
-        StandardEvaluationContext context = new StandardEvaluationContext();
+    public static Object getDynamicValue(Expression expression, String[] parameterNames, Object[] args) {
+        EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding()
+                .withInstanceMethods()
+                .build();
 
         // 메서드 파라미터 이름과 값을 SpEL 컨텍스트에 변수로 설정
         for (int i = 0; i < parameterNames.length; i++) {
             context.setVariable(parameterNames[i], args[i]);
         }
 
-        return parser.parseExpression(key).getValue(context, Object.class);
+        return expression.getValue(context, Object.class);
+    }
+
+    /**
+     * SpEL 표현식을 파싱하여 동적으로 값을 평가한다. 반복해서 평가하는 경우 {@link #parseExpression(String)}의 결과를 재사용한다.
+     *
+     * @param parameterNames : 메서드 파라미터 이름
+     * @param args           : 메서드 파라미터 값
+     * @param key            : SpEL 표현식
+     * @return : 평가된 값
+     */
+    public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
+        return getDynamicValue(parseExpression(key), parameterNames, args);
     }
 }
@@ -1,10 +1,16 @@
 package kr.co.pennyway.domain.common.util;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +20,7 @@ import java.util.function.Function;
  * QueryDsl의 편의 기능을 제공하는 유틸리티 클래스
  *
  * @author YANG JAESEO
- * @version 1.0
+ * @version 1.1
  */
 @Slf4j
 public class QueryDslUtil {
@@ -83,6 +89,67 @@ public class QueryDslUtil {
         }
     }
 
+    /**
+     * 키셋(seek) 페이지네이션을 위한 Predicate를 생성하는 메서드 <br/>
+     * 정렬 조건이 {@code (k1 DESC, k2 DESC)}라면 {@code (k1, k2) < (v1, v2)}와 동일한 조건인 {@code k1 < v1 OR (k1 = v1 AND k2 < v2)}를 생성한다. <br/>
+     * 정렬 방향이 섞여 있는 경우에도 각 정렬 키의 방향에 맞는 비교 연산자를 사용하므로, 마지막 정렬 키는 유일한 값(ex. id)이어야 한다. <br/>
+     * 비교 연산자는 null과 일치하지 않으므로, null이 뒤에 정렬되는 정렬 키라면 {@code k1 < v1 OR k1 IS NULL}처럼 null인 데이터를 다음 위치에 포함한다.
+     * null 안에서의 순서는 키셋 조건으로 표현할 수 없으므로, 정렬 키 값이 null인 위치부터는 offset으로 이어서 조회해야 한다.
+     *
+     * @param sort   : {@link Sort}. 정렬 키는 Querydsl의 경로 문자열(ex. "spending.spendAt")이어야 한다.
+     * @param values : 마지막으로 조회한 데이터의 정렬 키 값. sort의 순서와 같아야 하며, null을 포함하지 않아야 한다.
+     * @return {@link Predicate}
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static Predicate getSeekPredicate(Sort sort, List<?> values) {
+        BooleanBuilder seek = new BooleanBuilder();
+        BooleanBuilder prefix = new BooleanBuilder();
+
+        int index = 0;
+        for (Sort.Order order : sort) {
+            ComparablePath key = Expressions.comparablePath(Comparable.class, order.getProperty());
+            Comparable value = (Comparable) values.get(index++);
+
+            BooleanExpression step = order.isAscending() ? key.gt(value) : key.lt(value);
+            if (isNullsLast(order)) {
+                step = step.or(key.isNull());
+            }
+            seek.or(new BooleanBuilder(prefix).and(step));
+            prefix.and(key.eq(value));
+        }
+
+        return seek;
+    }
+
+    /**
+     * null 처리 방식을 지정하지 않은 경우 MySQL의 기본 동작에 따라 null을 가장 작은 값으로 보므로, 내림차순일 때 null이 뒤에 정렬된다.
+     *
+     * @return 정렬 결과에서 null이 null이 아닌 값보다 뒤에 위치하면 true
+     */
+    private static boolean isNullsLast(Sort.Order order) {
+        return switch (order.getNullHandling()) {
+            case NULLS_LAST -> true;
+            case NULLS_FIRST -> false;
+            case NATIVE -> order.isDescending();
+        };
+    }
+
+    /**
+     * 날짜 컬럼이 해당 년/월에 속하는지 확인하는 Predicate를 생성하는 메서드 <br/>
+     * {@code YEAR(column) = ? AND MONTH(column) = ?}처럼 컬럼을 함수로 감싸면 인덱스를 사용할 수 없으므로,
+     * {@code column >= 해당 월 1일 00:00 AND column < 다음 월 1일 00:00} 형태의 반열린 구간 조건을 생성한다.
+     *
+     * @param path      : 비교할 날짜 컬럼
+     * @param yearMonth : 조회할 년/월
+     * @return {@link BooleanExpression}
+     */
+    public static BooleanExpression inYearMonth(DateTimePath<LocalDateTime> path, YearMonth yearMonth) {
+        LocalDateTime start = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime end = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        return path.goe(start).and(path.lt(end));
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static OrderSpecifier<?> createOrderSpecifier(Order orderBy, Expression<?> expression, OrderSpecifier.NullHandling queryDslNullHandling) {
         if (expression instanceof Operation && ((Operation<?>) expression).getOperator() == Ops.ALIAS) {
@@ -1,10 +1,15 @@
 package kr.co.pennyway.domain.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import kr.co.pennyway.domain.common.annotation.DomainRedisCacheManager;
 import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
 import kr.co.pennyway.domain.common.annotation.DomainRedisTemplate;
-import kr.co.pennyway.domain.common.redis.RedisPackageLocation;
+import kr.co.pennyway.domain.common.redis.LegacyRedisIndexCleaner;
+import kr.co.pennyway.domain.common.redis.forbidden.ForbiddenTokenFilter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -15,7 +20,9 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -24,13 +31,16 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 import java.time.Duration;
 
 @Configuration
-@EnableRedisRepositories(basePackageClasses = RedisPackageLocation.class)
 @EnableTransactionManagement
 public class RedisConfig {
     private final String host;
     private final int port;
     private final String password;
 
+    private final Duration forbiddenTokenFilterBucketWidth = Duration.ofMinutes(5);
+    private final int forbiddenTokenFilterExpectedInsertions = 10_000;
+    private final double forbiddenTokenFilterFalsePositiveRate = 0.01;
+
     public RedisConfig(
             @Value("${spring.data.redis.host}") String host,
             @Value("${spring.data.redis.port}") int port,
@@ -80,4 +90,38 @@ public class RedisConfig {
                 .cacheDefaults(redisCacheConfiguration)
                 .build();
     }
+
+    /**
+     * 블랙 리스트에 등록된 액세스 토큰을 서버마다 로컬에서 먼저 확인하기 위한 filter
+     */
+    @Bean
+    public ForbiddenTokenFilter forbiddenTokenFilter(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new ForbiddenTokenFilter(
+                new StringRedisTemplate(redisConnectionFactory()),
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry),
+                forbiddenTokenFilterBucketWidth,
+                forbiddenTokenFilterExpectedInsertions,
+                forbiddenTokenFilterFalsePositiveRate
+        );
+    }
+
+    /**
+     * Spring Data Redis Repository가 남긴 index set과 phantom key를 한 번 정리한다.
+     * <p>
+     * 이전 버전의 서버가 남아있으면 key가 다시 생기므로, 모든 서버를 배포한 뒤 {@code pennyway.redis.legacy-index-cleanup.enabled=true}로 활성화한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "pennyway.redis.legacy-index-cleanup.enabled", havingValue = "true")
+    public LegacyRedisIndexCleaner legacyRedisIndexCleaner() {
+        return new LegacyRedisIndexCleaner(new StringRedisTemplate(redisConnectionFactory()));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer forbiddenTokenListenerContainer(ForbiddenTokenFilter forbiddenTokenFilter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(forbiddenTokenFilter, new ChannelTopic(ForbiddenTokenFilter.CHANNEL));
+
+        return container;
+    }
 }
@@ -2,7 +2,6 @@ package kr.co.pennyway.domain.config;
 
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 import java.lang.annotation.*;
 
@@ -10,7 +9,6 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @ComponentScan(basePackages = "kr.co.pennyway.domain.common.redis")
 @EnableAutoConfiguration
-@EnableRedisRepositories(basePackages = "kr.co.pennyway.domain.common.redis")
 @Documented
 public @interface RedisUnitTest {
 }
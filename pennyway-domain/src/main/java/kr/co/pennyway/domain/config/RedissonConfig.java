@@ -1,13 +1,17 @@
 package kr.co.pennyway.domain.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import kr.co.pennyway.domain.common.aop.CallTransactionFactory;
 import kr.co.pennyway.domain.common.aop.DistributedLockAspect;
+import kr.co.pennyway.domain.common.aop.LocalLockStripes;
 import kr.co.pennyway.domain.common.aop.RedissonCallNewTransaction;
 import kr.co.pennyway.domain.common.aop.RedissonCallSameTransaction;
 import kr.co.pennyway.domain.common.importer.PennywayDomainConfig;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 
@@ -16,15 +20,21 @@ public class RedissonConfig implements PennywayDomainConfig {
     private final String host;
     private final int port;
     private final String password;
+    private final int localLockStripes;
 
+    /**
+     * @param localLockStripes : 분산 락을 획득하기 전에 사용할 JVM 로컬 Lock 수. 0이면 로컬 Lock을 사용하지 않는다.
+     */
     public RedissonConfig(
             @Value("${spring.data.redis.host}") String host,
             @Value("${spring.data.redis.port}") int port,
-            @Value("${spring.data.redis.password}") String password
+            @Value("${spring.data.redis.password}") String password,
+            @Value("${pennyway.redisson.local-lock-stripes:1024}") int localLockStripes
     ) {
         this.host = host;
         this.port = port;
         this.password = password;
+        this.localLockStripes = localLockStripes;
     }
 
     @Bean
@@ -52,7 +62,12 @@ public class RedissonConfig implements PennywayDomainConfig {
     }
 
     @Bean
-    public DistributedLockAspect distributedLockAspect(RedissonClient redissonClient, CallTransactionFactory callTransactionFactory) {
-        return new DistributedLockAspect(redissonClient, callTransactionFactory);
+    public DistributedLockAspect distributedLockAspect(RedissonClient redissonClient, CallTransactionFactory callTransactionFactory, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new DistributedLockAspect(
+                redissonClient,
+                callTransactionFactory,
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry),
+                new LocalLockStripes(localLockStripes)
+        );
     }
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ import java.util.Objects;
 
 @Entity
 @Getter
-@Table(name = "device_token")
+@Table(name = "device_token", indexes = @Index(name = "idx_device_token_token", columnList = "token"))
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DeviceToken {
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,9 @@ public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long>
     @Transactional
     @Query("UPDATE DeviceToken d SET d.activated = false WHERE d.user.id = :userId")
     void deleteAllByUserIdInQuery(Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE DeviceToken d SET d.activated = false WHERE d.token IN :tokens AND d.activated = true")
+    int deactivateAllByTokenIn(Collection<String> tokens);
 }
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Slf4j
@@ -29,4 +30,17 @@ public class DeviceTokenService {
     public void deleteDevicesByUserIdInQuery(Long userId) {
         deviceTokenRepository.deleteAllByUserIdInQuery(userId);
     }
+
+    /**
+     * 토큰 값이 일치하는 활성 디바이스 토큰을 하나의 UPDATE 쿼리로 비활성화한다.
+     *
+     * @return 비활성화된 디바이스 토큰 수
+     */
+    @Transactional
+    public int deactivateDevicesByTokens(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        return deviceTokenRepository.deactivateAllByTokenIn(tokens);
+    }
 }
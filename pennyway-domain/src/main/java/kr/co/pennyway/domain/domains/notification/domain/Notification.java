@@ -16,7 +16,9 @@ import java.util.Objects;
 
 @Entity
 @Getter
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_receiver_type_announcement_created_at", columnList = "receiver, type, announcement, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends DateAuditable {
     @Id
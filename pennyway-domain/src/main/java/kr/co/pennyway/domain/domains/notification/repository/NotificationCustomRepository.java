@@ -10,22 +10,22 @@ public interface NotificationCustomRepository {
     /**
      * 사용자들에게 정기 지출 등록 알림을 저장한다. (발송이 아님)
      * 만약 이미 전송하려는 데이터가 년-월-일에 해당하는 생성일을 가지고 있고, 그 알림의 announcement 타입까지 같다면 저장하지 않는다.
+     * <p>
+     * 사용자 아이디는 최대 1000개씩 나누어, 나눈 단위마다 하나의 쿼리로 저장한다.
      *
      * <pre>
      * {@code
-     * INSERT INTO notification(type, announcement, created_at, updated_at, receiver, receiver_name)
-     * SELECT ?, ?, NOW(), NOW(), u.id, u.name
+     * INSERT INTO notification(read_at, type, announcement, created_at, updated_at, receiver, receiver_name)
+     * SELECT NULL, '0', '1', NOW(), NOW(), u.id, u.name
      * FROM user u
-     * WHERE u.id IN (?)
-     * AND NOT EXISTS (
-     * 	SELECT n.receiver
-     * 	FROM notification n
-     * 	WHERE n.receiver = u.id
-     *     AND n.created_at >= CURDATE()
-     *     AND n.created_at < CURDATE() + INTERVAL 1 DAY
-     * 	AND n.type = '0'
-     * 	AND n.announcement = 1
-     * );
+     * LEFT JOIN notification n
+     *    ON n.receiver = u.id
+     *    AND n.type = '0'
+     *    AND n.announcement = '1'
+     *    AND n.created_at >= CURDATE()
+     *    AND n.created_at < CURDATE() + INTERVAL 1 DAY
+     * WHERE u.id IN (?, ?, ..., ?)
+     * AND n.id IS NULL;
      * }
      * </pre>
      *
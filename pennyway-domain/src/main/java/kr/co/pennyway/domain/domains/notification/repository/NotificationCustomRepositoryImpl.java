@@ -6,13 +6,10 @@ import kr.co.pennyway.domain.domains.notification.type.Announcement;
 import kr.co.pennyway.domain.domains.notification.type.NoticeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -38,56 +35,45 @@ public class NotificationCustomRepositoryImpl implements NotificationCustomRepos
 
     @Override
     public void saveDailySpendingAnnounceInBulk(List<Long> userIds, Announcement announcement) {
-        int batchCount = 0;
-        List<Long> subItems = new ArrayList<>();
+        int savedCount = 0;
 
-        for (int i = 0; i < userIds.size(); ++i) {
-            subItems.add(userIds.get(i));
-
-            if ((i + 1) % BATCH_SIZE == 0) {
-                batchCount = batchInsert(batchCount, subItems, NoticeType.ANNOUNCEMENT, announcement);
-            }
-        }
-
-        if (!subItems.isEmpty()) {
-            batchInsert(batchCount, subItems, NoticeType.ANNOUNCEMENT, announcement);
+        for (int from = 0; from < userIds.size(); from += BATCH_SIZE) {
+            savedCount += bulkInsert(userIds.subList(from, Math.min(from + BATCH_SIZE, userIds.size())), NoticeType.ANNOUNCEMENT, announcement);
         }
 
-        log.info("Notification saved. announcement: {}, count: {}", announcement, userIds.size());
+        log.info("Notification saved. announcement: {}, requested: {}, saved: {}", announcement, userIds.size(), savedCount);
     }
 
-    private int batchInsert(int batchCount, List<Long> userIds, NoticeType noticeType, Announcement announcement) {
-        String sql = "INSERT INTO notification(id, read_at, type, announcement, created_at, updated_at, receiver, receiver_name) " +
-                "SELECT NULL, NULL, ?, ?, NOW(), NOW(), u.id, u.name " +
+    /**
+     * {@link #saveDailySpendingAnnounceInBulk}가 BATCH_SIZE개씩 나눈 사용자 아이디 목록 하나를 하나의 INSERT ... SELECT 문으로 저장한다. <br/>
+     * 당일 같은 알림을 이미 받은 사용자는 (receiver, type, announcement, created_at) 인덱스를 사용하는 anti-join으로 제외한다.
+     *
+     * @return 저장된 알림 수
+     */
+    private int bulkInsert(List<Long> userIds, NoticeType noticeType, Announcement announcement) {
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        String sql = "INSERT INTO notification(read_at, type, announcement, created_at, updated_at, receiver, receiver_name) " +
+                "SELECT NULL, ?, ?, NOW(), NOW(), u.id, u.name " +
                 "FROM user u " +
-                "WHERE u.id IN (?) " +
-                "AND NOT EXISTS ( " +
-                "	SELECT n.receiver " +
-                "	FROM notification n " +
-                "	WHERE n.receiver = u.id " +
-                "    AND n.created_at >= CURDATE() " +
-                "    AND n.created_at < CURDATE() + INTERVAL 1 DAY " +
-                "	AND n.type = ? " +
-                "	AND n.announcement = ? " +
-                ")";
+                "LEFT JOIN notification n " +
+                "   ON n.receiver = u.id " +
+                "   AND n.type = ? " +
+                "   AND n.announcement = ? " +
+                "   AND n.created_at >= CURDATE() " +
+                "   AND n.created_at < CURDATE() + INTERVAL 1 DAY " +
+                "WHERE u.id IN (" + placeholders + ") " +
+                "AND n.id IS NULL";
 
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                ps.setString(1, noticeType.getCode());
-                ps.setString(2, announcement.getCode());
-                ps.setLong(3, userIds.get(i));
-                ps.setString(4, noticeType.getCode());
-                ps.setString(5, announcement.getCode());
-            }
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 0;
+            ps.setString(++index, noticeType.getCode());
+            ps.setString(++index, announcement.getCode());
+            ps.setString(++index, noticeType.getCode());
+            ps.setString(++index, announcement.getCode());
 
-            @Override
-            public int getBatchSize() {
-                return userIds.size();
+            for (Long userId : userIds) {
+                ps.setLong(++index, userId);
             }
         });
-
-        userIds.clear();
-        return ++batchCount;
     }
 }
@@ -2,6 +2,7 @@ package kr.co.pennyway.domain.domains.notification.service;
 
 import com.querydsl.core.types.Predicate;
 import kr.co.pennyway.common.annotation.DomainService;
+import kr.co.pennyway.domain.common.repository.CursorSlice;
 import kr.co.pennyway.domain.common.repository.QueryHandler;
 import kr.co.pennyway.domain.common.util.SliceUtil;
 import kr.co.pennyway.domain.domains.notification.domain.Notification;
@@ -37,6 +38,18 @@ public class NotificationService {
         return SliceUtil.toSlice(notificationRepository.findList(predicate, queryHandler, sort), pageable);
     }
 
+    /**
+     * 사용자의 알림 목록을 키셋(seek) 방식으로 조회한다.
+     *
+     * @param cursor 이전 조회 결과의 {@link CursorSlice#getNextCursor()}. null이면 첫 번째 Slice를 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<Notification> readNotificationsSlice(Long userId, String cursor, Pageable pageable) {
+        Predicate predicate = notification.receiver.id.eq(userId);
+
+        return notificationRepository.findSlice(predicate, null, cursor, pageable.getPageSize(), pageable.getSort());
+    }
+
     @Transactional(readOnly = true)
     public boolean isExistsUnreadNotification(Long userId) {
         return notificationRepository.existsUnreadNotification(userId);
@@ -15,11 +15,15 @@ public enum Announcement implements LegacyCommonType {
     private final String code;
     private final String title;
     private final String content;
+    private final AnnouncementTemplate titleTemplate;
+    private final AnnouncementTemplate contentTemplate;
 
     Announcement(String code, String title, String content) {
         this.code = code;
         this.title = title;
         this.content = content;
+        this.titleTemplate = AnnouncementTemplate.compile(title);
+        this.contentTemplate = AnnouncementTemplate.compile(content);
     }
 
     /**
@@ -33,11 +37,7 @@ public enum Announcement implements LegacyCommonType {
     public String createFormattedTitle(String name) {
         validateName(name);
 
-        if (this.title.indexOf("%") == -1) {
-            return this.title;
-        }
-
-        return String.format(title, name);
+        return titleTemplate.render(name);
     }
 
     /**
@@ -51,11 +51,7 @@ public enum Announcement implements LegacyCommonType {
     public String createFormattedContent(String name) {
         validateName(name);
 
-        if (this.content.indexOf("%") == -1) {
-            return this.content;
-        }
-
-        return String.format(content, name);
+        return contentTemplate.render(name);
     }
 
     private void validateName(String name) {
@@ -0,0 +1,81 @@
+package kr.co.pennyway.domain.domains.notification.type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공지 제목과 내용의 포맷 문자열을 미리 분석해둔 템플릿
+ * <p>
+ * 생성 시점에 포맷 문자열을 고정 문자열과 {@code %s} 자리로 나누어두고, 렌더링할 때는 문자열을 이어 붙이기만 한다.
+ * 매번 포맷 문자열을 해석하는 {@link String#format(String, Object...)}과 달리 Formatter, 정규식 매칭 결과 등을 생성하지 않는다.
+ * 자리가 없는 템플릿은 렌더링하지 않고 원본 문자열을 그대로 반환한다.
+ * <p>
+ * {@code %s} 외의 변환은 지원하지 않으며, 모든 자리에는 같은 값이 채워진다.
+ */
+public final class AnnouncementTemplate {
+    private static final String PLACEHOLDER = "%s";
+
+    private final String pattern;
+    private final String[] literals;
+    private final int literalLength;
+
+    private AnnouncementTemplate(String pattern, String[] literals) {
+        this.pattern = pattern;
+        this.literals = literals;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 포맷 문자열을 고정 문자열과 자리로 나누어 템플릿을 생성한다.
+     *
+     * @throws IllegalArgumentException {@code %s} 외의 변환이 포함된 경우
+     */
+    public static AnnouncementTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        int index;
+
+        while ((index = pattern.indexOf('%', start)) != -1) {
+            if (!pattern.startsWith(PLACEHOLDER, index)) {
+                throw new IllegalArgumentException("%s 외의 변환은 지원하지 않습니다. pattern: " + pattern);
+            }
+            literals.add(pattern.substring(start, index));
+            start = index + PLACEHOLDER.length();
+        }
+        literals.add(pattern.substring(start));
+
+        return new AnnouncementTemplate(pattern, literals.toArray(String[]::new));
+    }
+
+    /**
+     * 모든 자리를 value로 채운 문자열을 반환한다. 자리가 없다면 원본 문자열을 그대로 반환한다.
+     */
+    public String render(String value) {
+        if (isConstant()) {
+            return pattern;
+        }
+
+        StringBuilder sb = new StringBuilder(literalLength + value.length() * (literals.length - 1));
+        sb.append(literals[0]);
+        for (int i = 1; i < literals.length; ++i) {
+            sb.append(value).append(literals[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자리가 없어 렌더링 결과가 항상 같은지 여부
+     */
+    public boolean isConstant() {
+        return literals.length == 1;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+}
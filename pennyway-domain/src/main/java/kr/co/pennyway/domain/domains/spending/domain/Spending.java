@@ -18,7 +18,9 @@ import java.util.Objects;
 
 @Entity
 @Getter
-@Table(name = "spending")
+@Table(name = "spending", indexes = {
+        @Index(name = "idx_spending_user_id_spend_at", columnList = "user_id, spend_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLRestriction("deleted_at IS NULL")
 @SQLDelete(sql = "UPDATE spending SET deleted_at = NOW() WHERE id = ?")
@@ -0,0 +1,52 @@
+package kr.co.pennyway.domain.domains.spending.domain;
+
+import jakarta.persistence.*;
+import kr.co.pennyway.domain.common.model.DateAuditable;
+import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자의 년/월별 지출 총액과 지출 건수를 미리 집계해둔 엔티티 <br/>
+ * 지출 내역이 생성/수정/삭제될 때 같은 트랜잭션에서 증감되며, 값의 변경은 {@link kr.co.pennyway.domain.domains.spending.repository.SpendingMonthlySummaryRepository}의 upsert 쿼리로만 수행한다.
+ */
+@Entity
+@Getter
+@Table(name = "spending_monthly_summary", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_spending_monthly_summary_user_id_year_month", columnNames = {"user_id", "year", "month"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SpendingMonthlySummary extends DateAuditable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private int year;
+    @Column(nullable = false)
+    private int month;
+    @Column(nullable = false)
+    private long totalAmount;
+    @Column(nullable = false)
+    private long spendingCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    public TotalSpendingAmount toTotalSpendingAmount() {
+        return new TotalSpendingAmount(year, month, totalAmount);
+    }
+
+    @Override
+    public String toString() {
+        return "SpendingMonthlySummary{" +
+                "id=" + id +
+                ", year=" + year +
+                ", month=" + month +
+                ", totalAmount=" + totalAmount +
+                ", spendingCount=" + spendingCount + "}";
+    }
+}
@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,8 +40,7 @@ public class SpendingCustomRepositoryImpl implements SpendingCustomRepository {
                 ).from(user)
                 .leftJoin(spending).on(user.id.eq(spending.user.id))
                 .where(user.id.eq(userId)
-                        .and(spending.spendAt.year().eq(year))
-                        .and(spending.spendAt.month().eq(month)))
+                        .and(QueryDslUtil.inYearMonth(spending.spendAt, YearMonth.of(year, month))))
                 .groupBy(spending.spendAt.year(), spending.spendAt.month())
                 .fetchOne();
 
@@ -54,9 +54,8 @@ public class SpendingCustomRepositoryImpl implements SpendingCustomRepository {
 
         return queryFactory.selectFrom(spending)
                 .leftJoin(spending.spendingCustomCategory, spendingCustomCategory).fetchJoin()
-                .where(spending.spendAt.year().eq(year)
-                        .and(spending.spendAt.month().eq(month))
-                        .and(spending.user.id.eq(userId))
+                .where(spending.user.id.eq(userId)
+                        .and(QueryDslUtil.inYearMonth(spending.spendAt, YearMonth.of(year, month)))
                 )
                 .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
                 .fetch();
@@ -0,0 +1,204 @@
+package kr.co.pennyway.domain.domains.spending.repository;
+
+import kr.co.pennyway.domain.domains.spending.domain.SpendingMonthlySummary;
+import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 년/월별 지출 집계 테이블(spending_monthly_summary)을 다루는 Repository <br/>
+ * 증감 쿼리는 동시에 같은 년/월의 지출 내역이 변경되어도 값이 유실되지 않도록, 조회 후 수정하지 않고 {@code INSERT ... ON DUPLICATE KEY UPDATE}로 원자적으로 반영한다. <br/>
+ * year = 0, month = 0인 행은 해당 사용자의 집계 데이터가 지출 내역 원본으로부터 초기화되었음을 나타내는 표식(marker)이며, 지출 건수가 0이므로 조회 결과에 포함되지 않는다.
+ */
+public interface SpendingMonthlySummaryRepository extends JpaRepository<SpendingMonthlySummary, Long> {
+    @Transactional(readOnly = true)
+    boolean existsByUser_IdAndYearAndMonth(Long userId, int year, int month);
+
+    /**
+     * 사용자의 초기화 표식을 생성한다. 다른 트랜잭션이 같은 표식을 생성 중이라면, 해당 트랜잭션이 끝날 때까지 대기한다.
+     *
+     * @return 표식을 새로 생성했다면 1, 이미 존재한다면 0
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT IGNORE INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+            VALUES (:userId, 0, 0, 0, 0, NOW(), NOW())
+            """, nativeQuery = true)
+    int insertMarker(Long userId);
+
+    /**
+     * 지출 내역은 있지만 초기화 표식이 없는 모든 사용자의 표식을 생성한다. <br/>
+     * {@link #rebuildAll()} 전에 호출하면, 집계 테이블 도입 이전부터 존재하던 지출 내역을 채우는 backfill로 동작한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT IGNORE INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+            SELECT DISTINCT s.user_id, 0, 0, 0, 0, NOW(), NOW()
+            FROM spending s
+            WHERE s.deleted_at IS NULL
+            """, nativeQuery = true)
+    int insertMissingMarkers();
+
+    /**
+     * 사용자의 초기화 표식을 제외한 집계 데이터를 모두 삭제한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM spending_monthly_summary WHERE user_id = :userId AND year > 0", nativeQuery = true)
+    void deleteAllExceptMarkerByUserId(Long userId);
+
+    /**
+     * 사용자의 지출 내역 원본으로부터 년/월별 집계 데이터를 다시 계산하여 덮어쓴다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+            SELECT * FROM (
+                SELECT s.user_id, YEAR(s.spend_at) AS y, MONTH(s.spend_at) AS m, SUM(s.amount) AS amount, COUNT(s.id) AS cnt, NOW() AS c, NOW() AS u
+                FROM spending s
+                WHERE s.user_id = :userId AND s.deleted_at IS NULL
+                GROUP BY s.user_id, YEAR(s.spend_at), MONTH(s.spend_at)
+            ) AS actual
+            ON DUPLICATE KEY UPDATE total_amount = actual.amount, spending_count = actual.cnt, updated_at = NOW()
+            """, nativeQuery = true)
+    void rebuildByUserId(Long userId);
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT DISTINCT s.user_id FROM spending s WHERE s.id IN (:spendingIds)", nativeQuery = true)
+    List<Long> findUserIdsBySpendingIds(List<Long> spendingIds);
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT c.user_id FROM spending_custom_category c WHERE c.id = :categoryId", nativeQuery = true)
+    Optional<Long> findUserIdByCategoryId(Long categoryId);
+    @Transactional(readOnly = true)
+    @Query("SELECT s FROM SpendingMonthlySummary s WHERE s.user.id = :userId AND s.year = :year AND s.month = :month AND s.spendingCount > 0")
+    Optional<SpendingMonthlySummary> findByUserIdAndYearAndMonth(Long userId, int year, int month);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount(s.year, s.month, s.totalAmount) FROM SpendingMonthlySummary s " +
+            "WHERE s.user.id = :userId AND s.spendingCount > 0 ORDER BY s.year DESC, s.month DESC")
+    List<TotalSpendingAmount> findTotalSpendingAmountsByUserId(Long userId);
+
+    /**
+     * 해당 년/월의 지출 총액과 지출 건수를 증감한다. 집계 데이터가 없으면 새로 생성한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+            VALUES (:userId, :year, :month, :amount, :count, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE total_amount = total_amount + :amount, spending_count = spending_count + :count, updated_at = NOW()
+            """, nativeQuery = true)
+    void increase(Long userId, int year, int month, long amount, long count);
+
+    /**
+     * 삭제되지 않은 지출 내역 중 spendingIds에 해당하는 지출 내역의 금액과 건수를 집계 데이터에서 차감한다. <br/>
+     * 지출 내역을 soft delete 하기 전에 호출해야 한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+            SELECT * FROM (
+                SELECT s.user_id, YEAR(s.spend_at) AS y, MONTH(s.spend_at) AS m, -SUM(s.amount) AS amount, -COUNT(s.id) AS cnt, NOW() AS c, NOW() AS u
+                FROM spending s
+                WHERE s.id IN (:spendingIds) AND s.deleted_at IS NULL
+                GROUP BY s.user_id, YEAR(s.spend_at), MONTH(s.spend_at)
+            ) AS delta
+            ON DUPLICATE KEY UPDATE total_amount = total_amount + delta.amount, spending_count = spending_count + delta.cnt, updated_at = NOW()
+            """, nativeQuery = true)
+    void decreaseBySpendingIds(List<Long> spendingIds);
+
+    /**
+     * 삭제되지 않은 지출 내역 중 사용자 정의 카테고리에 속한 지출 내역의 금액과 건수를 집계 데이터에서 차감한다. <br/>
+     * 지출 내역을 soft delete 하기 전에 호출해야 한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+            SELECT * FROM (
+                SELECT s.user_id, YEAR(s.spend_at) AS y, MONTH(s.spend_at) AS m, -SUM(s.amount) AS amount, -COUNT(s.id) AS cnt, NOW() AS c, NOW() AS u
+                FROM spending s
+                WHERE s.spending_custom_category_id = :categoryId AND s.deleted_at IS NULL
+                GROUP BY s.user_id, YEAR(s.spend_at), MONTH(s.spend_at)
+            ) AS delta
+            ON DUPLICATE KEY UPDATE total_amount = total_amount + delta.amount, spending_count = spending_count + delta.cnt, updated_at = NOW()
+            """, nativeQuery = true)
+    void decreaseByCategoryId(Long categoryId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SpendingMonthlySummary s WHERE s.user.id = :userId")
+    void deleteAllByUserIdInQuery(Long userId);
+
+    /**
+     * 지출 내역 원본과 값이 다른 집계 데이터의 개수를 조회한다. <br/>
+     * 누락된 집계 데이터, 총액 또는 건수가 다른 집계 데이터, 지출 내역이 없는데 남아있는 집계 데이터를 모두 포함한다.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT
+                (SELECT COUNT(*)
+                 FROM (
+                     SELECT s.user_id, YEAR(s.spend_at) AS y, MONTH(s.spend_at) AS m, SUM(s.amount) AS amount, COUNT(s.id) AS cnt
+                     FROM spending s
+                     WHERE s.deleted_at IS NULL
+                     GROUP BY s.user_id, YEAR(s.spend_at), MONTH(s.spend_at)
+                 ) AS actual
+                 LEFT JOIN spending_monthly_summary sms ON sms.user_id = actual.user_id AND sms.year = actual.y AND sms.month = actual.m
+                 WHERE sms.id IS NULL OR sms.total_amount <> actual.amount OR sms.spending_count <> actual.cnt)
+                +
+                (SELECT COUNT(*)
+                 FROM spending_monthly_summary sms
+                 WHERE sms.spending_count <> 0
+                 AND NOT EXISTS (
+                     SELECT 1 FROM spending s
+                     WHERE s.user_id = sms.user_id AND s.deleted_at IS NULL
+                     AND s.spend_at >= MAKEDATE(sms.year, 1) + INTERVAL (sms.month - 1) MONTH
+                     AND s.spend_at < MAKEDATE(sms.year, 1) + INTERVAL sms.month MONTH
+                 ))
+            """, nativeQuery = true)
+    long countDrift();
+
+    /**
+     * 지출 내역 원본으로부터 모든 집계 데이터를 다시 계산하여 덮어쓴다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO spending_monthly_summary (user_id, year, month, total_amount, spending_count, created_at, updated_at)
+            SELECT * FROM (
+                SELECT s.user_id, YEAR(s.spend_at) AS y, MONTH(s.spend_at) AS m, SUM(s.amount) AS amount, COUNT(s.id) AS cnt, NOW() AS c, NOW() AS u
+                FROM spending s
+                WHERE s.deleted_at IS NULL
+                GROUP BY s.user_id, YEAR(s.spend_at), MONTH(s.spend_at)
+            ) AS actual
+            ON DUPLICATE KEY UPDATE total_amount = actual.amount, spending_count = actual.cnt, updated_at = NOW()
+            """, nativeQuery = true)
+    int rebuildAll();
+
+    /**
+     * 지출 내역이 더 이상 존재하지 않는 년/월의 집계 데이터를 삭제한다. 초기화 표식은 삭제하지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE sms FROM spending_monthly_summary sms
+            WHERE sms.year > 0 AND NOT EXISTS (
+                SELECT 1 FROM spending s
+                WHERE s.user_id = sms.user_id AND s.deleted_at IS NULL
+                AND s.spend_at >= MAKEDATE(sms.year, 1) + INTERVAL (sms.month - 1) MONTH
+                AND s.spend_at < MAKEDATE(sms.year, 1) + INTERVAL sms.month MONTH
+            )
+            """, nativeQuery = true)
+    int deleteAllOrphans();
+}
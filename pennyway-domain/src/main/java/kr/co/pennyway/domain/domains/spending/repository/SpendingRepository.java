@@ -44,7 +44,7 @@ public interface SpendingRepository extends ExtendedRepository<Spending, Long>,
 
     @Modifying(clearAutomatically = true)
     @Transactional
-    @Query("UPDATE Spending s SET s.deletedAt = NOW() where s.id IN :spendingIds")
+    @Query("UPDATE Spending s SET s.deletedAt = NOW() WHERE s.id IN :spendingIds AND s.deletedAt IS NULL")
     void deleteAllByIdAndDeletedAtNullInQuery(List<Long> spendingIds);
 
     @Modifying(clearAutomatically = true)
@@ -54,6 +54,6 @@ public interface SpendingRepository extends ExtendedRepository<Spending, Long>,
 
     @Transactional
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE Spending s SET s.deletedAt = NOW() WHERE s.spendingCustomCategory.id = :categoryId")
+    @Query("UPDATE Spending s SET s.deletedAt = NOW() WHERE s.spendingCustomCategory.id = :categoryId AND s.deletedAt IS NULL")
     void deleteAllByCategoryIdAndDeletedAtNullInQuery(Long categoryId);
 }
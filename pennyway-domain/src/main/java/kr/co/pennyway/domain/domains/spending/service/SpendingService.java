@@ -3,15 +3,17 @@ package kr.co.pennyway.domain.domains.spending.service;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Predicate;
 import kr.co.pennyway.common.annotation.DomainService;
+import kr.co.pennyway.domain.common.repository.CursorSlice;
 import kr.co.pennyway.domain.common.repository.QueryHandler;
 import kr.co.pennyway.domain.common.util.SliceUtil;
 import kr.co.pennyway.domain.domains.spending.domain.QSpending;
 import kr.co.pennyway.domain.domains.spending.domain.QSpendingCustomCategory;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.domain.SpendingMonthlySummary;
 import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.repository.SpendingMonthlySummaryRepository;
 import kr.co.pennyway.domain.domains.spending.repository.SpendingRepository;
 import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
-import kr.co.pennyway.domain.domains.user.domain.QUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +22,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,15 +33,25 @@ import java.util.Optional;
 @DomainService
 @RequiredArgsConstructor
 public class SpendingService {
+    private static final int MARKER_YEAR = 0;
+    private static final int MARKER_MONTH = 0;
+
     private final SpendingRepository spendingRepository;
+    private final SpendingMonthlySummaryRepository spendingMonthlySummaryRepository;
 
-    private final QUser user = QUser.user;
     private final QSpending spending = QSpending.spending;
     private final QSpendingCustomCategory spendingCustomCategory = QSpendingCustomCategory.spendingCustomCategory;
 
     @Transactional
     public Spending createSpending(Spending spending) {
-        return spendingRepository.save(spending);
+        Spending saved = spendingRepository.save(spending);
+        spendingRepository.flush();
+
+        if (!initializeMonthlySummary(saved.getUser().getId())) {
+            increaseMonthlySummary(saved.getUser().getId(), saved.getSpendAt(), saved.getAmount(), 1);
+        }
+
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -79,6 +93,21 @@ public class SpendingService {
         return SliceUtil.toSlice(spendingRepository.findList(predicate, queryHandler, sort), pageable);
     }
 
+    /**
+     * 사용자 정의 카테고리 ID로 지출 내역 리스트를 키셋(seek) 방식으로 조회한다.
+     *
+     * @param cursor 이전 조회 결과의 {@link CursorSlice#getNextCursor()}. null이면 첫 번째 Slice를 조회한다.
+     * @return 지출 내역 리스트를 {@link CursorSlice}에 담아서 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<Spending> readSpendingsSliceByCategoryId(Long userId, Long categoryId, String cursor, Pageable pageable) {
+        Predicate predicate = spending.user.id.eq(userId).and(spendingCustomCategory.id.eq(categoryId));
+
+        QueryHandler queryHandler = query -> query.leftJoin(spending.spendingCustomCategory, spendingCustomCategory).fetchJoin();
+
+        return spendingRepository.findSlice(predicate, queryHandler, cursor, pageable.getPageSize(), pageable.getSort());
+    }
+
     /**
      * 시스템 제공 카테고리 code로 지출 내역 리스트를 조회한다.
      *
@@ -101,26 +130,48 @@ public class SpendingService {
         return SliceUtil.toSlice(spendingRepository.findList(predicate, queryHandler, sort), pageable);
     }
 
+    /**
+     * 시스템 제공 카테고리 code로 지출 내역 리스트를 키셋(seek) 방식으로 조회한다.
+     *
+     * @param cursor 이전 조회 결과의 {@link CursorSlice#getNextCursor()}. null이면 첫 번째 Slice를 조회한다.
+     * @return 지출 내역 리스트를 {@link CursorSlice}에 담아서 반환한다.
+     */
     @Transactional(readOnly = true)
-    public Optional<TotalSpendingAmount> readTotalSpendingAmountByUserId(Long userId, LocalDate date) {
-        return spendingRepository.findTotalSpendingAmountByUserId(userId, date.getYear(), date.getMonthValue());
+    public CursorSlice<Spending> readSpendingsSliceByCategory(Long userId, SpendingCategory spendingCategory, String cursor, Pageable pageable) {
+        if (spendingCategory.equals(SpendingCategory.CUSTOM) || spendingCategory.equals(SpendingCategory.OTHER)) {
+            throw new IllegalArgumentException("지출 카테고리가 시스템 제공 카테고리가 아닙니다.");
+        }
+
+        Predicate predicate = spending.user.id.eq(userId).and(spending.category.eq(spendingCategory));
+
+        return spendingRepository.findSlice(predicate, null, cursor, pageable.getPageSize(), pageable.getSort());
     }
 
+    /**
+     * 사용자의 해당 년/월 총 지출 금액을 년/월별 집계 데이터에서 조회한다. <br/>
+     * 사용자의 집계 데이터가 아직 초기화되지 않았다면, 지출 내역 원본을 집계하여 조회한다.
+     */
     @Transactional(readOnly = true)
-    public List<TotalSpendingAmount> readTotalSpendingsAmountByUserId(Long userId) {
-        Predicate predicate = user.id.eq(userId);
-
-        QueryHandler queryHandler = query -> query.leftJoin(spending).on(user.id.eq(spending.user.id))
-                .groupBy(spending.spendAt.year(), spending.spendAt.month());
+    public Optional<TotalSpendingAmount> readTotalSpendingAmountByUserId(Long userId, LocalDate date) {
+        if (!isMonthlySummaryInitialized(userId)) {
+            return spendingRepository.findTotalSpendingAmountByUserId(userId, date.getYear(), date.getMonthValue());
+        }
 
-        Sort sort = Sort.by(Sort.Order.desc("year(spendAt)"), Sort.Order.desc("month(spendAt)"));
+        return spendingMonthlySummaryRepository.findByUserIdAndYearAndMonth(userId, date.getYear(), date.getMonthValue())
+                .map(SpendingMonthlySummary::toTotalSpendingAmount);
+    }
 
-        Map<String, Expression<?>> bindings = new LinkedHashMap<>();
-        bindings.put("year", spending.spendAt.year().intValue());
-        bindings.put("month", spending.spendAt.month().intValue());
-        bindings.put("totalSpending", spending.amount.sum().longValue());
+    /**
+     * 사용자의 년/월별 총 지출 금액 목록을 년/월별 집계 데이터에서 최신순으로 조회한다. <br/>
+     * 사용자의 집계 데이터가 아직 초기화되지 않았다면, 지출 내역 원본을 집계하여 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<TotalSpendingAmount> readTotalSpendingsAmountByUserId(Long userId) {
+        if (!isMonthlySummaryInitialized(userId)) {
+            return readTotalSpendingsAmountFromSpendings(userId);
+        }
 
-        return spendingRepository.selectList(predicate, TotalSpendingAmount.class, bindings, queryHandler, sort);
+        return spendingMonthlySummaryRepository.findTotalSpendingAmountsByUserId(userId);
     }
 
     @Transactional(readOnly = true)
@@ -155,23 +206,100 @@ public class SpendingService {
         spendingRepository.updateCustomCategoryByCategoryInQuery(fromId, toCategory);
     }
 
+    /**
+     * 지출 내역의 금액 또는 지출 일자가 변경된 경우, 변경 전 값을 년/월별 집계 데이터에서 차감하고 변경 후 값을 더한다.
+     *
+     * @param beforeAmount  : 변경 전 지출 금액
+     * @param beforeSpendAt : 변경 전 지출 일자
+     * @param spending      : 변경이 반영된 지출 내역
+     */
+    @Transactional
+    public void updateMonthlySummary(int beforeAmount, LocalDateTime beforeSpendAt, Spending spending) {
+        Long userId = spending.getUser().getId();
+
+        spendingRepository.flush();
+        if (initializeMonthlySummary(userId)) {
+            return;
+        }
+
+        if (YearMonth.from(beforeSpendAt).equals(YearMonth.from(spending.getSpendAt()))) {
+            if (beforeAmount != spending.getAmount()) {
+                increaseMonthlySummary(userId, spending.getSpendAt(), (long) spending.getAmount() - beforeAmount, 0);
+            }
+            return;
+        }
+
+        increaseMonthlySummary(userId, beforeSpendAt, -beforeAmount, -1);
+        increaseMonthlySummary(userId, spending.getSpendAt(), spending.getAmount(), 1);
+    }
+
     @Transactional
     public void deleteSpending(Spending spending) {
         spendingRepository.delete(spending);
+        spendingRepository.flush();
+
+        if (!initializeMonthlySummary(spending.getUser().getId())) {
+            increaseMonthlySummary(spending.getUser().getId(), spending.getSpendAt(), -spending.getAmount(), -1);
+        }
     }
 
     @Transactional
     public void deleteSpendingsInQuery(List<Long> spendingIds) {
+        spendingMonthlySummaryRepository.findUserIdsBySpendingIds(spendingIds).forEach(this::initializeMonthlySummary);
+        spendingMonthlySummaryRepository.decreaseBySpendingIds(spendingIds);
         spendingRepository.deleteAllByIdAndDeletedAtNullInQuery(spendingIds);
     }
 
     @Transactional
     public void deleteSpendingsByUserIdInQuery(Long userId) {
+        spendingMonthlySummaryRepository.deleteAllByUserIdInQuery(userId);
         spendingRepository.deleteAllByUserIdInQuery(userId);
     }
 
     @Transactional
     public void deleteSpendingsByCategoryIdInQuery(Long categoryId) {
+        spendingMonthlySummaryRepository.findUserIdByCategoryId(categoryId).ifPresent(this::initializeMonthlySummary);
+        spendingMonthlySummaryRepository.decreaseByCategoryId(categoryId);
         spendingRepository.deleteAllByCategoryIdAndDeletedAtNullInQuery(categoryId);
     }
+
+    private boolean isMonthlySummaryInitialized(Long userId) {
+        return spendingMonthlySummaryRepository.existsByUser_IdAndYearAndMonth(userId, MARKER_YEAR, MARKER_MONTH);
+    }
+
+    /**
+     * 사용자의 집계 데이터가 초기화되지 않았다면, 초기화 표식을 생성하고 지출 내역 원본으로부터 집계 데이터를 다시 계산한다. <br/>
+     * 집계 테이블 도입 이전부터 존재하던 지출 내역에 증감만 반영하면 일부 금액만 남거나 음수가 되므로, 증감 전에 반드시 호출해야 한다.
+     * 재계산 결과에는 호출 시점까지 flush된 변경이 이미 반영되어 있다.
+     *
+     * @return 이번 호출에서 초기화했다면 true. 이 경우 호출자는 증감을 반영하지 않아야 한다.
+     */
+    private boolean initializeMonthlySummary(Long userId) {
+        if (spendingMonthlySummaryRepository.insertMarker(userId) == 0) {
+            return false;
+        }
+
+        spendingMonthlySummaryRepository.deleteAllExceptMarkerByUserId(userId);
+        spendingMonthlySummaryRepository.rebuildByUserId(userId);
+        return true;
+    }
+
+    private List<TotalSpendingAmount> readTotalSpendingsAmountFromSpendings(Long userId) {
+        Predicate predicate = spending.user.id.eq(userId);
+
+        QueryHandler queryHandler = query -> query.groupBy(spending.spendAt.year(), spending.spendAt.month());
+
+        Sort sort = Sort.by(Sort.Order.desc("year(spendAt)"), Sort.Order.desc("month(spendAt)"));
+
+        Map<String, Expression<?>> bindings = new LinkedHashMap<>();
+        bindings.put("year", spending.spendAt.year().intValue());
+        bindings.put("month", spending.spendAt.month().intValue());
+        bindings.put("totalSpending", spending.amount.sum().longValue());
+
+        return spendingRepository.selectList(predicate, TotalSpendingAmount.class, bindings, queryHandler, sort);
+    }
+
+    private void increaseMonthlySummary(Long userId, LocalDateTime spendAt, long amount, long count) {
+        spendingMonthlySummaryRepository.increase(userId, spendAt.getYear(), spendAt.getMonthValue(), amount, count);
+    }
 }
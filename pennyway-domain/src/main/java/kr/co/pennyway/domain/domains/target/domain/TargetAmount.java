@@ -13,7 +13,9 @@ import java.util.Objects;
 
 @Entity
 @Getter
-@Table(name = "target_amount")
+@Table(name = "target_amount", indexes = {
+        @Index(name = "idx_target_amount_user_id_created_at", columnList = "user_id, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE target_amount SET amount = -1, is_read = 1 WHERE id = ?")
 public class TargetAmount extends DateAuditable {
@@ -0,0 +1,301 @@
+package kr.co.pennyway.domain.common.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pennyway.domain.common.exception.DistributedLockErrorCode;
+import kr.co.pennyway.domain.common.exception.DistributedLockErrorException;
+import kr.co.pennyway.domain.common.redisson.DistributedLock;
+import kr.co.pennyway.domain.common.redisson.LockType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RReadWriteLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class DistributedLockAspectTest {
+    private RedissonClient redissonClient;
+    private RLock rLock;
+    private CallTransactionFactory callTransactionFactory;
+    private MeterRegistry meterRegistry;
+    private DistributedLockAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        redissonClient = mock(RedissonClient.class);
+        rLock = mock(RLock.class);
+        callTransactionFactory = mock(CallTransactionFactory.class);
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new DistributedLockAspect(redissonClient, callTransactionFactory, meterRegistry, new LocalLockStripes(16));
+
+        when(callTransactionFactory.getCallTransaction(anyBoolean())).thenReturn(ProceedingJoinPoint::proceed);
+    }
+
+    @Test
+    @DisplayName("Lock을 획득하면 메서드를 실행하고, 실행이 끝나면 Lock을 해제한다.")
+    void proceedWithLock() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint("reentrant", "user1");
+        when(redissonClient.getLock("LOCK:user1")).thenReturn(rLock);
+        when(rLock.tryLock(0, 5L, TimeUnit.SECONDS)).thenReturn(true);
+
+        // when
+        Object result = aspect.lock(joinPoint);
+
+        // then
+        assertEquals("done", result);
+        verify(rLock).unlock();
+        assertEquals(1, meterRegistry.get("distributed.lock.hold").tag("lock", "LockTarget.reentrant").timer().count());
+        assertEquals(0, meterRegistry.get("distributed.lock.contention").counter().count());
+    }
+
+    @Test
+    @DisplayName("failFast인 경우, Lock을 즉시 획득하지 못하면 대기하지 않고 예외를 던진다.")
+    void failFastWithoutWaiting() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint("failFast", "user1");
+        when(redissonClient.getLock("LOCK:user1")).thenReturn(rLock);
+        when(rLock.tryLock(0, DistributedLock.WATCHDOG, TimeUnit.SECONDS)).thenReturn(false);
+
+        // when
+        DistributedLockErrorException exception = assertThrows(DistributedLockErrorException.class, () -> aspect.lock(joinPoint));
+
+        // then
+        assertEquals(DistributedLockErrorCode.LOCK_NOT_ACQUIRED.getExplainError(), exception.getExplainError());
+        verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any());
+        verify(joinPoint, never()).proceed();
+        verify(rLock, never()).unlock();
+        assertEquals(1, meterRegistry.get("distributed.lock.contention").tag("lock", "LockTarget.failFast").counter().count());
+        assertEquals(1, meterRegistry.get("distributed.lock.wait").tag("result", "rejected").timer().count());
+    }
+
+    @Test
+    @DisplayName("failFast가 아닌 경우, Lock을 즉시 획득하지 못하면 waitTime만큼 대기한다.")
+    void waitWhenContended() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint("reentrant", "user1");
+        when(redissonClient.getLock("LOCK:user1")).thenReturn(rLock);
+        when(rLock.tryLock(0, 5L, TimeUnit.SECONDS)).thenReturn(false);
+        when(rLock.tryLock(anyLong(), eq(5000L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+        // when
+        aspect.lock(joinPoint);
+
+        // then
+        verify(rLock).tryLock(longThat(waitMillis -> waitMillis > 0 && waitMillis <= 10_000L), eq(5000L), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, meterRegistry.get("distributed.lock.contention").counter().count());
+        assertEquals(1, meterRegistry.get("distributed.lock.wait").tag("result", "acquired").timer().count());
+    }
+
+    @Test
+    @DisplayName("Lock 종류에 맞는 Redisson Lock을 획득한다.")
+    void useLockOfType() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint("read", "user1");
+        RReadWriteLock readWriteLock = mock(RReadWriteLock.class);
+        when(redissonClient.getReadWriteLock("LOCK:user1")).thenReturn(readWriteLock);
+        when(readWriteLock.readLock()).thenReturn(rLock);
+        when(rLock.tryLock(0, 5L, TimeUnit.SECONDS)).thenReturn(true);
+
+        // when
+        aspect.lock(joinPoint);
+
+        // then
+        verify(redissonClient, never()).getLock(anyString());
+        verify(rLock).unlock();
+    }
+
+    @Test
+    @DisplayName("같은 노드에서 같은 Lock을 보유한 스레드가 있으면, 대기하는 Lock은 Redisson Lock을 요청하지 않고 로컬 Lock에서 대기한다.")
+    void waitOnLocalLockWithoutRedis() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint("reentrant", "user1");
+        when(redissonClient.getLock("LOCK:user1")).thenReturn(rLock);
+        when(rLock.tryLock(0, 5L, TimeUnit.SECONDS)).thenReturn(true);
+
+        LocalLockStripes stripes = new LocalLockStripes(16);
+        aspect = new DistributedLockAspect(redissonClient, callTransactionFactory, meterRegistry, stripes);
+
+        Lock holderLock = stripes.get("LOCK:user1", false);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            holderLock.lock();
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                holderLock.unlock();
+            }
+        });
+        holder.start();
+        locked.await();
+
+        // when
+        Thread waiter = new Thread(() -> {
+            try {
+                aspect.lock(joinPoint);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        waiter.start();
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // then
+        verify(rLock, never()).tryLock(anyLong(), anyLong(), any());
+        release.countDown();
+        waiter.join(5000);
+        verify(rLock).tryLock(0, 5L, TimeUnit.SECONDS);
+        assertEquals(1, meterRegistry.get("distributed.lock.contention").counter().count());
+    }
+
+    @Test
+    @DisplayName("failFast인 경우, 다른 이름의 Lock이 같은 로컬 Lock을 보유하고 있어도 Redisson Lock을 획득하면 메서드를 실행한다.")
+    void failFastIgnoresCollidingLocalLock() throws Throwable {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(16);
+        aspect = new DistributedLockAspect(redissonClient, callTransactionFactory, meterRegistry, stripes);
+
+        String collidingName = collidingName(stripes, "LOCK:user1");
+        ProceedingJoinPoint joinPoint = joinPoint("failFast", collidingName);
+        when(redissonClient.getLock("LOCK:" + collidingName)).thenReturn(rLock);
+        when(rLock.tryLock(0, DistributedLock.WATCHDOG, TimeUnit.SECONDS)).thenReturn(true);
+
+        Lock holderLock = stripes.get("LOCK:user1", false);
+        Thread holder = new Thread(holderLock::lock);
+        holder.start();
+        holder.join();
+
+        // when
+        Object result = aspect.lock(joinPoint);
+
+        // then
+        assertEquals("done", result);
+        verify(rLock).unlock();
+        assertEquals(1, meterRegistry.get("distributed.lock.contention").counter().count(), "stripe의 경합은 경합으로 집계해야 한다.");
+    }
+
+    @Test
+    @DisplayName("failFast인 경우, 같은 노드에서 같은 Lock을 보유한 스레드가 있으면 Redisson Lock으로 판단하여 거절한다.")
+    void failFastRejectedByRedisWhenSameLockHeldLocally() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint("failFast", "user1");
+        when(redissonClient.getLock("LOCK:user1")).thenReturn(rLock);
+        when(rLock.tryLock(0, DistributedLock.WATCHDOG, TimeUnit.SECONDS)).thenReturn(false);
+
+        LocalLockStripes stripes = new LocalLockStripes(16);
+        aspect = new DistributedLockAspect(redissonClient, callTransactionFactory, meterRegistry, stripes);
+
+        Thread holder = new Thread(() -> stripes.get("LOCK:user1", false).lock());
+        holder.start();
+        holder.join();
+
+        // when - then
+        assertThrows(DistributedLockErrorException.class, () -> aspect.lock(joinPoint));
+        verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any());
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("Redisson Lock 해제 중 예외가 발생해도 로컬 Lock은 해제한다.")
+    void releaseLocalLockWhenRedissonUnlockFails() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint("reentrant", "user1");
+        when(redissonClient.getLock("LOCK:user1")).thenReturn(rLock);
+        when(rLock.tryLock(0, 5L, TimeUnit.SECONDS)).thenReturn(true);
+        doThrow(new RedisException("Redis is unreachable")).when(rLock).unlock();
+
+        LocalLockStripes stripes = new LocalLockStripes(16);
+        aspect = new DistributedLockAspect(redissonClient, callTransactionFactory, meterRegistry, stripes);
+
+        // when
+        assertThrows(RedisException.class, () -> aspect.lock(joinPoint));
+
+        // then
+        ReentrantReadWriteLock.WriteLock localLock = (ReentrantReadWriteLock.WriteLock) stripes.get("LOCK:user1", false);
+        assertFalse(localLock.isHeldByCurrentThread(), "로컬 Lock이 해제되어야 한다.");
+    }
+
+    @Test
+    @DisplayName("같은 stripe의 shared Lock을 보유한 스레드가 exclusive Lock을 요청하면, 로컬 Lock 없이 Redisson Lock만 획득한다.")
+    void skipLocalLockWhenSharedStripeHeld() throws Throwable {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(16);
+        aspect = new DistributedLockAspect(redissonClient, callTransactionFactory, meterRegistry, stripes);
+
+        String collidingName = collidingName(stripes, "LOCK:user1");
+        ProceedingJoinPoint joinPoint = joinPoint("reentrant", collidingName);
+        when(redissonClient.getLock("LOCK:" + collidingName)).thenReturn(rLock);
+        when(rLock.tryLock(0, 5L, TimeUnit.SECONDS)).thenReturn(true);
+
+        Lock sharedLock = stripes.get("LOCK:user1", true);
+        sharedLock.lock();
+
+        // when
+        Object result;
+        try {
+            result = aspect.lock(joinPoint);
+        } finally {
+            sharedLock.unlock();
+        }
+
+        // then
+        assertEquals("done", result);
+        verify(rLock).unlock();
+        assertEquals(0, meterRegistry.get("distributed.lock.contention").counter().count(), "자신이 보유한 shared Lock을 기다리지 않아야 한다.");
+    }
+
+    private ProceedingJoinPoint joinPoint(String methodName, String lockName) throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(LockTarget.class.getDeclaredMethod(methodName, String.class));
+        when(signature.getParameterNames()).thenReturn(new String[]{"lockName"});
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{lockName});
+        when(joinPoint.proceed()).thenReturn("done");
+        return joinPoint;
+    }
+
+    /**
+     * target과 같은 로컬 Lock에 대응되는 다른 Lock 이름을 찾는다.
+     */
+    private String collidingName(LocalLockStripes stripes, String target) {
+        Lock targetLock = stripes.get(target, false);
+        for (int i = 0; ; ++i) {
+            String name = "user" + i;
+            if (!target.equals("LOCK:" + name) && stripes.get("LOCK:" + name, false) == targetLock) {
+                return name;
+            }
+        }
+    }
+
+    static class LockTarget {
+        @DistributedLock(key = "#lockName")
+        void reentrant(String lockName) {
+        }
+
+        @DistributedLock(key = "#lockName", failFast = true, leaseTime = DistributedLock.WATCHDOG)
+        void failFast(String lockName) {
+        }
+
+        @DistributedLock(key = "#lockName", type = LockType.READ)
+        void read(String lockName) {
+        }
+    }
+}
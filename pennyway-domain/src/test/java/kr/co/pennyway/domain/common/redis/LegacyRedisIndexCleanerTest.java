@@ -0,0 +1,92 @@
+package kr.co.pennyway.domain.common.redis;
+
+import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
+import kr.co.pennyway.domain.config.ContainerRedisTestConfig;
+import kr.co.pennyway.domain.config.RedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.util.AssertionErrors.*;
+
+@DataRedisTest(properties = {
+        "spring.config.location=classpath:application-domain.yml",
+        "pennyway.redis.legacy-index-cleanup.enabled=false"
+})
+@ContextConfiguration(classes = {RedisConfig.class})
+@ActiveProfiles("test")
+public class LegacyRedisIndexCleanerTest extends ContainerRedisTestConfig {
+    @Autowired
+    @DomainRedisConnectionFactory
+    private RedisConnectionFactory redisConnectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private LegacyRedisIndexCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        cleaner = new LegacyRedisIndexCleaner(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("@RedisHash Repository가 남긴 index set과 phantom key를 삭제하고, 블랙 리스트 토큰은 그대로 둔다.")
+    void cleanIndexSetsAndPhantomKeys() {
+        // given
+        redisTemplate.opsForSet().add("forbiddenToken", "token1", "token2");
+        redisTemplate.opsForSet().add("signEventLog", "1");
+        redisTemplate.opsForValue().set("forbiddenToken:token1", "1", Duration.ofMinutes(10));
+        redisTemplate.opsForHash().put("forbiddenToken:token1:phantom", "userId", "1");
+        redisTemplate.opsForHash().put("signEventLog:1:phantom", "userId", "1");
+
+        // when
+        cleaner.clean();
+
+        // then
+        assertFalse("index set이 삭제되어야 합니다.", redisTemplate.hasKey("forbiddenToken"));
+        assertFalse("index set이 삭제되어야 합니다.", redisTemplate.hasKey("signEventLog"));
+        assertEquals("phantom key가 삭제되어야 합니다.", 0L, redisTemplate.countExistingKeys(List.of("forbiddenToken:token1:phantom", "signEventLog:1:phantom")));
+        assertTrue("블랙 리스트 토큰은 삭제되지 않아야 합니다.", redisTemplate.hasKey("forbiddenToken:token1"));
+    }
+
+    @Test
+    @DisplayName("만료 시간이 없는 이전 형식의 refresh token hash에는 저장된 ttl을 만료 시간으로 설정한다.")
+    void expireLegacyRefreshTokenHash() {
+        // given
+        redisTemplate.opsForHash().putAll("refreshToken:1", Map.of("userId", "1", "token", "refreshToken", "ttl", "1000"));
+
+        // when
+        cleaner.clean();
+
+        // then
+        Long expire = redisTemplate.getExpire("refreshToken:1", TimeUnit.SECONDS);
+        assertTrue("저장된 ttl이 만료 시간으로 설정되어야 합니다.", expire > 0 && expire <= 1000);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 정리하고 있다면 정리하지 않는다.")
+    void skipWhenAnotherServerIsRunning() {
+        // given
+        redisTemplate.opsForValue().set(LegacyRedisIndexCleaner.DONE_KEY, "running", LegacyRedisIndexCleaner.RUNNING_TIMEOUT);
+        redisTemplate.opsForSet().add("signEventLog", "1");
+
+        // when
+        cleaner.run(new DefaultApplicationArguments());
+
+        // then
+        assertTrue("index set이 삭제되지 않아야 합니다.", redisTemplate.hasKey("signEventLog"));
+        assertEquals("실행 중 표시는 그대로 남아야 합니다.", "running", redisTemplate.opsForValue().get(LegacyRedisIndexCleaner.DONE_KEY));
+        redisTemplate.delete(List.of(LegacyRedisIndexCleaner.DONE_KEY, "signEventLog"));
+    }
+}
@@ -0,0 +1,139 @@
+package kr.co.pennyway.domain.common.redis.forbidden;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
+import kr.co.pennyway.domain.config.ContainerRedisTestConfig;
+import kr.co.pennyway.domain.config.RedisConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.springframework.test.util.AssertionErrors.*;
+
+/**
+ * 서로 다른 서버를 각자의 {@link ForbiddenTokenFilter}와 구독 컨테이너를 가진 {@link ForbiddenTokenService}로 모사하여 검증한다.
+ */
+@DataRedisTest(properties = "spring.config.location=classpath:application-domain.yml")
+@ContextConfiguration(classes = {RedisConfig.class, ForbiddenTokenRepository.class})
+@ActiveProfiles("test")
+public class ForbiddenTokenFilterIntegrationTest extends ContainerRedisTestConfig {
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration SYNC_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private ForbiddenTokenRepository forbiddenTokenRepository;
+    @Autowired
+    @DomainRedisConnectionFactory
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        containers.clear();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 블랙 리스트에 등록한 토큰은 제한된 시간 안에 거부되어야 한다.")
+    void forbiddenTokenIsRejectedOnAnotherNode() {
+        // given
+        Node nodeA = startNode();
+        Node nodeB = startNode();
+        String accessToken = UUID.randomUUID().toString();
+
+        // when
+        nodeA.service.createForbiddenToken(accessToken, 1L, LocalDateTime.now().plusMinutes(10));
+
+        // then
+        assertTrue("등록한 서버에서는 즉시 거부되어야 한다.", nodeA.service.isForbidden(accessToken));
+        assertTrue("다른 서버에서도 " + PROPAGATION_TIMEOUT + " 안에 거부되어야 한다.", await(() -> nodeB.service.isForbidden(accessToken), PROPAGATION_TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("블랙 리스트에 없는 토큰은 Redis를 조회하지 않고 허용되어야 한다.")
+    void notForbiddenTokenSkipsRedis() {
+        // given
+        Node node = startNode();
+
+        // when
+        boolean forbidden = node.service.isForbidden(UUID.randomUUID().toString());
+
+        // then
+        assertFalse("블랙 리스트에 없는 토큰은 허용되어야 한다.", forbidden);
+        assertEquals("filter에서 판단이 끝나야 한다.", 1.0, node.meterRegistry.get("forbidden.token.filter.checks").tag("result", "negative").counter().count());
+        assertEquals("Redis로 확인한 요청이 없어야 한다.", 0.0, node.meterRegistry.get("forbidden.token.filter.checks").tag("result", "positive").counter().count());
+    }
+
+    @Test
+    @DisplayName("서버가 시작되기 전에 등록된 토큰은 동기화 후 거부되어야 한다.")
+    void tokenForbiddenBeforeStartupIsRejectedAfterSync() {
+        // given
+        Node nodeA = startNode();
+        String accessToken = UUID.randomUUID().toString();
+        nodeA.service.createForbiddenToken(accessToken, 1L, LocalDateTime.now().plusMinutes(10));
+
+        // when
+        Node nodeB = startNode();
+
+        // then
+        assertTrue("동기화 후 filter에 포함되어야 한다.", nodeB.filter.mightBeForbidden(accessToken));
+        assertTrue("동기화 후 거부되어야 한다.", nodeB.service.isForbidden(accessToken));
+    }
+
+    /**
+     * 구독과 동기화가 완료된 서버를 시작한다.
+     */
+    private Node startNode() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ForbiddenTokenFilter filter = new ForbiddenTokenFilter(new StringRedisTemplate(redisConnectionFactory), meterRegistry, Duration.ofMinutes(5), 1_000, 0.01);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(filter, new ChannelTopic(ForbiddenTokenFilter.CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        assertTrue("filter 동기화가 완료되어야 한다.", await(filter::isReady, SYNC_TIMEOUT));
+        return new Node(new ForbiddenTokenService(forbiddenTokenRepository, filter), filter, meterRegistry);
+    }
+
+    private boolean await(BooleanSupplier condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+
+    private record Node(ForbiddenTokenService service, ForbiddenTokenFilter filter, MeterRegistry meterRegistry) {
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.pennyway.domain.common.redis.refresh;
 
+import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
 import kr.co.pennyway.domain.config.ContainerRedisTestConfig;
 import kr.co.pennyway.domain.config.RedisConfig;
 import lombok.extern.slf4j.Slf4j;
@@ -8,25 +9,37 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.springframework.test.util.AssertionErrors.assertEquals;
-import static org.springframework.test.util.AssertionErrors.assertFalse;
+import static org.springframework.test.util.AssertionErrors.*;
 
 @Slf4j
 @DataRedisTest(properties = "spring.config.location=classpath:application-domain.yml")
-@ContextConfiguration(classes = {RedisConfig.class, RefreshTokenServiceImpl.class})
+@ContextConfiguration(classes = {RedisConfig.class, RefreshTokenServiceImpl.class, RefreshTokenRepository.class})
 @ActiveProfiles("test")
 public class RefreshTokenServiceIntegrationTest extends ContainerRedisTestConfig {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    @DomainRedisConnectionFactory
+    private RedisConnectionFactory redisConnectionFactory;
     private RefreshTokenService refreshTokenService;
+    private StringRedisTemplate redisTemplate;
 
     @BeforeEach
     void setUp() {
         this.refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository);
+        this.redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        redisTemplate.delete(List.of("refreshToken:1", "refreshToken"));
     }
 
     @Test
@@ -43,9 +56,8 @@ public class RefreshTokenServiceIntegrationTest extends ContainerRedisTestConfig
         refreshTokenService.save(refreshToken);
 
         // then
-        RefreshToken savedRefreshToken = refreshTokenRepository.findById(1L).orElse(null);
-        assertEquals("저장된 리프레시 토큰이 일치하지 않습니다.", refreshToken, savedRefreshToken);
-        log.info("저장된 리프레시 토큰 정보 : {}", savedRefreshToken);
+        assertEquals("저장된 리프레시 토큰이 일치하지 않습니다.", "refreshToken", refreshTokenRepository.findTokenById(1L));
+        assertTrue("리프레시 토큰의 만료 시간이 설정되어야 합니다.", redisTemplate.getExpire("refreshToken:1", TimeUnit.SECONDS) > 0);
     }
 
     @Test
@@ -60,12 +72,12 @@ public class RefreshTokenServiceIntegrationTest extends ContainerRedisTestConfig
         refreshTokenService.save(refreshToken);
 
         // when
-        refreshTokenService.refresh(1L, "refreshToken", "newRefreshToken");
+        RefreshToken refreshed = refreshTokenService.refresh(1L, "refreshToken", "newRefreshToken", 2000L);
 
         // then
-        RefreshToken savedRefreshToken = refreshTokenRepository.findById(1L).orElse(null);
-        assertEquals("갱신된 리프레시 토큰이 일치하지 않습니다.", "newRefreshToken", savedRefreshToken.getToken());
-        log.info("갱신된 리프레시 토큰 정보 : {}", savedRefreshToken);
+        assertEquals("갱신된 리프레시 토큰이 일치하지 않습니다.", "newRefreshToken", refreshTokenRepository.findTokenById(1L));
+        assertEquals("반환된 리프레시 토큰이 일치하지 않습니다.", "newRefreshToken", refreshed.getToken());
+        assertTrue("갱신된 리프레시 토큰의 만료 시간이 새로 설정되어야 합니다.", redisTemplate.getExpire("refreshToken:1", TimeUnit.SECONDS) > 1000L);
     }
 
     @Test
@@ -80,10 +92,104 @@ public class RefreshTokenServiceIntegrationTest extends ContainerRedisTestConfig
         refreshTokenService.save(refreshToken);
 
         // when
-        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> refreshTokenService.refresh(1L, "anotherRefreshToken", "newRefreshToken"));
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> refreshTokenService.refresh(1L, "anotherRefreshToken", "newRefreshToken", 1000L));
 
         // then
         assertEquals("리프레시 토큰이 탈취되었을 때 예외가 발생해야 합니다.", "refresh token mismatched", exception.getMessage());
-        assertFalse("리프레시 토큰이 탈취되었을 때 저장된 리프레시 토큰이 삭제되어야 합니다.", refreshTokenRepository.existsById(1L));
+        assertNull("리프레시 토큰이 탈취되었을 때 저장된 리프레시 토큰이 삭제되어야 합니다.", refreshTokenRepository.findTokenById(1L));
+    }
+
+    @Test
+    @DisplayName("저장된 리프레시 토큰이 없다면 IllegalArgumentException이 발생한다.")
+    void refreshMissingTokenTest() {
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> refreshTokenService.refresh(1L, "refreshToken", "newRefreshToken", 1000L));
+
+        // then
+        assertEquals("저장된 리프레시 토큰이 없을 때 예외가 발생해야 합니다.", "refresh token not found", exception.getMessage());
+        assertNull("저장된 리프레시 토큰이 없다면 새 토큰을 저장하지 않아야 합니다.", refreshTokenRepository.findTokenById(1L));
+    }
+
+    @Test
+    @DisplayName("이전 형식(@RedisHash)으로 저장된 리프레시 토큰은 갱신 시 문자열 key로 옮겨지고, index set에서 제거된다.")
+    void migrateLegacyHashTest() {
+        // given
+        redisTemplate.opsForHash().putAll("refreshToken:1", Map.of(
+                "_class", RefreshToken.class.getName(),
+                "userId", "1",
+                "token", "refreshToken",
+                "ttl", "1000"
+        ));
+        redisTemplate.opsForSet().add("refreshToken", "1");
+
+        // when
+        refreshTokenService.refresh(1L, "refreshToken", "newRefreshToken", 1000L);
+
+        // then
+        assertEquals("갱신된 리프레시 토큰이 일치하지 않습니다.", "newRefreshToken", refreshTokenRepository.findTokenById(1L));
+        assertFalse("index set에서 사용자 아이디가 제거되어야 합니다.", redisTemplate.opsForSet().isMember("refreshToken", "1"));
+    }
+
+    @Test
+    @DisplayName("이전 형식(@RedisHash)으로 저장된 리프레시 토큰도 조회할 수 있다.")
+    void findLegacyHashTest() {
+        // given
+        redisTemplate.opsForHash().putAll("refreshToken:1", Map.of(
+                "_class", RefreshToken.class.getName(),
+                "userId", "1",
+                "token", "refreshToken",
+                "ttl", "1000"
+        ));
+
+        // when
+        String token = refreshTokenRepository.findTokenById(1L);
+
+        // then
+        assertEquals("이전 형식의 리프레시 토큰이 조회되어야 합니다.", "refreshToken", token);
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰으로 동시에 갱신을 요청하면, 하나의 요청만 성공하고 나머지는 탈취로 판단되어 토큰이 삭제된다.")
+    void concurrentRefreshTest() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        refreshTokenService.save(RefreshToken.of(1L, "refreshToken", 1000L));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rotated = new AtomicInteger();
+        AtomicInteger mismatched = new AtomicInteger();
+        AtomicInteger missing = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; ++i) {
+            String newRefreshToken = "newRefreshToken" + i;
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    refreshTokenService.refresh(1L, "refreshToken", newRefreshToken, 1000L);
+                    rotated.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    mismatched.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    missing.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        log.info("rotated : {}, mismatched : {}, missing : {}", rotated.get(), mismatched.get(), missing.get());
+        assertEquals("하나의 요청만 갱신에 성공해야 합니다.", 1, rotated.get());
+        assertEquals("모든 요청이 처리되어야 합니다.", threadCount, rotated.get() + mismatched.get() + missing.get());
+        assertTrue("갱신 이후의 요청 중 적어도 하나는 탈취로 판단되어야 합니다.", mismatched.get() >= 1);
+        assertNull("탈취로 판단되면 저장된 리프레시 토큰이 삭제되어야 합니다.", refreshTokenRepository.findTokenById(1L));
     }
 }
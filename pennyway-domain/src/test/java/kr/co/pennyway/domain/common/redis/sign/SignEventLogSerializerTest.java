@@ -0,0 +1,54 @@
+package kr.co.pennyway.domain.common.redis.sign;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SignEventLogSerializerTest {
+    private final SignEventLogSerializer serializer = new SignEventLogSerializer();
+
+    @Test
+    @DisplayName("직렬화한 접속 정보를 역직렬화하면 모든 필드가 같아야 한다.")
+    void roundTrip() {
+        // given
+        SignEventLog signEventLog = SignEventLog.builder()
+                .userId(1L)
+                .signedAt(LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123_456_789))
+                .ipAddress("127.0.0.1")
+                .ipAddressHeader("X-Forwarded-For")
+                .appVersion("1.0.0")
+                .deviceModel("iPhone 15")
+                .os("iOS")
+                .build();
+
+        // when
+        SignEventLog deserialized = serializer.deserialize(serializer.serialize(signEventLog));
+
+        // then
+        assertEquals(signEventLog.toString(), deserialized.toString());
+    }
+
+    @Test
+    @DisplayName("null인 필드도 직렬화할 수 있어야 한다.")
+    void roundTripWithNullFields() {
+        // given
+        SignEventLog signEventLog = SignEventLog.builder().userId(1L).build();
+
+        // when
+        SignEventLog deserialized = serializer.deserialize(serializer.serialize(signEventLog));
+
+        // then
+        assertEquals(1L, deserialized.getUserId());
+        assertNull(deserialized.getSignedAt());
+        assertNull(deserialized.getIpAddress());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전의 값은 null로 읽는다.")
+    void unknownVersion() {
+        assertNull(serializer.deserialize(new byte[]{99, 0, 0}));
+    }
+}
@@ -0,0 +1,103 @@
+package kr.co.pennyway.domain.common.redisson;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pennyway.domain.common.aop.*;
+import kr.co.pennyway.domain.config.ContainerRedisTestConfig;
+import kr.co.pennyway.domain.config.RedissonConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisNode;
+import org.redisson.api.redisnode.RedisNodes;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 노드의 스레드들이 하나의 Lock을 두고 경합할 때, 로컬 Lock 사용 여부에 따른 Redis 명령 수를 비교한다.
+ * <p>
+ * {@link CouponDecreaseLockTest}와 같이 여러 스레드가 동시에 같은 이름의 Lock으로 재고를 차감하며,
+ * Redis 서버의 {@code total_commands_processed} 증가량으로 명령 수를 측정한다.
+ */
+@Slf4j
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = RedissonConfig.class)
+@ActiveProfiles("test")
+public class LocalLockRedisCommandTest extends ContainerRedisTestConfig {
+    private static final int THREAD_COUNT = 50;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("로컬 Lock을 먼저 획득하면, 같은 노드의 경합이 Redis 명령으로 이어지지 않는다.")
+    void reduceRedisCommandsWithLocalLock() throws InterruptedException {
+        // given
+        StockService withoutLocalLock = new StockService();
+        StockService withLocalLock = new StockService();
+
+        // when
+        long commandsWithoutLocalLock = countRedisCommands(proxy(withoutLocalLock, new LocalLockStripes(0)));
+        long commandsWithLocalLock = countRedisCommands(proxy(withLocalLock, new LocalLockStripes(1024)));
+
+        // then
+        log.info("Redis 명령 수 - 로컬 Lock 미사용: {}, 사용: {}", commandsWithoutLocalLock, commandsWithLocalLock);
+        assertThat(withoutLocalLock.stock).isZero();
+        assertThat(withLocalLock.stock).isZero();
+        assertThat(commandsWithLocalLock).isLessThan(commandsWithoutLocalLock);
+    }
+
+    private long countRedisCommands(StockService service) throws InterruptedException {
+        long before = totalCommandsProcessed();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    service.decreaseStock("STOCK_001");
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        return totalCommandsProcessed() - before;
+    }
+
+    private long totalCommandsProcessed() {
+        RedisNode node = redissonClient.getRedisNodes(RedisNodes.SINGLE).getInstance();
+        return Long.parseLong(node.info(RedisNode.InfoSection.STATS).get("total_commands_processed"));
+    }
+
+    private StockService proxy(StockService target, LocalLockStripes localLockStripes) {
+        CallTransactionFactory callTransactionFactory = new CallTransactionFactory(new RedissonCallNewTransaction(), new RedissonCallSameTransaction());
+        DistributedLockAspect aspect = new DistributedLockAspect(redissonClient, callTransactionFactory, new SimpleMeterRegistry(), localLockStripes);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    public static class StockService {
+        private int stock = THREAD_COUNT;
+
+        @DistributedLock(key = "#lockName", needNewTransaction = false)
+        public void decreaseStock(String lockName) {
+            stock--;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package kr.co.pennyway.domain.common.repository;
+
+import com.querydsl.core.types.Predicate;
+import jakarta.persistence.EntityManager;
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.TestJpaConfig;
+import kr.co.pennyway.domain.domains.notification.domain.Notification;
+import kr.co.pennyway.domain.domains.notification.domain.QNotification;
+import kr.co.pennyway.domain.domains.notification.repository.NotificationRepository;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.QUser;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import kr.co.pennyway.domain.domains.user.type.ProfileVisibility;
+import kr.co.pennyway.domain.domains.user.type.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+@Slf4j
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create"})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestJpaConfig.class)
+@ActiveProfiles("test")
+public class QueryDslSearchRepositoryCountTest extends ContainerMySqlTestConfig {
+    private final QUser qUser = QUser.user;
+    private final QNotification qNotification = QNotification.notification;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @Transactional
+    @DisplayName("findPage의 전체 개수는 fetch join이 포함된 QueryHandler를 사용하더라도 COUNT 쿼리로 계산되어야 한다.")
+    public void findPageWithFetchJoin() {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        bulkInsertNotifications(user.getId(), 23);
+
+        Predicate predicate = qNotification.receiver.id.eq(user.getId());
+        QueryHandler queryHandler = query -> query.leftJoin(qNotification.receiver, qUser).fetchJoin();
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Order.desc("notification.id")));
+
+        // when
+        Page<Notification> page = notificationRepository.findPage(predicate, queryHandler, pageable);
+
+        // then
+        assertEquals("전체 개수는 23이어야 한다.", 23L, page.getTotalElements());
+        assertEquals("전체 페이지 수는 3이어야 한다.", 3, page.getTotalPages());
+        assertEquals("두 번째 페이지의 데이터 개수는 10이어야 한다.", 10, page.getNumberOfElements());
+        assertEquals("count 메서드의 결과와 같아야 한다.", notificationRepository.count(predicate, queryHandler), page.getTotalElements());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("첫 페이지의 결과가 페이지 크기보다 작으면, 조회된 데이터 개수가 전체 개수가 되어야 한다.")
+    public void findPageShortFirstPage() {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        bulkInsertNotifications(user.getId(), 3);
+
+        Predicate predicate = qNotification.receiver.id.eq(user.getId());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<Notification> page = notificationRepository.findPage(predicate, null, pageable);
+
+        // then
+        assertEquals("전체 개수는 3이어야 한다.", 3L, page.getTotalElements());
+        assertEquals("hasNext()는 false여야 한다.", false, page.hasNext());
+    }
+
+    /**
+     * 기존 방식(전체 결과를 조회한 후 size()로 개수를 계산)과 COUNT 쿼리 방식의 소요 시간과 힙 할당량을 비교한다. <br/>
+     * 데이터 적재에 시간이 오래 걸리므로 {@code -Dbenchmark=true}를 지정한 경우에만 실행한다.
+     */
+    @Transactional
+    @ParameterizedTest(name = "rows = {0}")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("전체 결과 조회 방식과 COUNT 쿼리 방식의 성능을 비교한다.")
+    public void countBenchmark(int rows) {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        bulkInsertNotifications(user.getId(), rows);
+
+        Predicate predicate = qNotification.receiver.id.eq(user.getId());
+
+        // when
+        Measurement legacy = measure(() -> notificationRepository.findList(predicate, null, null).size());
+        Measurement count = measure(() -> notificationRepository.count(predicate, null));
+
+        // then
+        log.info("[rows={}] fetch().size() : {} ms, {} MB allocated", rows, legacy.elapsedMillis(), legacy.allocatedBytes() / (1024 * 1024));
+        log.info("[rows={}] COUNT(*)       : {} ms, {} MB allocated", rows, count.elapsedMillis(), count.allocatedBytes() / (1024 * 1024));
+        assertEquals("두 방식의 결과는 같아야 한다.", legacy.result(), count.result());
+    }
+
+    private Measurement measure(LongSupplier supplier) {
+        em.clear();
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long result = supplier.getAsLong();
+        long elapsed = System.nanoTime() - start;
+        long allocatedAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        return new Measurement(result, elapsed / 1_000_000, allocatedAfter - allocatedBefore);
+    }
+
+    private void bulkInsertNotifications(Long receiverId, int rows) {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (rows + 1));
+        jdbcTemplate.update("""
+                INSERT INTO notification (type, announcement, created_at, updated_at, receiver, receiver_name)
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT '0', '1', NOW() - INTERVAL n MINUTE, NOW(), ?, 'jayang' FROM seq
+                """, rows, receiverId);
+    }
+
+    private User createUser(String name) {
+        return User.builder()
+                .username("test")
+                .name(name)
+                .password("test")
+                .phone("010-1234-5678")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build();
+    }
+
+    private record Measurement(long result, long elapsedMillis, long allocatedBytes) {
+    }
+}
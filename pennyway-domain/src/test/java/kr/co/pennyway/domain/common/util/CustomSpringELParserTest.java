@@ -0,0 +1,40 @@
+package kr.co.pennyway.domain.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.Expression;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CustomSpringELParserTest {
+    private static final String TARGET_AMOUNT_KEY = "#key.concat(#userId).concat('_').concat(#date.getYear()).concat('-').concat(#date.getMonthValue())";
+    private static final String[] PARAMETER_NAMES = {"key", "userId", "date"};
+
+    @Test
+    @DisplayName("메서드 파라미터를 변수로 참조하고, 인스턴스 메서드를 호출하여 Lock 이름을 만든다.")
+    public void evaluateMethodParameters() {
+        // given
+        Object[] args = {"TargetAmount_User_", 1L, LocalDate.of(2024, 7, 1)};
+
+        // when
+        Object value = CustomSpringELParser.getDynamicValue(PARAMETER_NAMES, args, TARGET_AMOUNT_KEY);
+
+        // then
+        assertEquals("TargetAmount_User_1_2024-7", value);
+    }
+
+    @Test
+    @DisplayName("파싱한 표현식을 여러 번 평가해도, 컴파일 전후의 결과가 같다.")
+    public void reuseParsedExpression() {
+        // given
+        Expression expression = CustomSpringELParser.parseExpression(TARGET_AMOUNT_KEY);
+
+        // when - then
+        for (long userId = 0; userId < 1_000; ++userId) {
+            Object[] args = {"TargetAmount_User_", userId, LocalDate.of(2024, 12, 1)};
+            assertEquals("TargetAmount_User_" + userId + "_2024-12", CustomSpringELParser.getDynamicValue(expression, PARAMETER_NAMES, args));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package kr.co.pennyway.domain.domains.notification.repository;
+
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.TestJpaConfig;
+import kr.co.pennyway.domain.domains.notification.type.Announcement;
+import kr.co.pennyway.domain.domains.notification.type.NoticeType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+/**
+ * 10만 명의 사용자에게 공지 알림을 저장하는 비용을, 사용자마다 쿼리를 실행하던 이전 방식과 비교한다. <br/>
+ * 실행 시간이 길기 때문에 {@code -Dbenchmark=true}를 지정한 경우에만 실행한다.
+ *
+ * <pre>
+ * {@code ./gradlew :pennyway-domain:test --tests "*NotificationBulkInsertBenchmarkTest" -Dbenchmark=true}
+ * </pre>
+ */
+@Slf4j
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create"})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestJpaConfig.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class NotificationBulkInsertBenchmarkTest extends ContainerMySqlTestConfig {
+    private static final int USER_COUNT = 100_000;
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> userIds;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (USER_COUNT + 1));
+        jdbcTemplate.update("""
+                INSERT INTO user (username, name, password, phone, role, profile_visibility, account_book_notify, feed_notify, chat_notify, locked, created_at, updated_at)
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT CONCAT('user', n), 'pennyway', 'test', '010-1234-5678', '1', '0', true, true, true, false, NOW(), NOW() FROM seq
+                """, USER_COUNT);
+        userIds = jdbcTemplate.queryForList("SELECT id FROM user", Long.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DELETE FROM notification");
+        jdbcTemplate.execute("DELETE FROM user");
+    }
+
+    @Test
+    @DisplayName("10만 명의 공지 알림을 이전 방식과 집합 기반 방식으로 저장하고, 소요 시간을 비교한다.")
+    public void compareBulkInsert() {
+        // when
+        long legacyMillis = measure(() -> legacySaveInBulk(userIds, Announcement.DAILY_SPENDING));
+        long legacyCount = countNotifications();
+        jdbcTemplate.execute("DELETE FROM notification");
+
+        long setBasedMillis = measure(() -> notificationRepository.saveDailySpendingAnnounceInBulk(userIds, Announcement.DAILY_SPENDING));
+        long setBasedCount = countNotifications();
+
+        long duplicatedMillis = measure(() -> notificationRepository.saveDailySpendingAnnounceInBulk(userIds, Announcement.DAILY_SPENDING));
+        long duplicatedCount = countNotifications();
+
+        // then
+        log.info("recipients: {}, legacy: {}ms, set-based: {}ms, set-based (all duplicated): {}ms", USER_COUNT, legacyMillis, setBasedMillis, duplicatedMillis);
+        assertEquals("이전 방식은 모든 사용자의 알림을 저장해야 한다.", (long) USER_COUNT, legacyCount);
+        assertEquals("집합 기반 방식은 모든 사용자의 알림을 저장해야 한다.", (long) USER_COUNT, setBasedCount);
+        assertEquals("당일 이미 저장된 알림은 다시 저장되지 않아야 한다.", (long) USER_COUNT, duplicatedCount);
+    }
+
+    private long measure(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private long countNotifications() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification", Long.class);
+    }
+
+    /**
+     * 변경 전 방식. 사용자마다 중복 확인 서브쿼리를 포함한 INSERT ... SELECT 문을 JDBC batch로 실행한다.
+     */
+    private void legacySaveInBulk(List<Long> userIds, Announcement announcement) {
+        String sql = "INSERT INTO notification(id, read_at, type, announcement, created_at, updated_at, receiver, receiver_name) " +
+                "SELECT NULL, NULL, ?, ?, NOW(), NOW(), u.id, u.name " +
+                "FROM user u " +
+                "WHERE u.id IN (?) " +
+                "AND NOT EXISTS ( " +
+                "	SELECT n.receiver " +
+                "	FROM notification n " +
+                "	WHERE n.receiver = u.id " +
+                "    AND n.created_at >= CURDATE() " +
+                "    AND n.created_at < CURDATE() + INTERVAL 1 DAY " +
+                "	AND n.type = ? " +
+                "	AND n.announcement = ? " +
+                ")";
+
+        for (int from = 0; from < userIds.size(); from += BATCH_SIZE) {
+            List<Long> subItems = userIds.subList(from, Math.min(from + BATCH_SIZE, userIds.size()));
+
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setString(1, NoticeType.ANNOUNCEMENT.getCode());
+                    ps.setString(2, announcement.getCode());
+                    ps.setLong(3, subItems.get(i));
+                    ps.setString(4, NoticeType.ANNOUNCEMENT.getCode());
+                    ps.setString(5, announcement.getCode());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return subItems.size();
+                }
+            });
+        }
+    }
+}
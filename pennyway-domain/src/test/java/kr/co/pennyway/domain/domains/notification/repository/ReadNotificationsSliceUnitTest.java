@@ -1,5 +1,8 @@
 package kr.co.pennyway.domain.domains.notification.repository;
 
+import kr.co.pennyway.domain.common.exception.CursorErrorCode;
+import kr.co.pennyway.domain.common.exception.CursorErrorException;
+import kr.co.pennyway.domain.common.repository.CursorSlice;
 import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
 import kr.co.pennyway.domain.config.JpaConfig;
 import kr.co.pennyway.domain.config.TestJpaConfig;
@@ -34,8 +37,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.test.util.AssertionErrors.assertEquals;
-import static org.springframework.test.util.AssertionErrors.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.util.AssertionErrors.*;
 
 @Slf4j
 @DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create"})
@@ -83,6 +86,140 @@ public class ReadNotificationsSliceUnitTest extends ContainerMySqlTestConfig {
         }
     }
 
+    @Test
+    @Transactional
+    @DisplayName("cursor로 다음 알림 목록을 조회하면, 이전 Slice의 마지막 알림 이후의 데이터가 중복 없이 최신순으로 조회되어야 한다.")
+    public void readNotificationsSliceWithCursor() {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        Pageable pa = PageRequest.of(0, 4, Sort.by(Sort.Order.desc("notification.createdAt")));
+
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            notifications.add(new Notification.Builder(NoticeType.ANNOUNCEMENT, Announcement.DAILY_SPENDING, user).build());
+        }
+        bulkInsertNotifications(notifications);
+
+        // when
+        CursorSlice<Notification> first = notificationService.readNotificationsSlice(user.getId(), null, pa);
+        CursorSlice<Notification> second = notificationService.readNotificationsSlice(user.getId(), first.getNextCursor(), pa);
+        CursorSlice<Notification> third = notificationService.readNotificationsSlice(user.getId(), second.getNextCursor(), pa);
+
+        // then
+        assertEquals("첫 번째 Slice 데이터 개수는 4개여야 한다.", 4, first.getNumberOfElements());
+        assertEquals("두 번째 Slice 데이터 개수는 4개여야 한다.", 4, second.getNumberOfElements());
+        assertEquals("세 번째 Slice 데이터 개수는 2개여야 한다.", 2, third.getNumberOfElements());
+        assertFalse("마지막 Slice의 hasNext()는 false여야 한다.", third.hasNext());
+        assertNull("마지막 Slice의 nextCursor는 null이어야 한다.", third.getNextCursor());
+
+        List<Notification> all = new ArrayList<>();
+        all.addAll(first.getContent());
+        all.addAll(second.getContent());
+        all.addAll(third.getContent());
+
+        assertEquals("중복 없이 모든 알림이 조회되어야 한다.", 10L, all.stream().map(Notification::getId).distinct().count());
+        for (int i = 0; i < all.size() - 1; i++) {
+            assertTrue("알림은 최신순으로 정렬되어야 한다.", all.get(i).getCreatedAt().isAfter(all.get(i + 1).getCreatedAt()));
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("정렬 조건이 다른 요청에 cursor를 사용하면 CursorErrorException이 발생한다.")
+    public void readNotificationsSliceWithMismatchedCursor() {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        bulkInsertNotifications(List.of(
+                new Notification.Builder(NoticeType.ANNOUNCEMENT, Announcement.DAILY_SPENDING, user).build(),
+                new Notification.Builder(NoticeType.ANNOUNCEMENT, Announcement.DAILY_SPENDING, user).build()
+        ));
+
+        Pageable desc = PageRequest.of(0, 1, Sort.by(Sort.Order.desc("notification.createdAt")));
+        Pageable asc = PageRequest.of(0, 1, Sort.by(Sort.Order.asc("notification.createdAt")));
+        String cursor = notificationService.readNotificationsSlice(user.getId(), null, desc).getNextCursor();
+
+        // when - then
+        assertThrows(CursorErrorException.class, () -> notificationService.readNotificationsSlice(user.getId(), cursor, asc));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("null이거나 enum인 정렬 키로 정렬해도, cursor로 모든 알림을 중복 없이 조회할 수 있어야 한다.")
+    public void readNotificationsSliceSortedByNullableAndEnumKeys() {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            notifications.add(new Notification.Builder(NoticeType.ANNOUNCEMENT, Announcement.DAILY_SPENDING, user).build());
+        }
+        bulkInsertNotifications(notifications);
+
+        for (Sort sort : List.of(Sort.by(Sort.Order.desc("notification.readAt")), Sort.by(Sort.Order.asc("notification.type")))) {
+            Pageable pa = PageRequest.of(0, 4, sort);
+
+            // when
+            List<Notification> all = new ArrayList<>();
+            String cursor = null;
+            do {
+                CursorSlice<Notification> slice = notificationService.readNotificationsSlice(user.getId(), cursor, pa);
+                all.addAll(slice.getContent());
+                cursor = slice.getNextCursor();
+            } while (cursor != null);
+
+            // then
+            assertEquals(sort + " 정렬에서 중복 없이 모든 알림이 조회되어야 한다.", 10L, all.stream().map(Notification::getId).distinct().count());
+            assertEquals(sort + " 정렬에서 조회한 알림 수가 일치해야 한다.", 10, all.size());
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("null과 null이 아닌 값이 섞인 정렬 키로 정렬해도, 페이지가 두 값의 경계를 넘을 때 null인 알림이 누락되지 않아야 한다.")
+    public void readNotificationsSliceAcrossNullBoundary() {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            notifications.add(new Notification.Builder(NoticeType.ANNOUNCEMENT, Announcement.DAILY_SPENDING, user).build());
+        }
+        bulkInsertNotifications(notifications);
+        jdbcTemplate.update("UPDATE notification SET read_at = created_at WHERE receiver = :receiver AND MOD(id, 2) = 0",
+                new MapSqlParameterSource("receiver", user.getId()));
+
+        for (Sort sort : List.of(Sort.by(Sort.Order.desc("notification.readAt")), Sort.by(Sort.Order.asc("notification.readAt")))) {
+            Pageable pa = PageRequest.of(0, 4, sort);
+
+            // when
+            List<Notification> all = new ArrayList<>();
+            String cursor = null;
+            do {
+                CursorSlice<Notification> slice = notificationService.readNotificationsSlice(user.getId(), cursor, pa);
+                all.addAll(slice.getContent());
+                cursor = slice.getNextCursor();
+            } while (cursor != null);
+
+            // then
+            assertEquals(sort + " 정렬에서 조회한 알림 수가 일치해야 한다.", 10, all.size());
+            assertEquals(sort + " 정렬에서 중복 없이 모든 알림이 조회되어야 한다.", 10L, all.stream().map(Notification::getId).distinct().count());
+            assertEquals(sort + " 정렬에서 읽은 알림이 모두 조회되어야 한다.", 5L, all.stream().filter(notification -> notification.getReadAt() != null).count());
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("형식이 올바르지 않은 cursor를 사용하면 MALFORMED_CURSOR 에러가 발생한다.")
+    public void readNotificationsSliceWithMalformedCursor() {
+        // given
+        User user = userRepository.save(createUser("jayang"));
+        Pageable pa = PageRequest.of(0, 4, Sort.by(Sort.Order.desc("notification.createdAt")));
+
+        // when
+        CursorErrorException exception = assertThrows(CursorErrorException.class, () -> notificationService.readNotificationsSlice(user.getId(), "garbage", pa));
+
+        // then
+        assertEquals("형식 오류로 판단해야 한다.", CursorErrorCode.MALFORMED_CURSOR, exception.getBaseErrorCode());
+    }
+
     private User createUser(String name) {
         return User.builder()
                 .username("test")
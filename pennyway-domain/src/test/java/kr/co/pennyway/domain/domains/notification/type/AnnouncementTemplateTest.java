@@ -0,0 +1,56 @@
+package kr.co.pennyway.domain.domains.notification.type;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnnouncementTemplateTest {
+    @Test
+    @DisplayName("템플릿 렌더링 결과는 String.format의 결과와 같다.")
+    public void renderSameAsStringFormat() {
+        for (Announcement announcement : new Announcement[]{Announcement.DAILY_SPENDING, Announcement.MONTHLY_TARGET_AMOUNT}) {
+            if (announcement.getTitle().contains("%s")) {
+                assertEquals(String.format(announcement.getTitle(), "페니웨이"), announcement.createFormattedTitle("페니웨이"));
+            }
+            if (announcement.getContent().contains("%s")) {
+                assertEquals(String.format(announcement.getContent(), "페니웨이"), announcement.createFormattedContent("페니웨이"));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("자리가 없는 템플릿은 원본 문자열을 그대로 반환한다.")
+    public void returnPatternWhenConstant() {
+        // given
+        String pattern = "많은 친구들이 소비 기록에 참여하고 있어요👀";
+        AnnouncementTemplate template = AnnouncementTemplate.compile(pattern);
+
+        // when
+        String rendered = template.render("페니웨이");
+
+        // then
+        assertTrue(template.isConstant());
+        assertSame(pattern, rendered);
+    }
+
+    @Test
+    @DisplayName("자리가 문자열의 처음과 끝에 있거나 여러 개인 경우, 모든 자리를 같은 값으로 채운다.")
+    public void renderEveryPlaceholder() {
+        // given
+        AnnouncementTemplate template = AnnouncementTemplate.compile("%s님, %s월%s");
+
+        // when
+        String rendered = template.render("1");
+
+        // then
+        assertFalse(template.isConstant());
+        assertEquals("1님, 1월1", rendered);
+    }
+
+    @Test
+    @DisplayName("%s 외의 변환이 포함된 경우 IllegalArgumentException이 발생한다.")
+    public void rejectUnsupportedConversion() {
+        assertThrows(IllegalArgumentException.class, () -> AnnouncementTemplate.compile("%d개의 알림"));
+    }
+}
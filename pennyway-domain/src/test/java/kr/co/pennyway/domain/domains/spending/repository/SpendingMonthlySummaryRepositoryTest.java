@@ -0,0 +1,145 @@
+package kr.co.pennyway.domain.domains.spending.repository;
+
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.TestJpaConfig;
+import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import kr.co.pennyway.domain.domains.user.type.ProfileVisibility;
+import kr.co.pennyway.domain.domains.user.type.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create"})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestJpaConfig.class)
+@ActiveProfiles("test")
+public class SpendingMonthlySummaryRepositoryTest extends ContainerMySqlTestConfig {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpendingRepository spendingRepository;
+    @Autowired
+    private SpendingMonthlySummaryRepository spendingMonthlySummaryRepository;
+
+    @Test
+    @Transactional
+    @DisplayName("같은 년/월의 증감은 하나의 집계 데이터에 누적되어야 한다.")
+    public void increaseAccumulatesSameMonth() {
+        // given
+        User user = userRepository.save(createUser());
+
+        // when
+        spendingMonthlySummaryRepository.increase(user.getId(), 2024, 6, 10000, 1);
+        spendingMonthlySummaryRepository.increase(user.getId(), 2024, 6, Integer.MAX_VALUE, 1);
+        spendingMonthlySummaryRepository.increase(user.getId(), 2024, 5, 3000, 1);
+
+        // then
+        List<TotalSpendingAmount> result = spendingMonthlySummaryRepository.findTotalSpendingAmountsByUserId(user.getId());
+        assertEquals("년/월 개수만큼 조회되어야 한다.", 2, result.size());
+        assertEquals("최신 년/월부터 조회되어야 한다.", 6, result.get(0).month());
+        assertEquals("int 범위를 초과하는 총액도 누적되어야 한다.", 10000L + Integer.MAX_VALUE, result.get(0).totalSpending());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("지출 건수가 0이 된 년/월의 집계 데이터는 조회되지 않아야 한다.")
+    public void emptyMonthIsNotRead() {
+        // given
+        User user = userRepository.save(createUser());
+        spendingMonthlySummaryRepository.increase(user.getId(), 2024, 6, 10000, 1);
+
+        // when
+        spendingMonthlySummaryRepository.increase(user.getId(), 2024, 6, -10000, -1);
+
+        // then
+        assertTrue("집계 데이터가 조회되지 않아야 한다.", spendingMonthlySummaryRepository.findByUserIdAndYearAndMonth(user.getId(), 2024, 6).isEmpty());
+        assertTrue("목록에도 포함되지 않아야 한다.", spendingMonthlySummaryRepository.findTotalSpendingAmountsByUserId(user.getId()).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("지출 내역 일괄 삭제 시, 삭제되지 않은 지출 내역의 금액만 년/월별로 차감되어야 한다.")
+    public void decreaseBySpendingIds() {
+        // given
+        User user = userRepository.save(createUser());
+        Spending june1 = saveSpending(user, 1000, LocalDateTime.of(2024, 6, 1, 0, 0));
+        Spending june2 = saveSpending(user, 2000, LocalDateTime.of(2024, 6, 30, 23, 59));
+        Spending july = saveSpending(user, 4000, LocalDateTime.of(2024, 7, 1, 0, 0));
+        spendingMonthlySummaryRepository.rebuildAll();
+
+        // when
+        List<Long> spendingIds = List.of(june1.getId(), july.getId());
+        spendingMonthlySummaryRepository.decreaseBySpendingIds(spendingIds);
+        spendingRepository.deleteAllByIdAndDeletedAtNullInQuery(spendingIds);
+        spendingMonthlySummaryRepository.decreaseBySpendingIds(spendingIds);
+
+        // then
+        assertEquals("6월의 남은 지출 총액은 2000이어야 한다.", 2000L,
+                spendingMonthlySummaryRepository.findByUserIdAndYearAndMonth(user.getId(), 2024, 6).orElseThrow().getTotalAmount());
+        assertTrue("7월의 집계 데이터는 조회되지 않아야 한다.", spendingMonthlySummaryRepository.findByUserIdAndYearAndMonth(user.getId(), 2024, 7).isEmpty());
+        assertEquals("원본과의 차이가 없어야 한다.", 0L, spendingMonthlySummaryRepository.countDrift());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("원본과 다른 집계 데이터는 drift로 집계되고, 재계산 후에는 drift가 없어야 한다.")
+    public void countDriftAndRebuild() {
+        // given
+        User user = userRepository.save(createUser());
+        saveSpending(user, 1000, LocalDateTime.of(2024, 6, 1, 0, 0));
+        saveSpending(user, 2000, LocalDateTime.of(2024, 7, 1, 0, 0));
+        spendingMonthlySummaryRepository.increase(user.getId(), 2024, 6, 500, 1); // 총액 불일치
+        spendingMonthlySummaryRepository.increase(user.getId(), 2024, 1, 500, 1); // 원본 없음
+        // 2024년 7월 누락
+
+        // when
+        long drift = spendingMonthlySummaryRepository.countDrift();
+        spendingMonthlySummaryRepository.rebuildAll();
+        spendingMonthlySummaryRepository.deleteAllOrphans();
+
+        // then
+        assertEquals("불일치, 원본 없음, 누락이 각각 drift로 집계되어야 한다.", 3L, drift);
+        assertEquals("재계산 후에는 drift가 없어야 한다.", 0L, spendingMonthlySummaryRepository.countDrift());
+        assertEquals("원본이 있는 년/월만 남아야 한다.", 2, spendingMonthlySummaryRepository.findTotalSpendingAmountsByUserId(user.getId()).size());
+    }
+
+    private Spending saveSpending(User user, int amount, LocalDateTime spendAt) {
+        return spendingRepository.save(Spending.builder()
+                .amount(amount)
+                .category(SpendingCategory.FOOD)
+                .spendAt(spendAt)
+                .user(user)
+                .build());
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("test")
+                .name("pennyway")
+                .password("test")
+                .phone("010-1234-5678")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build();
+    }
+}
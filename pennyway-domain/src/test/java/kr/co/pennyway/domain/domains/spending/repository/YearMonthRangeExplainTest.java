@@ -0,0 +1,196 @@
+package kr.co.pennyway.domain.domains.spending.repository;
+
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.TestJpaConfig;
+import kr.co.pennyway.domain.domains.target.repository.TargetAmountRepository;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import kr.co.pennyway.domain.domains.user.type.ProfileVisibility;
+import kr.co.pennyway.domain.domains.user.type.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+/**
+ * 년/월 조건 조회 쿼리가 (user_id, 날짜) 복합 인덱스의 range scan을 사용하는지 EXPLAIN으로 검증한다. <br/>
+ * 실행 계획은 통계 정보에 영향을 받으므로, 트랜잭션 없이 데이터를 커밋하고 ANALYZE TABLE로 통계를 갱신한 후 검증한다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=kr.co.pennyway.domain.domains.spending.repository.YearMonthRangeExplainTest$SqlCapturer"
+})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestJpaConfig.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class YearMonthRangeExplainTest extends ContainerMySqlTestConfig {
+    private static final int USER_COUNT = 20;
+    private static final int SPENDING_PER_USER = 2_000;
+    private static final int TARGET_AMOUNT_PER_USER = 120;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 6, 30, 23, 0, 0);
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpendingRepository spendingRepository;
+    @Autowired
+    private TargetAmountRepository targetAmountRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    public void setUp() {
+        List<User> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; ++i) {
+            users.add(createUser());
+        }
+        users = userRepository.saveAll(users);
+        userId = users.get(USER_COUNT / 2).getId();
+
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (SPENDING_PER_USER + 1));
+        for (User user : users) {
+            jdbcTemplate.update("""
+                    INSERT INTO spending (amount, category, spend_at, user_id, created_at, updated_at)
+                    WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                    SELECT 10000, '1', ? - INTERVAL n HOUR, ?, NOW(), NOW() FROM seq
+                    """, SPENDING_PER_USER, BASE_DATE, user.getId());
+            jdbcTemplate.update("""
+                    INSERT INTO target_amount (amount, is_read, user_id, created_at, updated_at)
+                    WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                    SELECT 100000, true, ?, ? - INTERVAL n MONTH, NOW() FROM seq
+                    """, TARGET_AMOUNT_PER_USER, user.getId(), BASE_DATE);
+        }
+
+        jdbcTemplate.execute("ANALYZE TABLE spending, target_amount");
+        SqlCapturer.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DELETE FROM spending");
+        jdbcTemplate.execute("DELETE FROM target_amount");
+        jdbcTemplate.execute("DELETE FROM user");
+    }
+
+    @Test
+    @DisplayName("월별 지출 내역 조회 쿼리는 spending (user_id, spend_at) 인덱스의 range scan을 사용해야 한다.")
+    public void findByYearAndMonthUsesIndexRange() {
+        // when
+        spendingRepository.findByYearAndMonth(userId, 2024, 6);
+
+        // then
+        assertRangeScan(SqlCapturer.last(), "spending", "idx_spending_user_id_spend_at",
+                userId, LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 7, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("월별 총 지출 금액 조회 쿼리는 spending (user_id, spend_at) 인덱스의 range scan을 사용해야 한다.")
+    public void findTotalSpendingAmountUsesIndexRange() {
+        // when
+        spendingRepository.findTotalSpendingAmountByUserId(userId, 2024, 6);
+
+        // then
+        assertRangeScan(SqlCapturer.last(), "spending", "idx_spending_user_id_spend_at",
+                userId, LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 7, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("당월 목표 금액 조회 쿼리는 target_amount (user_id, created_at) 인덱스의 range scan을 사용해야 한다.")
+    public void findTargetAmountThatMonthUsesIndexRange() {
+        // when
+        targetAmountRepository.findByUserIdThatMonth(userId, LocalDate.of(2024, 6, 15));
+
+        // then
+        assertRangeScan(SqlCapturer.last(), "target_amount", "idx_target_amount_user_id_created_at",
+                userId, LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 7, 1, 0, 0));
+    }
+
+    /**
+     * 캡처한 SQL을 EXPLAIN으로 실행하여, 대상 테이블이 지정한 인덱스로 range scan 되는지 검증한다.
+     *
+     * @param params : SQL의 바인딩 파라미터. SQL에 등장하는 순서와 같아야 한다.
+     */
+    private void assertRangeScan(String sql, String tableName, String indexName, Object... params) {
+        log.info("EXPLAIN {}", sql);
+        assertEquals("바인딩 파라미터 개수가 일치해야 한다.", params.length, (int) sql.chars().filter(c -> c == '?').count());
+
+        Matcher matcher = Pattern.compile("\\b" + tableName + "\\s+(\\w+)").matcher(sql);
+        assertTrue(tableName + " 테이블이 쿼리에 포함되어야 한다.", matcher.find());
+        String alias = matcher.group(1);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+        log.info("plan : {}", plan);
+
+        Map<String, Object> row = plan.stream()
+                .filter(it -> alias.equals(it.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행 계획에 " + tableName + " 테이블이 존재하지 않습니다."));
+
+        assertTrue("full table scan이 발생하면 안 된다.", !"ALL".equals(row.get("type")));
+        assertEquals("복합 인덱스의 range scan을 사용해야 한다.", "range", row.get("type"));
+        assertEquals("복합 인덱스를 사용해야 한다.", indexName, row.get("key"));
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("test")
+                .name("pennyway")
+                .password("test")
+                .phone("010-1234-5678")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build();
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 수집하는 {@link StatementInspector}
+     */
+    public static class SqlCapturer implements StatementInspector {
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        static String last() {
+            return statements.get(statements.size() - 1);
+        }
+
+        static void clear() {
+            statements.clear();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
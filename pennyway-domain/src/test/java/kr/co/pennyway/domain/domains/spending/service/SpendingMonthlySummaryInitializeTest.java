@@ -0,0 +1,176 @@
+package kr.co.pennyway.domain.domains.spending.service;
+
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.TestJpaConfig;
+import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.domain.SpendingMonthlySummary;
+import kr.co.pennyway.domain.domains.spending.repository.SpendingMonthlySummaryRepository;
+import kr.co.pennyway.domain.domains.spending.repository.SpendingRepository;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import kr.co.pennyway.domain.domains.user.type.ProfileVisibility;
+import kr.co.pennyway.domain.domains.user.type.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertFalse;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+/**
+ * 집계 테이블 도입 이전부터 존재하던 지출 내역(집계 데이터가 없는 지출 내역)에 대한 {@link SpendingService}의 집계 데이터 처리를 검증한다.
+ */
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create"})
+@ContextConfiguration(classes = {JpaConfig.class, SpendingService.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestJpaConfig.class)
+@ActiveProfiles("test")
+public class SpendingMonthlySummaryInitializeTest extends ContainerMySqlTestConfig {
+    private static final LocalDate JUNE = LocalDate.of(2024, 6, 1);
+
+    @Autowired
+    private SpendingService spendingService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpendingRepository spendingRepository;
+    @Autowired
+    private SpendingMonthlySummaryRepository spendingMonthlySummaryRepository;
+
+    @Test
+    @Transactional
+    @DisplayName("집계 데이터가 초기화되지 않은 사용자는 지출 내역 원본을 집계하여 조회해야 한다.")
+    public void readFallsBackToSpendingsBeforeInitialize() {
+        // given
+        User user = userRepository.save(createUser());
+        saveLegacySpending(user, 1000, LocalDateTime.of(2024, 6, 1, 0, 0));
+        saveLegacySpending(user, 2000, LocalDateTime.of(2024, 6, 30, 23, 59));
+        saveLegacySpending(user, 4000, LocalDateTime.of(2024, 5, 1, 0, 0));
+
+        // when
+        long total = spendingService.readTotalSpendingAmountByUserId(user.getId(), JUNE).orElseThrow().totalSpending();
+        int months = spendingService.readTotalSpendingsAmountByUserId(user.getId()).size();
+
+        // then
+        assertEquals("6월의 지출 총액은 3000이어야 한다.", 3000L, total);
+        assertEquals("년/월 개수만큼 조회되어야 한다.", 2, months);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("집계 테이블 도입 이전의 지출 내역을 삭제하면, 집계 데이터가 원본으로부터 초기화되어 음수나 일부 금액만 남지 않아야 한다.")
+    public void deleteLegacySpendingInitializesSummary() {
+        // given
+        User user = userRepository.save(createUser());
+        Spending june1 = saveLegacySpending(user, 1000, LocalDateTime.of(2024, 6, 1, 0, 0));
+        saveLegacySpending(user, 2000, LocalDateTime.of(2024, 6, 30, 23, 59));
+        Spending may = saveLegacySpending(user, 4000, LocalDateTime.of(2024, 5, 1, 0, 0));
+
+        // when
+        spendingService.deleteSpending(june1);
+        spendingService.deleteSpending(may);
+
+        // then
+        SpendingMonthlySummary june = spendingMonthlySummaryRepository.findByUserIdAndYearAndMonth(user.getId(), 2024, 6).orElseThrow();
+        assertEquals("6월의 남은 지출 총액은 2000이어야 한다.", 2000L, june.getTotalAmount());
+        assertEquals("6월의 남은 지출 건수는 1이어야 한다.", 1L, june.getSpendingCount());
+        assertTrue("5월의 집계 데이터는 조회되지 않아야 한다.", spendingMonthlySummaryRepository.findByUserIdAndYearAndMonth(user.getId(), 2024, 5).isEmpty());
+        assertEquals("원본과의 차이가 없어야 한다.", 0L, spendingMonthlySummaryRepository.countDrift());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("집계 테이블 도입 이전의 지출 내역을 일괄 삭제해도 원본과의 차이가 없어야 한다.")
+    public void deleteLegacySpendingsInQueryInitializesSummary() {
+        // given
+        User user = userRepository.save(createUser());
+        Spending june1 = saveLegacySpending(user, 1000, LocalDateTime.of(2024, 6, 1, 0, 0));
+        saveLegacySpending(user, 2000, LocalDateTime.of(2024, 6, 30, 23, 59));
+
+        // when
+        spendingService.deleteSpendingsInQuery(List.of(june1.getId()));
+
+        // then
+        assertEquals("6월의 남은 지출 총액은 2000이어야 한다.", 2000L,
+                spendingService.readTotalSpendingAmountByUserId(user.getId(), JUNE).orElseThrow().totalSpending());
+        assertEquals("원본과의 차이가 없어야 한다.", 0L, spendingMonthlySummaryRepository.countDrift());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("초기화 시점에 생성된 지출 내역은 집계 데이터에 한 번만 반영되어야 한다.")
+    public void createSpendingIsCountedOnceOnInitialize() {
+        // given
+        User user = userRepository.save(createUser());
+        saveLegacySpending(user, 1000, LocalDateTime.of(2024, 6, 1, 0, 0));
+
+        // when
+        spendingService.createSpending(createSpending(user, 2000, LocalDateTime.of(2024, 6, 2, 0, 0)));
+        spendingService.createSpending(createSpending(user, 4000, LocalDateTime.of(2024, 6, 3, 0, 0)));
+
+        // then
+        assertEquals("6월의 지출 총액은 7000이어야 한다.", 7000L,
+                spendingMonthlySummaryRepository.findByUserIdAndYearAndMonth(user.getId(), 2024, 6).orElseThrow().getTotalAmount());
+        assertEquals("원본과의 차이가 없어야 한다.", 0L, spendingMonthlySummaryRepository.countDrift());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("초기화 표식은 고아 집계 데이터 삭제 대상이 아니며, 조회 결과에도 포함되지 않아야 한다.")
+    public void markerIsNotOrphanNorRead() {
+        // given
+        User user = userRepository.save(createUser());
+        Spending spending = spendingService.createSpending(createSpending(user, 1000, LocalDateTime.of(2024, 6, 1, 0, 0)));
+        spendingService.deleteSpending(spending);
+
+        // when
+        spendingMonthlySummaryRepository.deleteAllOrphans();
+
+        // then
+        assertTrue("초기화 표식이 남아있어야 한다.", spendingMonthlySummaryRepository.existsByUser_IdAndYearAndMonth(user.getId(), 0, 0));
+        assertTrue("조회 결과가 없어야 한다.", spendingService.readTotalSpendingsAmountByUserId(user.getId()).isEmpty());
+        assertFalse("6월의 집계 데이터는 조회되지 않아야 한다.", spendingService.readTotalSpendingAmountByUserId(user.getId(), JUNE).isPresent());
+    }
+
+    /**
+     * 집계 데이터를 거치지 않고 지출 내역을 저장하여, 집계 테이블 도입 이전의 지출 내역을 재현한다.
+     */
+    private Spending saveLegacySpending(User user, int amount, LocalDateTime spendAt) {
+        return spendingRepository.saveAndFlush(createSpending(user, amount, spendAt));
+    }
+
+    private Spending createSpending(User user, int amount, LocalDateTime spendAt) {
+        return Spending.builder()
+                .amount(amount)
+                .category(SpendingCategory.FOOD)
+                .spendAt(spendAt)
+                .user(user)
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("test")
+                .name("pennyway")
+                .password("test")
+                .phone("010-1234-5678")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build();
+    }
+}
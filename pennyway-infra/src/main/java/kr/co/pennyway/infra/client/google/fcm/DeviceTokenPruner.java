@@ -0,0 +1,18 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+import java.util.List;
+
+/**
+ * FCM이 유효하지 않다고 응답한 디바이스 토큰을 비활성화하는 인터페이스
+ * <p>
+ * infra 모듈은 디바이스 토큰 저장소에 접근할 수 없으므로, FCM 모듈을 사용하는 애플리케이션에서 구현하여 빈으로 등록한다.
+ * 등록된 빈이 없으면 유효하지 않은 토큰을 비활성화하지 않는다.
+ */
+@FunctionalInterface
+public interface DeviceTokenPruner {
+    /**
+     * @param tokens : 비활성화할 디바이스 토큰 목록. 한 번에 최대 {@link InvalidDeviceTokenBuffer}의 flushSize개가 전달된다.
+     * @return 비활성화된 디바이스 토큰 수
+     */
+    int deactivate(List<String> tokens);
+}
@@ -0,0 +1,365 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+import com.google.api.core.ApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pennyway.infra.common.event.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 제목, 내용, 이미지, 알림 유형이 같은 푸시 알림의 디바이스 토큰을 모아 FCM 다중 메시지로 전송하는 dispatcher
+ * <p>
+ * 사용자마다 발행된 {@link NotificationEvent}라도 내용이 같다면 하나의 요청으로 묶인다.
+ * 모인 토큰이 {@link #MAX_TOKENS_PER_REQUEST}개가 되거나, 첫 토큰이 추가된 후 maxDelay가 지나면 전송한다.
+ * 동시에 전송 중인 요청 수는 maxInFlight로 제한되며, 제한에 도달하면 전송을 요청한 스레드가 대기한다.
+ * 대기 중인 토큰은 가상 스레드가 pinning되지 않도록 {@code synchronized} 대신 {@link ReentrantLock}으로 보호한다.
+ * <p>
+ * 전송 결과는 디바이스 토큰 단위로 {@code fcm.send.result} 카운터에, 실패한 토큰은 FCM 오류 코드별로 {@code fcm.send.failure} 카운터에 기록한다.
+ * FCM이 유효하지 않다고 응답한 토큰({@link MessagingErrorCode#UNREGISTERED}, {@link MessagingErrorCode#INVALID_ARGUMENT})은 {@link InvalidDeviceTokenBuffer}로 전달되어 비활성화된다.
+ * 단, 요청의 모든 토큰이 {@link MessagingErrorCode#INVALID_ARGUMENT}로 실패한 경우에는 토큰이 아닌 메시지 내용의 문제로 보고 비활성화하지 않는다.
+ */
+@Slf4j
+public class FcmMulticastDispatcher implements DisposableBean {
+    /**
+     * FCM {@code sendEachForMulticast}가 한 번에 허용하는 최대 토큰 수
+     */
+    public static final int MAX_TOKENS_PER_REQUEST = 500;
+    private static final String SEND_RESULT_METRIC = "fcm.send.result";
+    private static final String SEND_FAILURE_METRIC = "fcm.send.failure";
+    private static final String FLUSH_METRIC = "fcm.dispatcher.flushes";
+    private static final String UNKNOWN_ERROR = "UNKNOWN";
+    private static final Set<String> INVALID_TOKEN_ERRORS = Set.of(MessagingErrorCode.UNREGISTERED.name(), MessagingErrorCode.INVALID_ARGUMENT.name());
+
+    private final FcmManager fcmManager;
+    private final InvalidDeviceTokenBuffer invalidTokenBuffer;
+    private final Executor callbackExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long maxDelayMillis;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService flushScheduler;
+
+    private final Map<Payload, Set<String>> pending = new HashMap<>();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final AtomicInteger pendingTokens = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    private final DistributionSummary batchSize;
+
+    /**
+     * @param callbackExecutor : 전송 결과를 확인하는 executor
+     * @param maxDelay         : 토큰이 전송되기 전까지 대기할 수 있는 최대 시간
+     * @param maxInFlight      : 동시에 전송 중일 수 있는 최대 요청 수
+     */
+    public FcmMulticastDispatcher(FcmManager fcmManager, InvalidDeviceTokenBuffer invalidTokenBuffer, Executor callbackExecutor, MeterRegistry meterRegistry, Duration maxDelay, int maxInFlight) {
+        if (maxDelay.isNegative() || maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxDelay는 0 이상, maxInFlight는 양수여야 합니다.");
+        }
+
+        this.fcmManager = fcmManager;
+        this.invalidTokenBuffer = invalidTokenBuffer;
+        this.callbackExecutor = callbackExecutor;
+        this.meterRegistry = meterRegistry;
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fcm-dispatcher-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.batchSize = DistributionSummary.builder("fcm.dispatcher.batch.size")
+                .description("FCM 요청 하나에 담긴 디바이스 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("fcm.dispatcher.pending.tokens", pendingTokens, AtomicInteger::get)
+                .description("전송을 기다리는 디바이스 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("fcm.dispatcher.in.flight", inFlight, semaphore -> maxInFlight - semaphore.availablePermits())
+                .description("전송 중인 FCM 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림의 디바이스 토큰을 같은 내용의 대기 중인 토큰과 함께 묶는다. <br/>
+     * 묶인 토큰이 {@link #MAX_TOKENS_PER_REQUEST}개에 도달하면 호출한 스레드에서 바로 전송한다.
+     */
+    public void dispatch(NotificationEvent event) {
+        if (event.deviceTokensSize() == 0) {
+            log.info("메시지 전송을 위한 디바이스 토큰이 존재하지 않습니다.");
+            return;
+        }
+
+        Payload payload = Payload.from(event);
+
+        if (closed) {
+            for (int from = 0; from < event.deviceTokensSize(); from += MAX_TOKENS_PER_REQUEST) {
+                send(payload, event.deviceTokens().subList(from, Math.min(from + MAX_TOKENS_PER_REQUEST, event.deviceTokensSize())), "shutdown");
+            }
+            return;
+        }
+
+        List<List<String>> fullBatches = new ArrayList<>();
+
+        pendingLock.lock();
+        try {
+            for (String token : event.deviceTokens()) {
+                Set<String> batch = pending.get(payload);
+
+                if (batch == null) {
+                    batch = new LinkedHashSet<>();
+                    pending.put(payload, batch);
+                    scheduleFlush(payload, batch);
+                }
+
+                if (batch.add(token)) {
+                    pendingTokens.incrementAndGet();
+                }
+
+                if (batch.size() >= MAX_TOKENS_PER_REQUEST) {
+                    fullBatches.add(remove(payload));
+                }
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+
+        for (List<String> tokens : fullBatches) {
+            send(payload, tokens, "size");
+        }
+    }
+
+    /**
+     * 대기 중인 모든 토큰을 즉시 전송한다.
+     */
+    public void flush() {
+        Map<Payload, List<String>> batches = new HashMap<>();
+
+        pendingLock.lock();
+        try {
+            for (Payload payload : new ArrayList<>(pending.keySet())) {
+                batches.put(payload, remove(payload));
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+
+        batches.forEach((payload, tokens) -> send(payload, tokens, "manual"));
+    }
+
+    /**
+     * 대기 중인 토큰을 전송하고, 전송 중인 요청이 끝날 때까지 최대 10초간 기다린다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        closed = true;
+        flushScheduler.shutdown();
+        flush();
+
+        if (inFlight.tryAcquire(maxInFlight, 10, TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        } else {
+            log.warn("종료 전까지 완료되지 않은 FCM 요청이 있습니다. 전송 중인 요청 수 : {}", maxInFlight - inFlight.availablePermits());
+        }
+    }
+
+    private void scheduleFlush(Payload payload, Set<String> batch) {
+        try {
+            flushScheduler.schedule(() -> flushIfPending(payload, batch), maxDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("dispatcher가 종료되어 대기 시간 만료 전송을 예약하지 않습니다. 종료 시 전송됩니다.");
+        }
+    }
+
+    /**
+     * 예약 시점의 batch가 아직 전송되지 않은 경우에만 전송한다.
+     */
+    private void flushIfPending(Payload payload, Set<String> batch) {
+        List<String> tokens;
+
+        pendingLock.lock();
+        try {
+            if (pending.get(payload) != batch) {
+                return;
+            }
+            tokens = remove(payload);
+        } finally {
+            pendingLock.unlock();
+        }
+
+        try {
+            send(payload, tokens, "time");
+        } catch (RuntimeException e) {
+            log.error("대기 시간이 만료된 푸시 알림을 전송하지 못했습니다. payload: {}", payload, e);
+        }
+    }
+
+    private List<String> remove(Payload payload) {
+        Set<String> batch = pending.remove(payload);
+        pendingTokens.addAndGet(-batch.size());
+        return new ArrayList<>(batch);
+    }
+
+    private void send(Payload payload, List<String> tokens, String trigger) {
+        Counter.builder(FLUSH_METRIC)
+                .description("FCM 요청 전송 횟수. trigger는 전송 사유(size: 최대 토큰 수 도달, time: 대기 시간 만료, manual/shutdown: 즉시 전송)이다.")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .increment();
+        batchSize.record(tokens.size());
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("FCM 요청 전송 대기 중 인터럽트가 발생했습니다. payload: {}", payload);
+            recordFailure(payload, UNKNOWN_ERROR, tokens.size());
+            return;
+        }
+
+        ApiFuture<?> response;
+        try {
+            response = fcmManager.sendMessage(payload.toEvent(tokens));
+        } catch (RuntimeException e) {
+            inFlight.release();
+            log.error("FCM 요청을 전송하지 못했습니다. payload: {}", payload, e);
+            recordFailure(payload, UNKNOWN_ERROR, tokens.size());
+            return;
+        }
+
+        if (response == null) {
+            inFlight.release();
+            return;
+        }
+
+        // callback executor가 작업을 거절하더라도 permit은 반드시 반환되어야 하므로, 응답을 받은 스레드에서 바로 반환한다.
+        response.addListener(inFlight::release, Runnable::run);
+        response.addListener(() -> recordResult(payload, tokens, response), callbackExecutor);
+    }
+
+    private void recordResult(Payload payload, List<String> tokens, ApiFuture<?> response) {
+        try {
+            Object result = response.get();
+
+            if (result instanceof BatchResponse batchResponse) {
+                recordBatchResponse(payload, tokens, batchResponse);
+            } else {
+                log.debug("Successfully sent message: {}", result);
+                recordSuccess(payload, 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while sending message: {}", e.getMessage());
+            recordFailure(payload, UNKNOWN_ERROR, tokens.size());
+        } catch (ExecutionException e) {
+            log.error("Failed to send message: {}", e.getMessage());
+            String errorCode = errorCodeOf(e.getCause());
+            recordFailure(payload, errorCode, tokens.size());
+
+            // 단일 메시지는 요청의 모든 토큰이 실패한 경우이므로, INVALID_ARGUMENT는 비활성화 대상이 아니다.
+            if (MessagingErrorCode.UNREGISTERED.name().equals(errorCode)) {
+                tokens.forEach(token -> invalidTokenBuffer.add(token, errorCode));
+            }
+        }
+    }
+
+    /**
+     * {@link BatchResponse#getResponses()}는 요청한 토큰과 같은 순서로 반환되므로, 인덱스로 토큰별 결과를 확인한다.
+     */
+    private void recordBatchResponse(Payload payload, List<String> tokens, BatchResponse batchResponse) {
+        log.info("Successfully sent multicast message - success: {}, failure: {}", batchResponse.getSuccessCount(), batchResponse.getFailureCount());
+        recordSuccess(payload, batchResponse.getSuccessCount());
+
+        if (batchResponse.getFailureCount() == 0) {
+            return;
+        }
+
+        Map<String, Integer> failures = new HashMap<>();
+        Map<String, String> invalidTokens = new LinkedHashMap<>();
+        List<SendResponse> responses = batchResponse.getResponses();
+
+        for (int i = 0; i < responses.size(); ++i) {
+            SendResponse sendResponse = responses.get(i);
+
+            if (!sendResponse.isSuccessful()) {
+                String errorCode = errorCodeOf(sendResponse.getException());
+                log.debug("Failed to send message to token: {}, error: {}", tokens.get(i), errorCode);
+                failures.merge(errorCode, 1, Integer::sum);
+
+                if (INVALID_TOKEN_ERRORS.contains(errorCode)) {
+                    invalidTokens.put(tokens.get(i), errorCode);
+                }
+            }
+        }
+
+        failures.forEach((errorCode, count) -> recordFailure(payload, errorCode, count));
+
+        boolean payloadRejected = failures.getOrDefault(MessagingErrorCode.INVALID_ARGUMENT.name(), 0) == responses.size();
+        invalidTokens.forEach((token, errorCode) -> {
+            if (!payloadRejected || !MessagingErrorCode.INVALID_ARGUMENT.name().equals(errorCode)) {
+                invalidTokenBuffer.add(token, errorCode);
+            }
+        });
+    }
+
+    private String errorCodeOf(Throwable throwable) {
+        if (throwable instanceof FirebaseMessagingException exception) {
+            MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+            return (errorCode != null) ? errorCode.name() : UNKNOWN_ERROR;
+        }
+        return UNKNOWN_ERROR;
+    }
+
+    private void recordSuccess(Payload payload, int amount) {
+        increment(SEND_RESULT_METRIC, "FCM 푸시 알림 전송 결과 (디바이스 토큰 단위)", payload, amount, "result", "success");
+    }
+
+    private void recordFailure(Payload payload, String errorCode, int amount) {
+        increment(SEND_RESULT_METRIC, "FCM 푸시 알림 전송 결과 (디바이스 토큰 단위)", payload, amount, "result", "failure");
+        increment(SEND_FAILURE_METRIC, "FCM 오류 코드별 전송에 실패한 디바이스 토큰 수", payload, amount, "error", errorCode);
+    }
+
+    private void increment(String name, String description, Payload payload, int amount, String tagKey, String tagValue) {
+        if (amount <= 0) {
+            return;
+        }
+
+        Counter.builder(name)
+                .description(description)
+                .tag("announcement", payload.announcementTag())
+                .tag(tagKey, tagValue)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    /**
+     * 같은 FCM 요청으로 묶을 수 있는 알림의 내용
+     */
+    private record Payload(String title, String content, String imageUrl, String announcement) {
+        static Payload from(NotificationEvent event) {
+            return new Payload(event.title(), event.content(), event.imageUrl(), event.announcement());
+        }
+
+        NotificationEvent toEvent(List<String> deviceTokens) {
+            return NotificationEvent.of(title, content, deviceTokens, imageUrl, announcement);
+        }
+
+        String announcementTag() {
+            return StringUtils.hasText(announcement) ? announcement : NotificationEvent.UNKNOWN_ANNOUNCEMENT;
+        }
+    }
+}
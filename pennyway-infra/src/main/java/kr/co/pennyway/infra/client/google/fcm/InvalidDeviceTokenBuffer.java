@@ -0,0 +1,135 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FCM이 유효하지 않다고 응답한 디바이스 토큰을 모아 {@link DeviceTokenPruner}로 한 번에 비활성화하는 버퍼
+ * <p>
+ * 모인 토큰이 flushSize개가 되거나 flushInterval이 지나면, 최대 flushSize개씩 나누어 비활성화한다.
+ * 비활성화에 실패한 토큰은 버퍼에 다시 넣어 다음 flush에서 재시도한다.
+ * <p>
+ * flush는 DB I/O를 수행하므로, 가상 스레드가 carrier 스레드에 고정(pinning)되지 않도록 {@code synchronized} 대신 {@link ReentrantLock}으로 직렬화한다.
+ * <p>
+ * 보고된 토큰 수는 {@code fcm.device.token.invalid}, 실제로 비활성화된 토큰 수는 {@code fcm.device.token.pruned} 카운터에 기록한다.
+ */
+@Slf4j
+public class InvalidDeviceTokenBuffer implements DisposableBean {
+    private final DeviceTokenPruner pruner;
+    private final MeterRegistry meterRegistry;
+    private final int flushSize;
+    private final ScheduledExecutorService flushScheduler;
+
+    private final Set<String> buffer = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong prunedCount = new AtomicLong();
+    private final Counter pruned;
+
+    public InvalidDeviceTokenBuffer(DeviceTokenPruner pruner, MeterRegistry meterRegistry, int flushSize, Duration flushInterval) {
+        if (flushSize <= 0 || flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("flushSize, flushInterval은 양수여야 합니다.");
+        }
+
+        this.pruner = pruner;
+        this.meterRegistry = meterRegistry;
+        this.flushSize = flushSize;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fcm-token-prune");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pruned = Counter.builder("fcm.device.token.pruned")
+                .description("FCM 응답에 따라 비활성화된 디바이스 토큰 수")
+                .register(meterRegistry);
+
+        flushScheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 비활성화할 토큰을 추가한다. 버퍼가 가득 차면 별도의 스레드에서 비활성화한다.
+     *
+     * @param errorCode : FCM이 응답한 오류 코드
+     */
+    public void add(String token, String errorCode) {
+        Counter.builder("fcm.device.token.invalid")
+                .description("FCM이 유효하지 않다고 응답한 디바이스 토큰 수")
+                .tag("error", errorCode)
+                .register(meterRegistry)
+                .increment();
+
+        if (buffer.add(token) && buffer.size() >= flushSize) {
+            try {
+                flushScheduler.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                log.debug("버퍼가 종료되어 디바이스 토큰 비활성화를 예약하지 않습니다.");
+            }
+        }
+    }
+
+    /**
+     * 버퍼의 모든 토큰을 비활성화한다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (!buffer.isEmpty()) {
+                List<String> tokens = drain();
+
+                try {
+                    int count = pruner.deactivate(tokens);
+                    prunedCount.addAndGet(count);
+                    pruned.increment(count);
+                    log.info("유효하지 않은 디바이스 토큰을 비활성화했습니다. 요청: {}, 비활성화: {}", tokens.size(), count);
+                } catch (RuntimeException e) {
+                    buffer.addAll(tokens);
+                    throw e;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션이 시작된 후 비활성화된 디바이스 토큰의 누적 수
+     */
+    public long prunedCount() {
+        return prunedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        flushScheduler.shutdown();
+        flushQuietly();
+    }
+
+    private List<String> drain() {
+        List<String> tokens = new ArrayList<>(flushSize);
+        Iterator<String> iterator = buffer.iterator();
+
+        while (iterator.hasNext() && tokens.size() < flushSize) {
+            tokens.add(iterator.next());
+            iterator.remove();
+        }
+        return tokens;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("유효하지 않은 디바이스 토큰을 비활성화하지 못했습니다. 다음 flush에서 재시도합니다. 대기 중인 토큰 수: {}", buffer.size(), e);
+        }
+    }
+}
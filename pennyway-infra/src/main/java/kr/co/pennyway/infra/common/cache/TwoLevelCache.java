@@ -0,0 +1,194 @@
+package kr.co.pennyway.infra.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 캐시(L1)를 Redis 캐시(L2) 앞에 두는 2단계 캐시 <br/>
+ * 조회는 L1 → L2 순서로 수행하며, L2에서 조회된 값은 L1에 적재한다.
+ * 삭제는 L2와 L1에서 모두 제거한 후, {@link TwoLevelCacheManager}를 통해 다른 서버에 L1 삭제를 전파한다.
+ * <p>
+ * {@code put}은 다른 서버의 L1에 전파되지 않으므로, 원본 데이터를 변경하는 쪽은 반드시 {@code @CacheEvict}로 캐시를 무효화해야 한다.
+ * 삭제 전파와 동시에 다른 서버가 L2의 이전 값을 읽는 경우를 대비하여, L1의 TTL은 L2보다 짧게 유지한다.
+ * <p>
+ * L1의 key는 L2(RedisCache)와 동일하게 문자열로 변환하여 사용한다. 따라서 {@code "1"}과 {@code 1L}은 같은 key로 취급된다.
+ */
+public class TwoLevelCache implements Cache {
+    private static final String METRIC_NAME = "cache.two.level.gets";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final TwoLevelCacheManager cacheManager;
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter remoteHit;
+    private final Counter remoteMiss;
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache, Cache remoteCache, TwoLevelCacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+
+        this.localHit = counter(meterRegistry, "l1", "hit");
+        this.localMiss = counter(meterRegistry, "l1", "miss");
+        this.remoteHit = counter(meterRegistry, "l2", "hit");
+        this.remoteMiss = counter(meterRegistry, "l2", "miss");
+
+        registerHitRatio(meterRegistry, "l1", localHit, localMiss);
+        registerHitRatio(meterRegistry, "l2", remoteHit, remoteMiss);
+        Gauge.builder("cache.two.level.l1.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .description("2단계 캐시의 로컬 캐시(L1) 크기")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(@NonNull Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+
+        if (value != null) {
+            localHit.increment();
+            return new SimpleValueWrapper(value);
+        }
+        localMiss.increment();
+
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMiss.increment();
+            return wrapper;
+        }
+        remoteHit.increment();
+
+        localCache.put(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper != null) ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = remoteCache.get(key, valueLoader);
+        if (value != null) {
+            localCache.put(toLocalKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        remoteCache.put(key, value);
+
+        if (value != null) {
+            localCache.put(toLocalKey(key), value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        Object current = (existing != null) ? existing.get() : value;
+
+        if (current != null) {
+            localCache.put(toLocalKey(key), current);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        remoteCache.evict(key);
+        evictLocal(toLocalKey(key));
+        cacheManager.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        evictLocal(toLocalKey(key));
+        cacheManager.publishEvict(name, toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearLocal();
+        cacheManager.publishClear(name);
+    }
+
+    /**
+     * 다른 서버로부터 삭제 메시지를 수신한 경우, L1에서만 값을 제거한다.
+     */
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("2단계 캐시의 단계별 조회 결과 수")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단계별 적중률을 등록한다. L2의 적중률은 L1에서 miss가 발생한 조회만을 대상으로 한다.
+     */
+    private void registerHitRatio(MeterRegistry meterRegistry, String level, Counter hit, Counter miss) {
+        Gauge.builder("cache.two.level.hit.ratio", () -> {
+                    double total = hit.count() + miss.count();
+                    return (total == 0) ? 0 : hit.count() / total;
+                })
+                .description("2단계 캐시의 단계별 적중률")
+                .tag("cache", name)
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,122 @@
+package kr.co.pennyway.infra.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 기반 {@link CacheManager} 앞에 로컬 캐시를 두는 {@link TwoLevelCache}를 생성하는 CacheManager
+ * <p>
+ * 캐시 삭제는 {@link #INVALIDATION_CHANNEL} 채널로 발행되며, 다른 서버는 메시지를 수신하여 자신의 로컬 캐시에서 값을 제거한다.
+ * 이를 위해 CacheManager를 {@link org.springframework.data.redis.listener.RedisMessageListenerContainer}에 리스너로 등록해야 한다.
+ * <p>
+ * 트랜잭션 안에서 수행된 캐시 삭제는 커밋 이후에 반영되어, 커밋 전의 값이 다시 캐시에 적재되지 않도록 한다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration localTtl;
+    private final long localMaximumSize;
+
+    /**
+     * @param localTtl         : 로컬 캐시의 TTL. 삭제 전파가 유실되더라도 값이 이 시간 이상 유지되지 않도록, Redis 캐시의 TTL보다 짧아야 한다.
+     * @param localMaximumSize : 캐시별 로컬 캐시의 최대 개수
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Duration localTtl, long localMaximumSize) {
+        this.remoteCacheManager = Objects.requireNonNull(remoteCacheManager);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.localTtl = Objects.requireNonNull(localTtl);
+        this.localMaximumSize = localMaximumSize;
+        setTransactionAware(true);
+    }
+
+    @Override
+    @NonNull
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(@NonNull String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, key -> new TwoLevelCache(
+                key,
+                Caffeine.newBuilder().expireAfterWrite(localTtl).maximumSize(localMaximumSize).build(),
+                remoteCache,
+                this,
+                meterRegistry
+        ));
+    }
+
+    /**
+     * 다른 서버로부터 캐시 삭제 메시지를 수신하여, 로컬 캐시에서 값을 제거한다. <br/>
+     * 자신이 발행한 메시지는 이미 로컬 캐시에 반영되었으므로 무시한다.
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER, 3);
+
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (parts.length == 3) {
+            cache.evictLocal(parts[2]);
+        } else {
+            cache.clearLocal();
+        }
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(String.join(DELIMITER, nodeId, cacheName, key));
+    }
+
+    void publishClear(String cacheName) {
+        publish(String.join(DELIMITER, nodeId, cacheName));
+    }
+
+    /**
+     * 삭제 전파에 실패하더라도 로컬 캐시는 TTL이 지나면 만료되므로, 예외를 전파하지 않고 로그만 남긴다.
+     */
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("캐시 삭제 메시지 발행에 실패했습니다. message: {}", message, e);
+        }
+    }
+}
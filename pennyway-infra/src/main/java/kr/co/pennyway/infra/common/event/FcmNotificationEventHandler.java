@@ -1,39 +1,28 @@
 package kr.co.pennyway.infra.common.event;
 
-import com.google.api.core.ApiFuture;
-import kr.co.pennyway.infra.client.google.fcm.FcmManager;
+import kr.co.pennyway.infra.client.google.fcm.FcmMulticastDispatcher;
+import kr.co.pennyway.infra.config.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.concurrent.Executors;
-
 /**
  * FCM 푸시 알림을 처리하는 핸들러
+ * <p>
+ * 알림은 바로 전송하지 않고 {@link FcmMulticastDispatcher}에 전달되어, 내용이 같은 다른 알림과 하나의 다중 메시지로 묶여 전송된다.
+ * 전송 결과는 dispatcher가 {@code fcm.send.result} 카운터에 기록한다.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class FcmNotificationEventHandler implements NotificationEventHandler {
-    private final FcmManager fcmManager;
+    private final FcmMulticastDispatcher dispatcher;
 
-    @Async
+    @Async(AsyncConfig.PUSH_TASK_EXECUTOR)
     @Override
     @TransactionalEventListener
     public void handleEvent(NotificationEvent event) {
         log.debug("handleEvent: {}", event);
-        ApiFuture<?> response = fcmManager.sendMessage(event);
-
-        if (response == null) {
-            return;
-        }
-
-        response.addListener(() -> {
-            try {
-                log.info("Successfully sent message: " + response.get());
-            } catch (Exception e) {
-                log.error("Failed to send message: " + e.getMessage());
-            }
-        }, Executors.newCachedThreadPool()); // FIXME: 알림이 매우 많은 경우 out of memory 발생 가능성 있음 (Thread pool size 제한 필요)
+        dispatcher.dispatch(event);
     }
 }
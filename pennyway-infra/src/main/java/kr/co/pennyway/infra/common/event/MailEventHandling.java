@@ -1,6 +1,7 @@
 package kr.co.pennyway.infra.common.event;
 
 import kr.co.pennyway.infra.client.google.mail.GoogleMailSender;
+import kr.co.pennyway.infra.config.AsyncConfig;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -22,7 +23,7 @@ public class MailEventHandling {
      * @param event {@link MailEvent}
      */
     @TransactionalEventListener
-    @Async
+    @Async(AsyncConfig.MAIL_TASK_EXECUTOR)
     public void handleMailEvent(MailEvent event) {
         log.info("문의 메일 전송 이벤트 발생: {}", event);
         googleMailSender.sendMail(event.email(), event.content(), event.category());
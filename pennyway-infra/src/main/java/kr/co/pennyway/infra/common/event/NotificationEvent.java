@@ -10,14 +10,18 @@ import java.util.List;
 /**
  * FCM 푸시 알림에 필요한 정보를 담은 Event 클래스
  * <p>
- * 제목, 내용, 디바이스 토큰 리스트, 푸시 알림 이미지를 필드로 갖는다.
+ * 제목, 내용, 디바이스 토큰 리스트, 푸시 알림 이미지, 알림 유형을 필드로 갖는다.
+ * 알림 유형은 전송 결과 메트릭의 태그로만 사용되며, 지정하지 않으면 {@link #UNKNOWN_ANNOUNCEMENT}로 기록된다.
  */
 public record NotificationEvent(
         String title,
         String content,
         List<String> deviceTokens,
-        String imageUrl
+        String imageUrl,
+        String announcement
 ) {
+    public static final String UNKNOWN_ANNOUNCEMENT = "UNKNOWN";
+
     public NotificationEvent {
         if (!StringUtils.hasText(title)) {
             throw new IllegalArgumentException("제목은 반드시 null 혹은 공백이 아니어야 합니다.");
@@ -31,7 +35,18 @@ public record NotificationEvent(
     }
 
     public static NotificationEvent of(String title, String content, List<String> deviceTokens, String imageUrl) {
-        return new NotificationEvent(title, content, deviceTokens, imageUrl);
+        return new NotificationEvent(title, content, deviceTokens, imageUrl, null);
+    }
+
+    public static NotificationEvent of(String title, String content, List<String> deviceTokens, String imageUrl, String announcement) {
+        return new NotificationEvent(title, content, deviceTokens, imageUrl, announcement);
+    }
+
+    /**
+     * 메트릭 태그로 사용할 알림 유형을 반환한다.
+     */
+    public String announcementTag() {
+        return StringUtils.hasText(announcement) ? announcement : UNKNOWN_ANNOUNCEMENT;
     }
 
     public int deviceTokensSize() {
@@ -16,7 +16,7 @@ public class PushCodeEventHandling {
     /**
      * 사용자의 전화번호로 인증코드를 발신합니다.
      * <br/>
-     * {@link EventListener}를 통해 이벤트를 받아서 SMS 메시지를 전송합니다.
+     * {@link EventListener}를 통해 이벤트를 받아서 SMS 메시지를 전송합니다. 전송은 이벤트를 발행한 스레드에서 동기로 수행되므로, 전송에 실패하면 예외가 발행자에게 전파됩니다.
      *
      * @param event {@link PushCodeEvent}
      */
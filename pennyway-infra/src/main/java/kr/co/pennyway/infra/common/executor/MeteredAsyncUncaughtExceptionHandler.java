@@ -0,0 +1,36 @@
+package kr.co.pennyway.infra.common.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.lang.NonNull;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * 반환 타입이 void인 {@link org.springframework.scheduling.annotation.Async} 메서드에서 발생한 예외를 처리하는 핸들러 <br/>
+ * 예외를 로그로 남기고, 메서드와 예외 타입별로 {@code async.uncaught.exception} 카운터를 증가시킨다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MeteredAsyncUncaughtExceptionHandler implements AsyncUncaughtExceptionHandler {
+    private static final String METRIC_NAME = "async.uncaught.exception";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void handleUncaughtException(@NonNull Throwable ex, @NonNull Method method, @NonNull Object... params) {
+        String methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        log.error("비동기 작업 처리 중 예외가 발생했습니다. method: {}, params: {}", methodName, Arrays.toString(params), ex);
+
+        Counter.builder(METRIC_NAME)
+                .description("@Async 메서드에서 처리되지 않은 예외 수")
+                .tag("method", methodName)
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+}
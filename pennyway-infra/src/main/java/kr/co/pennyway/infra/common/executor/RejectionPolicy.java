@@ -0,0 +1,64 @@
+package kr.co.pennyway.infra.common.executor;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * 스레드 풀의 대기열이 가득 찬 경우 새로 제출된 작업을 처리하는 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RejectionPolicy {
+    /**
+     * 작업을 제출한 스레드에서 직접 실행한다. 제출하는 쪽의 속도를 늦추는 back-pressure 역할을 한다.
+     */
+    CALLER_RUNS(ThreadPoolExecutor.CallerRunsPolicy::new),
+    /**
+     * {@link java.util.concurrent.RejectedExecutionException}을 던진다.
+     */
+    ABORT(ThreadPoolExecutor.AbortPolicy::new),
+    /**
+     * 새로 제출된 작업을 버린다.
+     */
+    DISCARD(ThreadPoolExecutor.DiscardPolicy::new),
+    /**
+     * 대기열에서 가장 오래된 작업을 버리고 새로 제출된 작업을 대기열에 넣는다.
+     */
+    DISCARD_OLDEST(ThreadPoolExecutor.DiscardOldestPolicy::new);
+
+    private final Supplier<RejectedExecutionHandler> handlerSupplier;
+
+    /**
+     * "caller-runs", "CALLER_RUNS"와 같은 설정 값을 {@link RejectionPolicy}로 변환한다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static RejectionPolicy from(String value) {
+        try {
+            return RejectionPolicy.valueOf(value.trim().replace('-', '_').toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 rejection-policy 입니다: " + value);
+        }
+    }
+
+    public RejectedExecutionHandler createHandler() {
+        return handlerSupplier.get();
+    }
+
+    /**
+     * 거절된 작업 수를 rejected에 기록한 후, 이 정책으로 처리하는 handler를 생성한다.
+     */
+    public RejectedExecutionHandler createHandler(Counter rejected) {
+        RejectedExecutionHandler delegate = createHandler();
+
+        return (task, pool) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+}
@@ -36,6 +36,16 @@ public interface JwtProvider {
      */
     JwtClaims getJwtClaimsFromToken(String token);
 
+    /**
+     * 토큰의 서명을 한 번만 검증하여, payload와 만료일을 함께 반환하는 메서드 <br/>
+     * 같은 토큰에 대해 {@link #isTokenExpired(String)}, {@link #getJwtClaimsFromToken(String)}, {@link #getExpiryDate(String)}를 연달아 호출하는 대신 사용한다.
+     *
+     * @param token String : 토큰
+     * @return {@link VerifiedJwt} : 검증된 토큰 정보
+     * @throws kr.co.pennyway.infra.common.exception.JwtErrorException : 토큰이 만료되었거나(EXPIRED_TOKEN) 유효하지 않은 경우
+     */
+    VerifiedJwt verify(String token);
+
     /**
      * 토큰의 만료일을 추출하는 메서드
      *
@@ -0,0 +1,29 @@
+package kr.co.pennyway.infra.common.jwt;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 서명 검증을 마친 토큰의 payload와 만료일 <br/>
+ * 요청마다 같은 토큰을 다시 검증하지 않도록, 인증 필터에서 검증한 결과를 {@link #REQUEST_ATTRIBUTE} 요청 속성으로 전달한다.
+ *
+ * @param token     : 검증한 토큰
+ * @param claims    : 토큰 payload
+ * @param expiresAt : 토큰 만료일
+ */
+public record VerifiedJwt(String token, JwtClaims claims, LocalDateTime expiresAt) {
+    public static final String REQUEST_ATTRIBUTE = VerifiedJwt.class.getName();
+
+    public VerifiedJwt {
+        Objects.requireNonNull(token, "token은 null이 될 수 없습니다.");
+        Objects.requireNonNull(claims, "claims는 null이 될 수 없습니다.");
+        Objects.requireNonNull(expiresAt, "expiresAt은 null이 될 수 없습니다.");
+    }
+
+    @Override
+    public String toString() {
+        return "VerifiedJwt{" +
+                "claims=" + claims.getClaims() +
+                ", expiresAt=" + expiresAt + "}";
+    }
+}
@@ -0,0 +1,33 @@
+package kr.co.pennyway.infra.common.properties;
+
+import kr.co.pennyway.infra.common.executor.RejectionPolicy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 이벤트 유형별 {@link org.springframework.scheduling.annotation.Async} executor 설정
+ * <p>
+ * virtualThreads가 true인 경우, 각 executor는 스레드 풀 대신 가상 스레드를 사용하며 maxPoolSize를 동시 실행 수 제한으로 사용한다.
+ * 가상 스레드는 JDK 21 이상에서만 사용할 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.async")
+public class AsyncExecutorProperties {
+    private final boolean virtualThreads;
+    private final Pool push;
+    private final Pool mail;
+
+    public record Pool(
+            @DefaultValue("2") int corePoolSize,
+            @DefaultValue("4") int maxPoolSize,
+            @DefaultValue("100") int queueCapacity,
+            @DefaultValue("caller-runs") String rejectionPolicy
+    ) {
+        public RejectionPolicy getRejectionPolicy() {
+            return RejectionPolicy.from(rejectionPolicy);
+        }
+    }
+}
@@ -1,7 +1,125 @@
 package kr.co.pennyway.infra.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import kr.co.pennyway.infra.common.executor.MeteredAsyncUncaughtExceptionHandler;
+import kr.co.pennyway.infra.common.properties.AsyncExecutorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link org.springframework.scheduling.annotation.Async} 메서드를 실행하는 executor 설정
+ * <p>
+ * 푸시 알림과 메일 전송은 각각 독립된 executor에서 실행되므로, 한 종류의 이벤트가 몰려도 다른 종류의 이벤트 처리가 지연되지 않는다.
+ * SMS 인증코드 전송은 전송 실패를 요청자에게 응답해야 하므로 비동기로 실행하지 않는다.
+ * executor를 명시하지 않은 {@code @Async} 메서드는 push executor에서 실행된다.
+ */
+@Slf4j
+@Configuration
 @EnableAsync
-public class AsyncConfig {
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+public class AsyncConfig implements AsyncConfigurer {
+    public static final String PUSH_TASK_EXECUTOR = "pushTaskExecutor";
+    public static final String MAIL_TASK_EXECUTOR = "mailTaskExecutor";
+
+    private static final AsyncExecutorProperties.Pool DEFAULT_POOL = new AsyncExecutorProperties.Pool(2, 4, 100, "caller-runs");
+
+    private final AsyncExecutorProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public AsyncConfig(AsyncExecutorProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.properties = properties;
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Bean(name = PUSH_TASK_EXECUTOR)
+    public AsyncTaskExecutor pushTaskExecutor() {
+        return createExecutor("push", properties.getPush());
+    }
+
+    @Bean(name = MAIL_TASK_EXECUTOR)
+    public AsyncTaskExecutor mailTaskExecutor() {
+        return createExecutor("mail", properties.getMail());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return pushTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return new MeteredAsyncUncaughtExceptionHandler(meterRegistry());
+    }
+
+    private AsyncTaskExecutor createExecutor(String name, AsyncExecutorProperties.Pool pool) {
+        pool = Objects.requireNonNullElse(pool, DEFAULT_POOL);
+
+        if (properties.isVirtualThreads() && Runtime.version().feature() < 21) {
+            log.warn("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다. {} executor는 스레드 풀을 사용합니다.", name);
+        } else if (properties.isVirtualThreads()) {
+            log.info("{} executor는 가상 스레드를 사용합니다. (동시 실행 제한: {})", name, pool.maxPoolSize());
+            return createVirtualThreadExecutor(name, pool);
+        }
+
+        return createThreadPoolExecutor(name, pool);
+    }
+
+    /**
+     * 가상 스레드 executor는 대기열 없이 작업마다 가상 스레드를 생성하므로, 동시 실행 수 제한(concurrency limit)으로 back-pressure를 건다.
+     * 제한에 도달하면 작업을 제출한 스레드가 대기한다.
+     */
+    private AsyncTaskExecutor createVirtualThreadExecutor(String name, AsyncExecutorProperties.Pool pool) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-vt-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(pool.maxPoolSize());
+        executor.setTaskTerminationTimeout(10_000);
+
+        return executor;
+    }
+
+    private AsyncTaskExecutor createThreadPoolExecutor(String name, AsyncExecutorProperties.Pool pool) {
+        MeterRegistry meterRegistry = meterRegistry();
+        Counter rejected = Counter.builder("async.executor.rejected")
+                .description("대기열이 가득 차 거절된 비동기 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.corePoolSize());
+        executor.setMaxPoolSize(pool.maxPoolSize());
+        executor.setQueueCapacity(pool.queueCapacity());
+        executor.setThreadNamePrefix(name + "-async-");
+        executor.setRejectedExecutionHandler(pool.getRejectionPolicy().createHandler(rejected));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Gauge.builder("async.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("비동기 executor의 대기열 크기")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("비동기 executor의 활성 스레드 수")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    private MeterRegistry meterRegistry() {
+        return meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
 }
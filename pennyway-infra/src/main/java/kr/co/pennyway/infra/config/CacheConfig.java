@@ -1,8 +1,12 @@
 package kr.co.pennyway.infra.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import kr.co.pennyway.infra.common.annotation.InfraRedisConnectionFactory;
 import kr.co.pennyway.infra.common.annotation.OidcCacheManager;
 import kr.co.pennyway.infra.common.annotation.SecurityUserCacheManager;
+import kr.co.pennyway.infra.common.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -16,6 +20,9 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -32,6 +39,8 @@ public class CacheConfig {
 
     private final long defaultCacheTtlSec = 60;
     private final long securityUserCacheTtlSec = 30;
+    private final long securityUserLocalCacheTtlSec = 5;
+    private final long securityUserLocalCacheMaximumSize = 10_000;
     private final long oidcCacheTtlDay = 3;
 
     public CacheConfig(
@@ -77,9 +86,16 @@ public class CacheConfig {
                 .build();
     }
 
+    /**
+     * 인증된 모든 요청에서 조회되는 사용자 정보를 캐싱하는 CacheManager <br/>
+     * Redis 왕복과 역직렬화 비용을 줄이기 위해 로컬 캐시를 Redis 캐시 앞에 두며, 캐시 삭제는 다른 서버의 로컬 캐시에도 전파된다.
+     */
     @Bean
     @SecurityUserCacheManager
-    public CacheManager securityUserCacheManager(@InfraRedisConnectionFactory RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager securityUserCacheManager(
+            @InfraRedisConnectionFactory RedisConnectionFactory redisConnectionFactory,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues()
                 .computePrefixWith(CacheKeyPrefix.simple())
@@ -92,11 +108,35 @@ public class CacheConfig {
                 .entryTtl(Duration.ofSeconds(securityUserCacheTtlSec));
         Map<String, RedisCacheConfiguration> redisCacheConfigurationMap = Map.of("securityConfig", config);
 
-        return RedisCacheManager.RedisCacheManagerBuilder
+        RedisCacheManager remoteCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(config)
                 .withInitialCacheConfigurations(redisCacheConfigurationMap)
                 .build();
+        remoteCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(
+                remoteCacheManager,
+                new StringRedisTemplate(redisConnectionFactory),
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry),
+                Duration.ofSeconds(securityUserLocalCacheTtlSec),
+                securityUserLocalCacheMaximumSize
+        );
+    }
+
+    /**
+     * {@link TwoLevelCacheManager}의 캐시 삭제 메시지를 수신하는 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            @InfraRedisConnectionFactory RedisConnectionFactory redisConnectionFactory,
+            @SecurityUserCacheManager TwoLevelCacheManager securityUserCacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(securityUserCacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+
+        return container;
     }
 
     @Bean
@@ -4,22 +4,37 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.annotation.PostConstruct;
+import kr.co.pennyway.infra.client.google.fcm.DeviceTokenPruner;
 import kr.co.pennyway.infra.client.google.fcm.FcmManager;
+import kr.co.pennyway.infra.client.google.fcm.FcmMulticastDispatcher;
+import kr.co.pennyway.infra.client.google.fcm.InvalidDeviceTokenBuffer;
 import kr.co.pennyway.infra.common.event.FcmNotificationEventHandler;
 import kr.co.pennyway.infra.common.event.NotificationEventHandler;
+import kr.co.pennyway.infra.common.executor.RejectionPolicy;
 import kr.co.pennyway.infra.common.importer.PennywayInfraConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Profile({"local", "dev", "prod"})
 public class FcmConfig implements PennywayInfraConfig {
+    public static final String FCM_CALLBACK_EXECUTOR = "fcmCallbackExecutor";
+
     private final ClassPathResource firebaseResource;
     private final String projectId;
 
@@ -51,8 +66,79 @@ public class FcmConfig implements PennywayInfraConfig {
         return new FcmManager(firebaseMessaging);
     }
 
+    /**
+     * FCM 전송 결과(ApiFuture)의 callback을 처리하는 공용 executor <br/>
+     * 스레드 수와 대기열 크기가 제한되어 있으며, 대기열이 가득 찬 경우 {@code app.firebase.callback-executor.rejection-policy}({@link RejectionPolicy})에 따라 처리한다.
+     * 대기열 크기, 활성 스레드 수, 거절된 작업 수를 메트릭으로 노출한다.
+     */
+    @Bean(name = FCM_CALLBACK_EXECUTOR)
+    ThreadPoolTaskExecutor fcmCallbackExecutor(
+            @Value("${app.firebase.callback-executor.core-pool-size:2}") int corePoolSize,
+            @Value("${app.firebase.callback-executor.max-pool-size:4}") int maxPoolSize,
+            @Value("${app.firebase.callback-executor.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.firebase.callback-executor.rejection-policy:caller-runs}") String rejectionPolicy,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        Counter rejected = Counter.builder("fcm.callback.executor.rejected")
+                .description("대기열이 가득 차 거절된 FCM callback 수")
+                .register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("fcm-callback-");
+        executor.setRejectedExecutionHandler(RejectionPolicy.from(rejectionPolicy).createHandler(rejected));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Gauge.builder("fcm.callback.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("FCM callback executor의 대기열 크기")
+                .register(meterRegistry);
+        Gauge.builder("fcm.callback.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("FCM callback executor의 활성 스레드 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * 내용이 같은 푸시 알림을 최대 {@link FcmMulticastDispatcher#MAX_TOKENS_PER_REQUEST}개의 토큰씩 묶어 전송하는 dispatcher <br/>
+     * 토큰은 {@code app.firebase.dispatcher.max-delay-millis}를 넘겨 대기하지 않으며, 동시에 전송 중인 요청은 {@code app.firebase.dispatcher.max-in-flight}개로 제한된다.
+     */
+    @Bean
+    FcmMulticastDispatcher fcmMulticastDispatcher(
+            FcmManager fcmManager,
+            InvalidDeviceTokenBuffer invalidDeviceTokenBuffer,
+            @Qualifier(FCM_CALLBACK_EXECUTOR) Executor fcmCallbackExecutor,
+            @Value("${app.firebase.dispatcher.max-delay-millis:200}") long maxDelayMillis,
+            @Value("${app.firebase.dispatcher.max-in-flight:8}") int maxInFlight,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        return new FcmMulticastDispatcher(fcmManager, invalidDeviceTokenBuffer, fcmCallbackExecutor, meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry), Duration.ofMillis(maxDelayMillis), maxInFlight);
+    }
+
+    /**
+     * FCM이 유효하지 않다고 응답한 디바이스 토큰을 모아 {@link DeviceTokenPruner}로 비활성화하는 버퍼 <br/>
+     * {@link DeviceTokenPruner} 빈이 없으면 토큰을 비활성화하지 않고, 카운터만 기록한다.
+     */
+    @Bean
+    InvalidDeviceTokenBuffer invalidDeviceTokenBuffer(
+            ObjectProvider<DeviceTokenPruner> deviceTokenPrunerProvider,
+            @Value("${app.firebase.token-pruner.flush-size:500}") int flushSize,
+            @Value("${app.firebase.token-pruner.flush-interval-millis:5000}") long flushIntervalMillis,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        DeviceTokenPruner pruner = deviceTokenPrunerProvider.getIfAvailable(() -> {
+            log.warn("DeviceTokenPruner 빈이 없어 유효하지 않은 디바이스 토큰을 비활성화하지 않습니다.");
+            return tokens -> 0;
+        });
+
+        return new InvalidDeviceTokenBuffer(pruner, meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry), flushSize, Duration.ofMillis(flushIntervalMillis));
+    }
+
     @Bean
-    NotificationEventHandler notificationEventHandler(FcmManager fcmManager) {
-        return new FcmNotificationEventHandler(fcmManager);
+    NotificationEventHandler notificationEventHandler(FcmMulticastDispatcher fcmMulticastDispatcher) {
+        return new FcmNotificationEventHandler(fcmMulticastDispatcher);
     }
 }
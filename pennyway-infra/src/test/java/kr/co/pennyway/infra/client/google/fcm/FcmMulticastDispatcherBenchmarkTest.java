@@ -0,0 +1,97 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pennyway.infra.common.event.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 사용자마다 FCM 요청을 보내던 이전 방식과 {@link FcmMulticastDispatcher}의 처리량을 비교한다. <br/>
+ * 두 방식 모두 동시에 전송 중인 요청 수를 같게 제한하며, FCM 서버는 {@link StubFcmManager}로 대체한다.
+ * 실행 시간이 길기 때문에 {@code -Dbenchmark=true}를 지정한 경우에만 실행한다.
+ *
+ * <pre>
+ * {@code ./gradlew :pennyway-infra:test --tests "*FcmMulticastDispatcherBenchmarkTest" -Dbenchmark=true}
+ * </pre>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class FcmMulticastDispatcherBenchmarkTest {
+    private static final int USER_COUNT = 20_000;
+    private static final int MAX_IN_FLIGHT = 8;
+    private static final Duration BASE_LATENCY = Duration.ofMillis(30);
+    private static final Duration PER_TOKEN_LATENCY = Duration.ofNanos(20_000);
+
+    @Test
+    @DisplayName("2만 명에게 같은 내용의 알림을 보낼 때, 사용자별 전송과 묶음 전송의 처리량을 비교한다.")
+    public void compareThroughput() throws Exception {
+        long legacyMillis;
+        int legacyRequests;
+        try (StubFcmManager fcmManager = stubFcmManager()) {
+            legacyMillis = measure(() -> sendPerUser(fcmManager), fcmManager);
+            legacyRequests = fcmManager.requests().size();
+        }
+
+        long dispatcherMillis;
+        int dispatcherRequests;
+        try (StubFcmManager fcmManager = stubFcmManager()) {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            InvalidDeviceTokenBuffer invalidTokenBuffer = new InvalidDeviceTokenBuffer(List::size, meterRegistry, 500, Duration.ofSeconds(5));
+            FcmMulticastDispatcher dispatcher = new FcmMulticastDispatcher(fcmManager, invalidTokenBuffer, Runnable::run, meterRegistry, Duration.ofMillis(200), MAX_IN_FLIGHT);
+            dispatcherMillis = measure(() -> {
+                for (int i = 0; i < USER_COUNT; ++i) {
+                    dispatcher.dispatch(event(i));
+                }
+                dispatcher.flush();
+            }, fcmManager);
+            dispatcherRequests = fcmManager.requests().size();
+            dispatcher.destroy();
+            invalidTokenBuffer.destroy();
+        }
+
+        log.info("users: {}, per-user: {} requests / {}ms ({} tokens/s), dispatcher: {} requests / {}ms ({} tokens/s)",
+                USER_COUNT, legacyRequests, legacyMillis, USER_COUNT * 1000L / legacyMillis,
+                dispatcherRequests, dispatcherMillis, USER_COUNT * 1000L / dispatcherMillis);
+        assertEquals(USER_COUNT, legacyRequests);
+        assertEquals((USER_COUNT + FcmMulticastDispatcher.MAX_TOKENS_PER_REQUEST - 1) / FcmMulticastDispatcher.MAX_TOKENS_PER_REQUEST, dispatcherRequests);
+    }
+
+    /**
+     * 변경 전 방식. 사용자마다 {@link FcmManager#sendMessage(NotificationEvent)}를 호출한다.
+     */
+    private void sendPerUser(StubFcmManager fcmManager) {
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+        for (int i = 0; i < USER_COUNT; ++i) {
+            inFlight.acquireUninterruptibly();
+            fcmManager.sendMessage(event(i)).addListener(inFlight::release, Runnable::run);
+        }
+    }
+
+    private long measure(Runnable runnable, StubFcmManager fcmManager) throws InterruptedException {
+        long start = System.nanoTime();
+        runnable.run();
+
+        while (fcmManager.completedTokens() < USER_COUNT) {
+            Thread.sleep(1);
+        }
+        return Math.max((System.nanoTime() - start) / 1_000_000, 1);
+    }
+
+    private StubFcmManager stubFcmManager() {
+        return new StubFcmManager(BASE_LATENCY, PER_TOKEN_LATENCY, MAX_IN_FLIGHT, Set.of());
+    }
+
+    private NotificationEvent event(int userId) {
+        return NotificationEvent.of("title", "content", List.of("token" + userId), "", "DAILY_SPENDING");
+    }
+}
@@ -0,0 +1,149 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pennyway.infra.common.event.NotificationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FcmMulticastDispatcherTest {
+    private static final Duration MAX_DELAY = Duration.ofMillis(200);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> prunedTokens = new CopyOnWriteArrayList<>();
+    private StubFcmManager fcmManager;
+    private InvalidDeviceTokenBuffer invalidTokenBuffer;
+    private FcmMulticastDispatcher dispatcher;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+        invalidTokenBuffer.destroy();
+        fcmManager.close();
+    }
+
+    @Test
+    @DisplayName("내용이 같은 알림의 토큰은 최대 500개씩 묶어 전송하고, 남은 토큰은 대기 시간이 지나면 전송한다.")
+    public void packTokensUpToMaxTokensPerRequest() {
+        // given
+        setUp(Duration.ZERO, 4, Set.of(), 8);
+
+        // when
+        for (int i = 0; i < 1200; ++i) {
+            dispatcher.dispatch(event("title", List.of("token" + i)));
+        }
+
+        // then
+        assertTrue(await(() -> fcmManager.completedTokens() == 1200));
+        assertEquals(List.of(500, 500, 200), fcmManager.requests().stream().map(List::size).toList());
+    }
+
+    @Test
+    @DisplayName("내용이 다른 알림의 토큰은 같은 요청으로 묶지 않는다.")
+    public void doNotMixDifferentPayloads() {
+        // given
+        setUp(Duration.ZERO, 4, Set.of(), 8);
+
+        // when
+        dispatcher.dispatch(event("title1", List.of("token1", "token2")));
+        dispatcher.dispatch(event("title2", List.of("token3")));
+
+        // then
+        assertTrue(await(() -> fcmManager.completedTokens() == 3));
+        assertEquals(2, fcmManager.requests().size());
+        assertTrue(fcmManager.requests().contains(List.of("token1", "token2")));
+        assertTrue(fcmManager.requests().contains(List.of("token3")));
+    }
+
+    @Test
+    @DisplayName("동시에 전송 중인 요청 수는 maxInFlight를 넘지 않는다.")
+    public void capInFlightRequests() {
+        // given
+        setUp(Duration.ofMillis(20), 8, Set.of(), 2);
+
+        // when
+        for (int i = 0; i < 5000; ++i) {
+            dispatcher.dispatch(event("title", List.of("token" + i)));
+        }
+
+        // then
+        assertTrue(await(() -> fcmManager.completedTokens() == 5000));
+        assertTrue(fcmManager.maxInFlight() <= 2, "전송 중인 요청 수 : " + fcmManager.maxInFlight());
+    }
+
+    @Test
+    @DisplayName("전송 결과는 토큰 단위로 기록되며, 실패한 토큰은 FCM 오류 코드별로 기록된다.")
+    public void recordResultPerToken() {
+        // given
+        setUp(Duration.ZERO, 4, Set.of("token1", "token3", "token5"), 8);
+
+        // when
+        for (int i = 0; i < 10; ++i) {
+            dispatcher.dispatch(event("title", List.of("token" + i)));
+        }
+        dispatcher.dispatch(event("single", List.of("token5")));
+
+        // then
+        assertTrue(await(() -> meterRegistry.find("fcm.send.result").tag("result", "failure").counter() != null
+                && meterRegistry.get("fcm.send.result").tag("result", "failure").counter().count() == 4.0));
+        assertEquals(7.0, meterRegistry.get("fcm.send.result").tag("result", "success").counter().count());
+        assertEquals(4.0, meterRegistry.get("fcm.send.failure").tag("error", "UNREGISTERED").counter().count());
+    }
+
+    @Test
+    @DisplayName("UNREGISTERED로 실패한 토큰은 모아서 비활성화하고, 비활성화된 토큰 수를 기록한다.")
+    public void pruneUnregisteredTokens() {
+        // given
+        setUp(Duration.ZERO, 4, Set.of("token1", "token3", "token5"), 8);
+
+        // when
+        for (int i = 0; i < 10; ++i) {
+            dispatcher.dispatch(event("title", List.of("token" + i)));
+        }
+
+        // then
+        assertTrue(await(() -> invalidTokenBuffer.prunedCount() == 3));
+        assertEquals(Set.of("token1", "token3", "token5"), Set.copyOf(prunedTokens));
+        assertEquals(3.0, meterRegistry.get("fcm.device.token.pruned").counter().count());
+    }
+
+    private void setUp(Duration baseLatency, int concurrency, Set<String> failingTokens, int maxInFlight) {
+        fcmManager = new StubFcmManager(baseLatency, Duration.ZERO, concurrency, failingTokens);
+        invalidTokenBuffer = new InvalidDeviceTokenBuffer(tokens -> {
+            prunedTokens.addAll(tokens);
+            return tokens.size();
+        }, meterRegistry, 2, Duration.ofMillis(100));
+        dispatcher = new FcmMulticastDispatcher(fcmManager, invalidTokenBuffer, Runnable::run, meterRegistry, MAX_DELAY, maxInFlight);
+    }
+
+    private NotificationEvent event(String title, List<String> deviceTokens) {
+        return NotificationEvent.of(title, "content", deviceTokens, "", "DAILY_SPENDING");
+    }
+
+    private boolean await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+}
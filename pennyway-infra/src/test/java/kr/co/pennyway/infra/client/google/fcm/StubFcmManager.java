@@ -0,0 +1,128 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import kr.co.pennyway.infra.common.event.NotificationEvent;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * FirebaseMessaging 대신 로컬에서 응답하는 {@link FcmManager}
+ * <p>
+ * 요청은 concurrency개의 스레드에서 처리되며, 각 요청은 {@code baseLatency + perTokenLatency * 토큰 수}만큼 걸린다.
+ * failingTokens에 포함된 토큰은 {@link MessagingErrorCode#UNREGISTERED} 오류로 실패한다.
+ */
+class StubFcmManager extends FcmManager implements AutoCloseable {
+    private final ExecutorService server;
+    private final long baseLatencyNanos;
+    private final long perTokenLatencyNanos;
+    private final Set<String> failingTokens;
+
+    private final SendResponse success;
+    private final SendResponse failure;
+    private final FirebaseMessagingException unregistered;
+
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger completedTokens = new AtomicInteger();
+
+    StubFcmManager(Duration baseLatency, Duration perTokenLatency, int concurrency, Set<String> failingTokens) {
+        super(null);
+        this.server = Executors.newFixedThreadPool(concurrency);
+        this.baseLatencyNanos = baseLatency.toNanos();
+        this.perTokenLatencyNanos = perTokenLatency.toNanos();
+        this.failingTokens = failingTokens;
+
+        this.unregistered = mock(FirebaseMessagingException.class);
+        when(unregistered.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
+        this.success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        this.failure = mock(SendResponse.class);
+        when(failure.isSuccessful()).thenReturn(false);
+        when(failure.getException()).thenReturn(unregistered);
+    }
+
+    @Override
+    public ApiFuture<?> sendMessage(NotificationEvent event) {
+        List<String> tokens = List.copyOf(event.deviceTokens());
+        requests.add(tokens);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        SettableApiFuture<Object> future = SettableApiFuture.create();
+        server.execute(() -> {
+            try {
+                TimeUnit.NANOSECONDS.sleep(baseLatencyNanos + perTokenLatencyNanos * tokens.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            // 응답을 받은 호출자가 곧바로 다음 요청을 보낼 수 있으므로, 응답 전에 전송 중인 요청 수를 줄인다.
+            inFlight.decrementAndGet();
+            completedTokens.addAndGet(tokens.size());
+            respond(future, tokens);
+        });
+        return future;
+    }
+
+    private void respond(SettableApiFuture<Object> future, List<String> tokens) {
+        if (tokens.size() == 1) {
+            if (failingTokens.contains(tokens.get(0))) {
+                future.setException(unregistered);
+            } else {
+                future.set("projects/pennyway/messages/" + UUID.randomUUID());
+            }
+            return;
+        }
+
+        List<SendResponse> responses = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            responses.add(failingTokens.contains(token) ? failure : success);
+        }
+        future.set(new StubBatchResponse(responses));
+    }
+
+    List<List<String>> requests() {
+        return requests;
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    int completedTokens() {
+        return completedTokens.get();
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+    }
+
+    private record StubBatchResponse(List<SendResponse> responses) implements BatchResponse {
+        @Override
+        public List<SendResponse> getResponses() {
+            return responses;
+        }
+
+        @Override
+        public int getSuccessCount() {
+            return (int) responses.stream().filter(SendResponse::isSuccessful).count();
+        }
+
+        @Override
+        public int getFailureCount() {
+            return responses.size() - getSuccessCount();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package kr.co.pennyway.infra.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 두 서버(node)가 같은 Redis 캐시(L2)를 공유하는 상황을 key를 문자열로 다루는 {@link ConcurrentMapCacheManager}로 재현하고,
+ * {@link TwoLevelCacheManager#INVALIDATION_CHANNEL}로 발행된 메시지를 다른 서버의 {@link TwoLevelCacheManager#onMessage}로 전달하여 검증한다.
+ */
+public class TwoLevelCacheManagerTest {
+    private static final String CACHE_NAME = "securityUser";
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<TwoLevelCacheManager> nodes = new CopyOnWriteArrayList<>();
+    private ConcurrentMapCacheManager remoteCacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+        nodes.clear();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 캐시를 삭제하면, 삭제 메시지를 수신한 서버의 로컬 캐시에서도 값이 제거된다.")
+    public void evictPropagatesToOtherNode() {
+        // given
+        TwoLevelCacheManager nodeA = createNode();
+        TwoLevelCacheManager nodeB = createNode();
+        remoteCache().put("1", "user1");
+        assertEquals("user1", cache(nodeB).get("1", String.class));
+
+        // when
+        cache(nodeA).evict("1");
+
+        // then
+        assertNull(localCache(nodeB).getIfPresent("1"), "다른 서버의 로컬 캐시에서 제거되어야 한다.");
+        assertNull(cache(nodeB).get("1"), "Redis 캐시에서도 제거되었으므로 조회되지 않아야 한다.");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 캐시를 비우면, 삭제 메시지를 수신한 서버의 로컬 캐시도 비워진다.")
+    public void clearPropagatesToOtherNode() {
+        // given
+        TwoLevelCacheManager nodeA = createNode();
+        TwoLevelCacheManager nodeB = createNode();
+        remoteCache().put("1", "user1");
+        remoteCache().put("2", "user2");
+        cache(nodeB).get("1");
+        cache(nodeB).get("2");
+
+        // when
+        cache(nodeA).clear();
+
+        // then
+        assertEquals(0, localCache(nodeB).asMap().size());
+    }
+
+    @Test
+    @DisplayName("삭제 메시지가 유실되면, 다른 서버는 로컬 캐시의 이전 값을 조회한다.")
+    public void lostInvalidationKeepsStaleLocalValue() {
+        // given
+        TwoLevelCacheManager nodeA = createNode();
+        TwoLevelCacheManager nodeB = createNode();
+        remoteCache().put("1", "user1");
+        cache(nodeB).get("1");
+
+        // when
+        nodes.remove(nodeB);
+        cache(nodeA).evict("1");
+
+        // then
+        assertEquals("user1", cache(nodeB).get("1", String.class), "로컬 캐시의 TTL이 지나기 전까지는 이전 값이 조회된다.");
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 값이 없으면 Redis 캐시에서 조회하고, 조회한 값을 로컬 캐시에 적재한다.")
+    public void fallBackToRemoteCacheAndLoadLocal() {
+        // given
+        TwoLevelCacheManager node = createNode();
+        remoteCache().put("1", "user1");
+
+        // when
+        Cache.ValueWrapper first = cache(node).get("1");
+        remoteCache().evict("1");
+        Cache.ValueWrapper second = cache(node).get("1");
+
+        // then
+        assertNotNull(first);
+        assertEquals("user1", first.get());
+        assertNotNull(second, "두 번째 조회는 로컬 캐시에서 처리되어야 한다.");
+        assertEquals("user1", second.get());
+        assertEquals(1.0, counter("l1", "miss"));
+        assertEquals(1.0, counter("l1", "hit"));
+        assertEquals(1.0, counter("l2", "hit"));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시와 Redis 캐시에 모두 값이 없으면, valueLoader의 값을 두 캐시에 적재한다.")
+    public void loadValueIntoBothLevels() {
+        // given
+        TwoLevelCacheManager node = createNode();
+
+        // when
+        String value = cache(node).get("1", () -> "loaded");
+
+        // then
+        assertEquals("loaded", value);
+        assertEquals("loaded", localCache(node).getIfPresent("1"));
+        assertNotNull(remoteCache().get("1"));
+        assertEquals(1.0, counter("l2", "miss"));
+    }
+
+    @Test
+    @DisplayName("삭제 메시지 발행에 실패하더라도 캐시 삭제는 예외 없이 완료된다.")
+    public void publishFailureDoesNotFailEvict() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doThrow(new IllegalStateException("redis is down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+        TwoLevelCacheManager node = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, meterRegistry, LOCAL_TTL, 100);
+        remoteCache().put("1", "user1");
+        cache(node).get("1");
+
+        // when
+        assertDoesNotThrow(() -> cache(node).evict("1"));
+
+        // then
+        assertNull(cache(node).get("1"));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 존재하지 않는 캐시에 대한 삭제 메시지는 무시한다.")
+    public void ignoreMalformedMessage() {
+        // given
+        TwoLevelCacheManager node = createNode();
+        remoteCache().put("1", "user1");
+        cache(node).get("1");
+
+        // when
+        deliver(node, "malformed");
+        deliver(node, "other-node|unknownCache|1");
+
+        // then
+        assertEquals("user1", localCache(node).getIfPresent("1"));
+    }
+
+    /**
+     * 발행된 삭제 메시지를 자신을 포함한 모든 서버에 전달하는 {@link StringRedisTemplate}을 사용하는 서버를 생성한다.
+     */
+    private TwoLevelCacheManager createNode() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            String body = invocation.getArgument(1);
+            nodes.forEach(node -> deliver(node, body));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), anyString());
+
+        TwoLevelCacheManager node = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, meterRegistry, LOCAL_TTL, 100);
+        nodes.add(node);
+        return node;
+    }
+
+    private void deliver(TwoLevelCacheManager node, String body) {
+        node.onMessage(new DefaultMessage(
+                TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        ), null);
+    }
+
+    private Cache cache(TwoLevelCacheManager node) {
+        return node.getCache(CACHE_NAME);
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> localCache(TwoLevelCacheManager node) {
+        return (com.github.benmanes.caffeine.cache.Cache<String, Object>) cache(node).getNativeCache();
+    }
+
+    private Cache remoteCache() {
+        return remoteCacheManager.getCache(CACHE_NAME);
+    }
+
+    private double counter(String level, String result) {
+        return meterRegistry.get("cache.two.level.gets").tag("cache", CACHE_NAME).tag("level", level).tag("result", result).counter().count();
+    }
+}